@@ -7,6 +7,7 @@ import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.pooling.DatabricksConnectionWarmer;
 import com.databricks.jdbc.pooling.DatabricksPooledConnection;
 import com.google.common.annotations.VisibleForTesting;
 import java.io.PrintWriter;
@@ -14,6 +15,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import javax.sql.ConnectionPoolDataSource;
 import javax.sql.PooledConnection;
 
@@ -26,14 +28,16 @@ public class DataSource implements javax.sql.DataSource, ConnectionPoolDataSourc
   private String httpPath;
   private Properties properties = new Properties();
   private final Driver driver;
+  private final DatabricksConnectionWarmer connectionWarmer;
 
   public DataSource() {
-    this.driver = Driver.getInstance();
+    this(Driver.getInstance());
   }
 
   @VisibleForTesting
   public DataSource(Driver driver) {
     this.driver = driver;
+    this.connectionWarmer = new DatabricksConnectionWarmer(driver::connect);
   }
 
   @Override
@@ -51,7 +55,39 @@ public class DataSource implements javax.sql.DataSource, ConnectionPoolDataSourc
     if (password != null) {
       setPassword(password);
     }
-    return driver.connect(getUrl(), properties);
+    String url = getUrl();
+    Connection warmConnection = connectionWarmer.take(url, properties);
+    if (warmConnection != null) {
+      LOGGER.debug("Using warm connection");
+      return warmConnection;
+    }
+    return driver.connect(url, properties);
+  }
+
+  /**
+   * Opens {@code connections} connections in the background with the current settings of this data
+   * source, and keeps that many connections open ahead of time from now on. Opening a connection
+   * resolves the credentials, establishes the TLS connections and opens the session, so that {@link
+   * #getConnection()} and {@link #getPooledConnection()} return an open connection without waiting
+   * for any of these, for example when a connection pool grows.
+   *
+   * <p>Warm connections are validated before they are handed out, and only while the URL and
+   * properties of this data source are unchanged. Once they change, the warm connections are
+   * closed until the next warm-up.
+   *
+   * @param connections the number of connections to keep open ahead of time
+   * @return a future completed once the connections are open, or completed exceptionally if one of
+   *     them could not be opened
+   */
+  public CompletableFuture<Void> warmUp(int connections) {
+    LOGGER.debug("public CompletableFuture<Void> warmUp(int connections = {})", connections);
+    return connectionWarmer.warmUp(getUrl(), properties, connections);
+  }
+
+  /** Stops keeping connections open ahead of time and closes the connections not handed out. */
+  public void closeWarmConnections() {
+    LOGGER.debug("public void closeWarmConnections()");
+    connectionWarmer.close();
   }
 
   @Override
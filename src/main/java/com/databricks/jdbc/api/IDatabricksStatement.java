@@ -3,6 +3,7 @@ package com.databricks.jdbc.api;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Extends the standard JDBC {@link Statement} interface to provide Databricks-specific
@@ -35,4 +36,20 @@ public interface IDatabricksStatement extends Statement {
    *     access error occurs
    */
   ResultSet getExecutionResult() throws SQLException;
+
+  /**
+   * Executes the given SQL query asynchronously and returns a future of its result. The query is
+   * submitted before this method returns, and its status is then polled in the background by a
+   * scheduler shared by all statements, so no thread is held per in-flight query.
+   *
+   * <p>The future completes with the result set once the query has succeeded, and exceptionally if
+   * it fails, is cancelled, or exceeds the query timeout of this statement. Cancelling the future
+   * cancels the query.
+   *
+   * @param sql The SQL query to be executed
+   * @return A {@link CompletableFuture} completed with the {@link ResultSet} of the query
+   * @throws SQLException if a database access error occurs while submitting the query, or this
+   *     method is called on a closed statement
+   */
+  CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException;
 }
@@ -0,0 +1,205 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.ExecutionState;
+import com.databricks.jdbc.api.IDatabricksResultSet;
+import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.api.IExecutionStatus;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksTimeoutException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls the status of statements submitted with {@link
+ * IDatabricksStatement#executeQueryAsync(String)} and completes their futures.
+ *
+ * <p>All in-flight statements of the process share a small pool of daemon threads. A thread is only
+ * busy while a status RPC is in progress, and between polls a statement waits as a scheduled task
+ * following its {@link PollBackoff}, so many statements can be in flight without a thread each.
+ */
+class AsyncStatementPoller {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(AsyncStatementPoller.class);
+  private static final int POLLER_THREADS = 4;
+  private static final AsyncStatementPoller INSTANCE = new AsyncStatementPoller();
+
+  private final ScheduledExecutorService scheduler;
+
+  private AsyncStatementPoller() {
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(POLLER_THREADS, createThreadFactory());
+    executor.setRemoveOnCancelPolicy(true);
+    this.scheduler = executor;
+  }
+
+  AsyncStatementPoller(ScheduledExecutorService scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  static AsyncStatementPoller getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a future completed with the result of the submitted statement once it has succeeded.
+   *
+   * <p>The future completes exceptionally if the statement fails, is cancelled or closed, or runs
+   * longer than {@code timeoutSeconds} (0 waits indefinitely), in which case the statement is
+   * cancelled. Cancelling the future cancels the statement.
+   */
+  CompletableFuture<ResultSet> poll(
+      IDatabricksStatement statement, PollBackoff backoff, int timeoutSeconds) {
+    long deadlineNanos =
+        timeoutSeconds > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds) : 0;
+    return pollUntil(statement, backoff, deadlineNanos);
+  }
+
+  /**
+   * Same as {@link #poll}, with the timeout given as a {@link System#nanoTime} deadline (0 waits
+   * indefinitely), for callers that share one deadline across several statements.
+   */
+  CompletableFuture<ResultSet> pollUntil(
+      IDatabricksStatement statement, PollBackoff backoff, long deadlineNanos) {
+    CompletableFuture<ResultSet> future = new CompletableFuture<>();
+    future.whenComplete(
+        (resultSet, error) -> {
+          if (future.isCancelled()) {
+            cancelQuietly(statement);
+          }
+        });
+    schedule(
+        new PollTask(
+            statement,
+            future,
+            backoff,
+            deadlineNanos,
+            DatabricksThreadContextHolder.getConnectionContext(),
+            DatabricksThreadContextHolder.getStatementId()),
+        backoff);
+    return future;
+  }
+
+  private void schedule(PollTask task, PollBackoff backoff) {
+    scheduler.schedule(task, backoff.nextDelayMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private static void cancelQuietly(IDatabricksStatement statement) {
+    try {
+      statement.cancel();
+    } catch (SQLException e) {
+      LOGGER.warn("Failed to cancel statement {}: {}", statement, e.getMessage());
+    }
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    return new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "Async-Statement-Poller-" + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+
+  private class PollTask implements Runnable {
+    private final IDatabricksStatement statement;
+    private final CompletableFuture<ResultSet> future;
+    private final PollBackoff backoff;
+    private final long deadlineNanos;
+    private final IDatabricksConnectionContext connectionContext;
+    private final String statementId;
+
+    PollTask(
+        IDatabricksStatement statement,
+        CompletableFuture<ResultSet> future,
+        PollBackoff backoff,
+        long deadlineNanos,
+        IDatabricksConnectionContext connectionContext,
+        String statementId) {
+      this.statement = statement;
+      this.future = future;
+      this.backoff = backoff;
+      this.deadlineNanos = deadlineNanos;
+      this.connectionContext = connectionContext;
+      this.statementId = statementId;
+    }
+
+    @Override
+    public void run() {
+      if (future.isDone()) {
+        return;
+      }
+      // Sets the context of the thread that submitted the statement on the poller thread
+      DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+      DatabricksThreadContextHolder.setStatementId(statementId);
+      try {
+        ResultSet resultSet = statement.getExecutionResult();
+        ExecutionState state = getExecutionState(resultSet);
+        switch (state) {
+          case SUCCEEDED:
+            future.complete(resultSet);
+            return;
+          case FAILED:
+          case ABORTED:
+          case CLOSED:
+            future.completeExceptionally(toException(resultSet, state));
+            return;
+          default:
+            break;
+        }
+        if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0) {
+          cancelQuietly(statement);
+          future.completeExceptionally(
+              new DatabricksTimeoutException(
+                  "Statement execution timed-out for statement " + statement,
+                  null,
+                  DatabricksDriverErrorCode.STATEMENT_EXECUTION_TIMEOUT));
+          return;
+        }
+        schedule(this, backoff);
+      } catch (Throwable e) {
+        // The statement may still be running on the server
+        cancelQuietly(statement);
+        future.completeExceptionally(e);
+      } finally {
+        DatabricksThreadContextHolder.clearAllContext();
+      }
+    }
+  }
+
+  private static ExecutionState getExecutionState(ResultSet resultSet) {
+    if (resultSet instanceof IDatabricksResultSet) {
+      IExecutionStatus status = ((IDatabricksResultSet) resultSet).getExecutionStatus();
+      ExecutionState state = status != null ? status.getExecutionState() : null;
+      if (state != null) {
+        return state;
+      }
+    }
+    // A result without an execution status is treated as complete
+    return ExecutionState.SUCCEEDED;
+  }
+
+  private static DatabricksSQLException toException(ResultSet resultSet, ExecutionState state) {
+    IExecutionStatus status = ((IDatabricksResultSet) resultSet).getExecutionStatus();
+    String message =
+        status.getErrorMessage() != null
+            ? status.getErrorMessage()
+            : "Statement execution ended in state " + state;
+    return new DatabricksSQLException(
+        message, status.getSqlState(), DatabricksDriverErrorCode.EXECUTE_STATEMENT_FAILED);
+  }
+}
@@ -0,0 +1,277 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.common.StatementType;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
+import com.databricks.jdbc.exception.DatabricksBatchUpdateException;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksTimeoutException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes the multi-row INSERT chunks of a batch with up to {@code maxConcurrentChunks} chunks
+ * executing at the same time.
+ *
+ * <p>Each chunk is submitted asynchronously as its own statement on the session of the connection,
+ * and its status is polled by the shared {@link AsyncStatementPoller}, so no thread waits per
+ * chunk. The SQL and parameters of the next chunk are built while the submitted chunks execute.
+ *
+ * <p>Once a chunk fails no further chunks are submitted. The chunks already executing are awaited,
+ * so the update counts report every row that was inserted: {@code 1} for the rows of the chunks
+ * that succeeded and {@link Statement#EXECUTE_FAILED} for all other rows.
+ *
+ * <p>The query timeout of the parent statement applies to the batch as a whole. The chunk
+ * statements are created through the connection, so closing the connection closes them, and
+ * cancelling or closing the parent statement {@link #cancel cancels} the executing chunks.
+ */
+class BatchInsertPipeline {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(BatchInsertPipeline.class);
+
+  /** A multi-row INSERT covering the batch rows {@code [startRow, endRow)}. */
+  static class Chunk {
+    final int startRow;
+    final int endRow;
+    final String sql;
+    final Map<Integer, ImmutableSqlParameter> parameters;
+
+    Chunk(int startRow, int endRow, String sql, Map<Integer, ImmutableSqlParameter> parameters) {
+      this.startRow = startRow;
+      this.endRow = endRow;
+      this.sql = sql;
+      this.parameters = parameters;
+    }
+  }
+
+  /** Builds the chunk for the batch rows {@code [startRow, endRow)}. */
+  interface ChunkBuilder {
+    Chunk build(int startRow, int endRow) throws SQLException;
+  }
+
+  private final DatabricksStatement parentStatement;
+  private final int maxConcurrentChunks;
+  private final Set<SubmittedChunk> executingChunks = ConcurrentHashMap.newKeySet();
+  private volatile boolean isCancelled;
+  private int timeoutSeconds;
+  private long deadlineNanos;
+
+  BatchInsertPipeline(DatabricksStatement parentStatement, int maxConcurrentChunks) {
+    this.parentStatement = parentStatement;
+    this.maxConcurrentChunks = Math.max(1, maxConcurrentChunks);
+  }
+
+  /**
+   * Executes the {@code rowCount} rows of the batch in chunks of at most {@code rowsPerChunk} rows.
+   *
+   * @return the update count of each row of the batch
+   * @throws DatabricksBatchUpdateException if a chunk fails, with the update counts of all rows
+   * @throws SQLException if the parent statement is closed
+   */
+  long[] execute(int rowCount, int rowsPerChunk, ChunkBuilder chunkBuilder) throws SQLException {
+    timeoutSeconds = parentStatement.getQueryTimeout();
+    deadlineNanos =
+        timeoutSeconds > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds) : 0;
+    parentStatement.setBatchInsertPipeline(this);
+    try {
+      return executeChunks(rowCount, rowsPerChunk, chunkBuilder);
+    } finally {
+      parentStatement.setBatchInsertPipeline(null);
+    }
+  }
+
+  /**
+   * Cancels the chunks that are executing and stops submitting further chunks. Called when the
+   * parent statement is cancelled or closed.
+   */
+  void cancel() {
+    isCancelled = true;
+    for (SubmittedChunk submittedChunk : executingChunks) {
+      // Cancelling the future cancels the chunk statement
+      submittedChunk.future.cancel(true);
+    }
+  }
+
+  private long[] executeChunks(int rowCount, int rowsPerChunk, ChunkBuilder chunkBuilder)
+      throws DatabricksBatchUpdateException {
+    long[] updateCounts = new long[rowCount];
+    Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+    Deque<SubmittedChunk> submittedChunks = new ArrayDeque<>();
+    SQLException failure = null;
+    Chunk nextChunk = null;
+    int nextRow = 0;
+
+    DatabricksThreadContextHolder.setStatementType(StatementType.UPDATE);
+    while (true) {
+      if (failure == null) {
+        failure = checkCancelledOrTimedOut();
+      }
+      if (failure == null && nextChunk == null && nextRow < rowCount) {
+        int endRow = Math.min(nextRow + rowsPerChunk, rowCount);
+        try {
+          nextChunk = chunkBuilder.build(nextRow, endRow);
+        } catch (SQLException e) {
+          failure = e;
+        }
+        nextRow = endRow;
+      }
+      if (failure == null && nextChunk != null && submittedChunks.size() < maxConcurrentChunks) {
+        try {
+          submittedChunks.add(submit(nextChunk));
+        } catch (SQLException e) {
+          failure = e;
+        }
+        nextChunk = null;
+        continue;
+      }
+
+      // The window is full, or nothing is left to submit: wait for the oldest chunk
+      SubmittedChunk oldestChunk = submittedChunks.poll();
+      if (oldestChunk == null) {
+        break;
+      }
+      try {
+        oldestChunk.await();
+        Arrays.fill(updateCounts, oldestChunk.chunk.startRow, oldestChunk.chunk.endRow, 1);
+      } catch (SQLException e) {
+        LOGGER.error(
+            e,
+            "Error executing batched INSERT chunk of rows {}-{}: {}",
+            oldestChunk.chunk.startRow + 1,
+            oldestChunk.chunk.endRow,
+            e.getMessage());
+        if (failure == null) {
+          failure = e;
+        }
+      } finally {
+        executingChunks.remove(oldestChunk);
+        oldestChunk.close();
+      }
+    }
+
+    if (failure != null) {
+      throw new DatabricksBatchUpdateException(
+          failure.getMessage(),
+          failure.getSQLState(),
+          failure.getErrorCode(),
+          updateCounts,
+          failure);
+    }
+    LOGGER.debug("Successfully processed {} rows in pipelined chunks", rowCount);
+    return updateCounts;
+  }
+
+  private SQLException checkCancelledOrTimedOut() {
+    if (isCancelled) {
+      return new DatabricksSQLException(
+          "Batched INSERT cancelled", DatabricksDriverErrorCode.EXECUTE_STATEMENT_CANCELLED);
+    }
+    if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0) {
+      return new DatabricksTimeoutException(
+          String.format("Batched INSERT timed out after %d seconds", timeoutSeconds),
+          null,
+          DatabricksDriverErrorCode.STATEMENT_EXECUTION_TIMEOUT);
+    }
+    return null;
+  }
+
+  private SubmittedChunk submit(Chunk chunk) throws SQLException {
+    LOGGER.debug(
+        "Submitting chunk {}-{} ({} rows)",
+        chunk.startRow + 1,
+        chunk.endRow,
+        chunk.endRow - chunk.startRow);
+    DatabricksConnection connection = parentStatement.connection;
+    DatabricksStatement chunkStatement = (DatabricksStatement) connection.createStatement();
+    try {
+      IDatabricksSession session = connection.getSession();
+      session
+          .getDatabricksClient()
+          .executeStatementAsync(
+              parentStatement.processEscapes(chunk.sql),
+              session.getComputeResource(),
+              chunk.parameters,
+              session,
+              chunkStatement);
+      IDatabricksConnectionContext connectionContext = connection.getConnectionContext();
+      PollBackoff backoff =
+          new PollBackoff(
+              connectionContext.getAsyncExecPollInterval(),
+              connectionContext.getAsyncExecMaxPollInterval());
+      CompletableFuture<ResultSet> future =
+          AsyncStatementPoller.getInstance().pollUntil(chunkStatement, backoff, deadlineNanos);
+      SubmittedChunk submittedChunk = new SubmittedChunk(chunk, chunkStatement, future);
+      executingChunks.add(submittedChunk);
+      if (isCancelled) {
+        // Cancelled while the chunk was submitted
+        future.cancel(true);
+      }
+      return submittedChunk;
+    } catch (SQLException e) {
+      closeQuietly(chunkStatement);
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(DatabricksStatement statement) {
+    try {
+      statement.close();
+    } catch (SQLException e) {
+      LOGGER.debug("Failed to close batched INSERT chunk statement: {}", e.getMessage());
+    }
+  }
+
+  private static class SubmittedChunk {
+    private final Chunk chunk;
+    private final DatabricksStatement statement;
+    private final CompletableFuture<ResultSet> future;
+
+    SubmittedChunk(
+        Chunk chunk, DatabricksStatement statement, CompletableFuture<ResultSet> future) {
+      this.chunk = chunk;
+      this.statement = statement;
+      this.future = future;
+    }
+
+    void await() throws SQLException {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.cancel(true);
+        throw new DatabricksSQLException(
+            "Batched INSERT interrupted", e, DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+      } catch (CancellationException e) {
+        throw new DatabricksSQLException(
+            "Batched INSERT cancelled", DatabricksDriverErrorCode.EXECUTE_STATEMENT_CANCELLED);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof SQLException) {
+          throw (SQLException) e.getCause();
+        }
+        throw new DatabricksSQLException(
+            "Error occurred during batched INSERT execution: " + e.getCause().getMessage(),
+            e.getCause(),
+            DatabricksDriverErrorCode.EXECUTE_STATEMENT_FAILED);
+      }
+    }
+
+    void close() {
+      closeQuietly(statement);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Checks for {@link DatabricksConnection#isValid(int)} that the session of a connection is still
+ * open on the server.
+ *
+ * <p>The check is a lightweight request sent through {@link
+ * com.databricks.jdbc.dbclient.IDatabricksClient#checkSession}. A successful check is reused for
+ * the configured cache interval, so that pools validating connections on every borrow do not send a
+ * request each time, and concurrent callers share the check in progress. The check runs on a
+ * background thread so that the timeout of {@code isValid} is honoured even when the server does
+ * not respond.
+ */
+class ConnectionValidator {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ConnectionValidator.class);
+  private static final ExecutorService VALIDATION_EXECUTOR =
+      Executors.newCachedThreadPool(createThreadFactory());
+
+  private final IDatabricksSession session;
+  private final long cacheIntervalNanos;
+  private final LongSupplier nanoClock;
+  private CompletableFuture<Boolean> check;
+  private long lastValidNanos;
+  private boolean hasBeenValid;
+
+  ConnectionValidator(IDatabricksSession session, long cacheIntervalMillis) {
+    this(session, cacheIntervalMillis, System::nanoTime);
+  }
+
+  ConnectionValidator(
+      IDatabricksSession session, long cacheIntervalMillis, LongSupplier nanoClock) {
+    this.session = session;
+    this.cacheIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, cacheIntervalMillis));
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Returns whether the session is valid, waiting at most {@code timeoutSeconds} for the server (0
+   * waits indefinitely).
+   */
+  boolean isValid(int timeoutSeconds) {
+    CompletableFuture<Boolean> currentCheck;
+    synchronized (this) {
+      if (hasBeenValid && nanoClock.getAsLong() - lastValidNanos < cacheIntervalNanos) {
+        return true;
+      }
+      if (check == null) {
+        IDatabricksConnectionContext connectionContext =
+            DatabricksThreadContextHolder.getConnectionContext();
+        check =
+            CompletableFuture.supplyAsync(
+                () -> {
+                  // Propagates the caller's context, used for logging and telemetry of the check
+                  DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+                  try {
+                    return checkSession();
+                  } finally {
+                    DatabricksThreadContextHolder.clearAllContext();
+                  }
+                },
+                VALIDATION_EXECUTOR);
+      }
+      currentCheck = check;
+    }
+    try {
+      return timeoutSeconds == 0
+          ? currentCheck.get()
+          : currentCheck.get(timeoutSeconds, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      LOGGER.debug("Connection validation did not complete within {} seconds", timeoutSeconds);
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException e) {
+      return false;
+    }
+  }
+
+  private boolean checkSession() {
+    boolean valid;
+    try {
+      session.getDatabricksClient().checkSession(session);
+      valid = true;
+    } catch (SQLException | RuntimeException e) {
+      LOGGER.info("Connection validation failed: {}", e.getMessage());
+      valid = false;
+    }
+    synchronized (this) {
+      lastValidNanos = nanoClock.getAsLong();
+      hasBeenValid = valid;
+      check = null;
+    }
+    return valid;
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    return new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread =
+            new Thread(r, "Connection-Validation-Thread-" + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+}
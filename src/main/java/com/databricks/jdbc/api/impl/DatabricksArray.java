@@ -29,8 +29,19 @@ public class DatabricksArray implements Array {
    * @param metadata the metadata describing the type of array elements
    */
   public DatabricksArray(List<Object> elements, String metadata) {
+    this(elements, MetadataParser.parseArrayMetadata(metadata), metadata);
+  }
+
+  /**
+   * Constructs a DatabricksArray with the specified elements and already parsed element type. This
+   * avoids parsing the metadata again when many arrays of the same type are built.
+   *
+   * @param elements the elements of the array as a list
+   * @param elementType the element type as returned by {@link MetadataParser#parseArrayMetadata}
+   * @param metadata the metadata describing the type of array elements
+   */
+  public DatabricksArray(List<Object> elements, String elementType, String metadata) {
     LOGGER.debug("Initializing DatabricksArray with metadata: {}", metadata);
-    String elementType = MetadataParser.parseArrayMetadata(metadata);
     this.elements = convertElements(elements, elementType);
     this.typeName = metadata;
   }
@@ -111,25 +122,25 @@ public class DatabricksArray implements Array {
     try {
       switch (type.toUpperCase()) {
         case DatabricksTypeUtil.INT:
-          return Integer.parseInt(value.toString());
+          return value instanceof Integer ? value : Integer.parseInt(value.toString());
         case DatabricksTypeUtil.BIGINT:
-          return Long.parseLong(value.toString());
+          return value instanceof Long ? value : Long.parseLong(value.toString());
         case DatabricksTypeUtil.SMALLINT:
-          return Short.parseShort(value.toString());
+          return value instanceof Short ? value : Short.parseShort(value.toString());
         case DatabricksTypeUtil.FLOAT:
-          return Float.parseFloat(value.toString());
+          return value instanceof Float ? value : Float.parseFloat(value.toString());
         case DatabricksTypeUtil.DOUBLE:
-          return Double.parseDouble(value.toString());
+          return value instanceof Double ? value : Double.parseDouble(value.toString());
         case DatabricksTypeUtil.DECIMAL:
-          return new BigDecimal(value.toString());
+          return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
         case DatabricksTypeUtil.BOOLEAN:
-          return Boolean.parseBoolean(value.toString());
+          return value instanceof Boolean ? value : Boolean.parseBoolean(value.toString());
         case DatabricksTypeUtil.DATE:
-          return Date.valueOf(value.toString());
+          return value instanceof Date ? value : Date.valueOf(value.toString());
         case DatabricksTypeUtil.TIMESTAMP:
-          return Timestamp.valueOf(value.toString());
+          return value instanceof Timestamp ? value : Timestamp.valueOf(value.toString());
         case DatabricksTypeUtil.TIME:
-          return Time.valueOf(value.toString());
+          return value instanceof Time ? value : Time.valueOf(value.toString());
         case DatabricksTypeUtil.BINARY:
           return value instanceof byte[] ? value : value.toString().getBytes();
         case DatabricksTypeUtil.STRING:
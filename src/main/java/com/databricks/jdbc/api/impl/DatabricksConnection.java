@@ -38,6 +38,7 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
   private final Set<IDatabricksStatementInternal> statementSet = ConcurrentHashMap.newKeySet();
   private SQLWarning warnings = null;
   private final IDatabricksConnectionContext connectionContext;
+  private final ConnectionValidator connectionValidator;
 
   /**
    * Creates an instance of Databricks connection for given connection context.
@@ -49,6 +50,8 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
     this.connectionContext = connectionContext;
     DatabricksThreadContextHolder.setConnectionContext(connectionContext);
     this.session = new DatabricksSession(connectionContext);
+    this.connectionValidator =
+        new ConnectionValidator(session, connectionContext.getConnectionValidationCacheInterval());
   }
 
   @VisibleForTesting
@@ -58,6 +61,8 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
     this.connectionContext = connectionContext;
     DatabricksThreadContextHolder.setConnectionContext(connectionContext);
     this.session = new DatabricksSession(connectionContext, testDatabricksClient);
+    this.connectionValidator =
+        new ConnectionValidator(session, connectionContext.getConnectionValidationCacheInterval());
     UserAgentManager.setUserAgent(connectionContext);
     TelemetryHelper.updateTelemetryAppName(connectionContext, null);
   }
@@ -414,7 +419,11 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
   @Override
   public boolean isValid(int timeout) throws SQLException {
     ValidationUtil.checkIfNonNegative(timeout, "timeout");
-    return !isClosed();
+    if (isClosed()) {
+      return false;
+    }
+    // The session may have been closed on the server, e.g. by a warehouse restart
+    return connectionValidator.isValid(timeout);
   }
 
   /**
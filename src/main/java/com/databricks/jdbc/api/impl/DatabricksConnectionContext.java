@@ -958,6 +958,106 @@ public class DatabricksConnectionContext implements IDatabricksConnectionContext
     return null;
   }
 
+  @Override
+  public boolean isStreamingChunkDecompressionEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_STREAMING_CHUNK_DECOMPRESSION).equals("1");
+  }
+
+  @Override
+  public int getArrowMemoryLimitMB() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.ARROW_MEMORY_LIMIT_MB));
+  }
+
+  @Override
+  public int getCloudFetchPrefetchMemoryMB() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_PREFETCH_MEMORY_MB));
+  }
+
+  @Override
+  public int getCloudFetchMaxConcurrentDownloads() {
+    return Integer.parseInt(
+        getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_MAX_CONCURRENT_DOWNLOADS));
+  }
+
+  @Override
+  public boolean isLazyResultLinkFetchEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_LAZY_RESULT_LINK_FETCH).equals("1");
+  }
+
+  @Override
+  public boolean isLazyInlineResultFetchEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_LAZY_INLINE_RESULT_FETCH).equals("1");
+  }
+
+  @Override
+  public boolean isInlineResultReadAheadEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.INLINE_RESULT_READ_AHEAD).equals("1");
+  }
+
+  @Override
+  public boolean isStreamingThriftTransportEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_STREAMING_THRIFT_TRANSPORT).equals("1");
+  }
+
+  @Override
+  public int getAsyncExecMaxPollInterval() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.ASYNC_EXEC_MAX_POLL_INTERVAL));
+  }
+
+  @Override
+  public int getSqlExecWaitTimeout() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.SQL_EXEC_WAIT_TIMEOUT));
+  }
+
+  @Override
+  public boolean isSharedHttpConnectionPoolEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_SHARED_HTTP_CONNECTION_POOL).equals("1");
+  }
+
+  @Override
+  public int getConnectionValidationCacheInterval() {
+    return Integer.parseInt(
+        getParameter(DatabricksJdbcUrlParams.CONNECTION_VALIDATION_CACHE_INTERVAL));
+  }
+
+  @Override
+  public int getBatchInsertConcurrency() {
+    return Math.max(
+        0, Integer.parseInt(getParameter(DatabricksJdbcUrlParams.BATCH_INSERT_CONCURRENCY)));
+  }
+
+  @Override
+  public boolean isSharedOAuthTokenCacheEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_SHARED_OAUTH_TOKEN_CACHE).equals("1");
+  }
+
+  @Override
+  public boolean isAsyncCloudFetchEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_ASYNC_CLOUD_FETCH).equals("1");
+  }
+
+  @Override
+  public int getChunkDecompressionParallelism() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.CHUNK_DECOMPRESSION_PARALLELISM));
+  }
+
+  @Override
+  public boolean isProgressiveChunkReadingEnabled() {
+    return getParameter(DatabricksJdbcUrlParams.ENABLE_PROGRESSIVE_CHUNK_READING).equals("1");
+  }
+
+  @Override
+  public int getProgressiveChunkReadAheadBatches() {
+    return Integer.parseInt(
+        getParameter(DatabricksJdbcUrlParams.PROGRESSIVE_CHUNK_READ_AHEAD_BATCHES));
+  }
+
+  @Override
+  public int getProgressiveChunkReadTimeoutSeconds() {
+    return Integer.parseInt(
+        getParameter(DatabricksJdbcUrlParams.PROGRESSIVE_CHUNK_READ_TIMEOUT_SECONDS));
+  }
+
   private static boolean nullOrEmptyString(String s) {
     return s == null || s.isEmpty();
   }
@@ -29,6 +29,28 @@ public class DatabricksMap<K, V> implements Map<K, V> {
     this.map = convertMap(map, metadata);
   }
 
+  /**
+   * Constructs a DatabricksMap with the specified map and already parsed key and value types. This
+   * avoids parsing the metadata again when many maps of the same type are built.
+   *
+   * @param map the original map to be converted
+   * @param keyType the type of the map keys
+   * @param valueType the type of the map values
+   */
+  public DatabricksMap(Map<K, V> map, String keyType, String valueType) {
+    LOGGER.debug(
+        "Initializing DatabricksMap with key type: {}, value type: {}", keyType, valueType);
+    try {
+      this.map = convertEntries(map, keyType, valueType);
+    } catch (Exception e) {
+      LOGGER.error(e, "Error during map conversion: {}", e.getMessage());
+      throw new DatabricksDriverException(
+          "Invalid metadata or map structure",
+          e,
+          DatabricksDriverErrorCode.COMPLEX_DATA_TYPE_MAP_CONVERSION_ERROR);
+    }
+  }
+
   /**
    * Converts the provided map according to specified metadata.
    *
@@ -38,19 +60,13 @@ public class DatabricksMap<K, V> implements Map<K, V> {
    */
   private Map<K, V> convertMap(Map<K, V> originalMap, String metadata) {
     LOGGER.debug("Converting map with metadata: {}", metadata);
-    Map<K, V> convertedMap = new LinkedHashMap<>();
+    Map<K, V> convertedMap;
     try {
       String[] mapMetadata = MetadataParser.parseMapMetadata(metadata).split(",", 2);
       String keyType = mapMetadata[0].trim();
       String valueType = mapMetadata[1].trim();
       LOGGER.debug("Parsed metadata - Key Type: {}, Value Type: {}", keyType, valueType);
-
-      for (Map.Entry<K, V> entry : originalMap.entrySet()) {
-        K key = convertSimpleValue(entry.getKey(), keyType);
-        V value = convertValue(entry.getValue(), valueType);
-        convertedMap.put(key, value);
-        LOGGER.trace("Converted entry - Key: {}, Converted Value: {}", key, value);
-      }
+      convertedMap = convertEntries(originalMap, keyType, valueType);
     } catch (Exception e) {
       LOGGER.error(e, "Error during map conversion: {}", e.getMessage());
       throw new DatabricksDriverException(
@@ -61,6 +77,17 @@ public class DatabricksMap<K, V> implements Map<K, V> {
     return convertedMap;
   }
 
+  private Map<K, V> convertEntries(Map<K, V> originalMap, String keyType, String valueType) {
+    Map<K, V> convertedMap = new LinkedHashMap<>();
+    for (Map.Entry<K, V> entry : originalMap.entrySet()) {
+      K key = convertSimpleValue(entry.getKey(), keyType);
+      V value = convertValue(entry.getValue(), valueType);
+      convertedMap.put(key, value);
+      LOGGER.trace("Converted entry - Key: {}, Converted Value: {}", key, value);
+    }
+    return convertedMap;
+  }
+
   /**
    * Converts the value according to the specified type.
    *
@@ -132,25 +159,25 @@ public class DatabricksMap<K, V> implements Map<K, V> {
     try {
       switch (valueType.toUpperCase()) {
         case DatabricksTypeUtil.INT:
-          return (T) Integer.valueOf(value.toString());
+          return (T) (value instanceof Integer ? value : Integer.valueOf(value.toString()));
         case DatabricksTypeUtil.BIGINT:
-          return (T) Long.valueOf(value.toString());
+          return (T) (value instanceof Long ? value : Long.valueOf(value.toString()));
         case DatabricksTypeUtil.SMALLINT:
-          return (T) Short.valueOf(value.toString());
+          return (T) (value instanceof Short ? value : Short.valueOf(value.toString()));
         case DatabricksTypeUtil.FLOAT:
-          return (T) Float.valueOf(value.toString());
+          return (T) (value instanceof Float ? value : Float.valueOf(value.toString()));
         case DatabricksTypeUtil.DOUBLE:
-          return (T) Double.valueOf(value.toString());
+          return (T) (value instanceof Double ? value : Double.valueOf(value.toString()));
         case DatabricksTypeUtil.DECIMAL:
-          return (T) new BigDecimal(value.toString());
+          return (T) (value instanceof BigDecimal ? value : new BigDecimal(value.toString()));
         case DatabricksTypeUtil.BOOLEAN:
-          return (T) Boolean.valueOf(value.toString());
+          return (T) (value instanceof Boolean ? value : Boolean.valueOf(value.toString()));
         case DatabricksTypeUtil.DATE:
-          return (T) Date.valueOf(value.toString());
+          return (T) (value instanceof Date ? value : Date.valueOf(value.toString()));
         case DatabricksTypeUtil.TIMESTAMP:
-          return (T) Timestamp.valueOf(value.toString());
+          return (T) (value instanceof Timestamp ? value : Timestamp.valueOf(value.toString()));
         case DatabricksTypeUtil.TIME:
-          return (T) Time.valueOf(value.toString());
+          return (T) (value instanceof Time ? value : Time.valueOf(value.toString()));
         case DatabricksTypeUtil.BINARY:
           return (T) (value instanceof byte[] ? value : value.toString().getBytes());
         case DatabricksTypeUtil.STRING:
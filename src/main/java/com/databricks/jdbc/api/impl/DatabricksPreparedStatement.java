@@ -117,10 +117,18 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     return insertInfo != null && !databricksBatchParameterMetaData.isEmpty();
   }
 
-  /** Executes the batch as a single multi-row INSERT statement. */
+  /**
+   * Executes the batch as multi-row INSERT statements, each covering as many rows as fit in the
+   * parameter limit. With {@code BatchInsertConcurrency} set, the chunks are executed by a {@link
+   * BatchInsertPipeline}; otherwise they are executed one after another.
+   */
   private long[] executeBatchedInsert() throws DatabricksBatchUpdateException {
-    LOGGER.debug("Executing batched INSERT with {} rows", databricksBatchParameterMetaData.size());
+    int rowCount = databricksBatchParameterMetaData.size();
+    LOGGER.debug("Executing batched INSERT with {} rows", rowCount);
 
+    // Rows of chunks that succeeded are reported as 1 if a later chunk fails
+    long[] allUpdateCounts = new long[rowCount];
+    Arrays.fill(allUpdateCounts, Statement.EXECUTE_FAILED);
     try {
       InsertStatementParser.InsertInfo insertInfo = InsertStatementParser.parseInsert(sql);
       if (insertInfo == null) {
@@ -136,59 +144,81 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
       if (maxRowsPerChunk < 1) {
         maxRowsPerChunk = 1;
       }
+      InsertChunkBuilder chunkBuilder = new InsertChunkBuilder(insertInfo, maxRowsPerChunk);
 
-      long[] allUpdateCounts = new long[databricksBatchParameterMetaData.size()];
-      int processedRows = 0;
+      int concurrency = connection.getConnectionContext().getBatchInsertConcurrency();
+      if (concurrency > 0) {
+        return new BatchInsertPipeline(this, concurrency)
+            .execute(rowCount, maxRowsPerChunk, chunkBuilder);
+      }
 
       // Process batches in chunks
-      for (int startIndex = 0;
-          startIndex < databricksBatchParameterMetaData.size();
-          startIndex += maxRowsPerChunk) {
-        int endIndex =
-            Math.min(startIndex + maxRowsPerChunk, databricksBatchParameterMetaData.size());
-        int chunkSize = endIndex - startIndex;
-
-        LOGGER.debug("Processing chunk {}-{} ({} rows)", startIndex + 1, endIndex, chunkSize);
-
-        // Generate multi-row SQL for this chunk
-        String multiRowSql = InsertStatementParser.generateMultiRowInsert(insertInfo, chunkSize);
-
-        // Combine parameters for this chunk
-        Map<Integer, ImmutableSqlParameter> chunkParams = new HashMap<>();
-        int paramIndex = 1;
-
-        for (int i = startIndex; i < endIndex; i++) {
-          DatabricksParameterMetaData batchParams = databricksBatchParameterMetaData.get(i);
-          Map<Integer, ImmutableSqlParameter> rowParams = batchParams.getParameterBindings();
-          for (int j = 1; j <= rowParams.size(); j++) {
-            if (rowParams.containsKey(j)) {
-              chunkParams.put(paramIndex++, rowParams.get(j));
-            }
-          }
-        }
+      for (int startIndex = 0; startIndex < rowCount; startIndex += maxRowsPerChunk) {
+        int endIndex = Math.min(startIndex + maxRowsPerChunk, rowCount);
+        LOGGER.debug(
+            "Processing chunk {}-{} ({} rows)", startIndex + 1, endIndex, endIndex - startIndex);
+        BatchInsertPipeline.Chunk chunk = chunkBuilder.build(startIndex, endIndex);
 
         // Execute this chunk
-        executeInternal(multiRowSql, chunkParams, StatementType.UPDATE, false);
+        executeInternal(chunk.sql, chunk.parameters, StatementType.UPDATE, false);
 
         // Set update counts for this chunk (each row typically affects 1 row)
-        for (int i = startIndex; i < endIndex; i++) {
-          allUpdateCounts[i] = 1;
-        }
-
-        processedRows += chunkSize;
+        Arrays.fill(allUpdateCounts, startIndex, endIndex, 1);
       }
 
-      LOGGER.debug("Successfully processed {} rows in chunks", processedRows);
+      LOGGER.debug("Successfully processed {} rows in chunks", rowCount);
       return allUpdateCounts;
 
+    } catch (DatabricksBatchUpdateException e) {
+      throw e;
     } catch (Exception e) {
       LOGGER.error("Error executing batched INSERT: {}", e.getMessage(), e);
-      long[] failedCounts = new long[databricksBatchParameterMetaData.size()];
-      for (int i = 0; i < failedCounts.length; i++) {
-        failedCounts[i] = Statement.EXECUTE_FAILED;
-      }
       throw new DatabricksBatchUpdateException(
-          e.getMessage(), DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION, failedCounts);
+          e.getMessage(), DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION, allUpdateCounts);
+    }
+  }
+
+  /**
+   * Builds the multi-row INSERT chunks of the batch. All chunks except the last one have the same
+   * number of rows, so their SQL is generated once.
+   */
+  private class InsertChunkBuilder implements BatchInsertPipeline.ChunkBuilder {
+    private final InsertStatementParser.InsertInfo insertInfo;
+    private final int rowsPerChunk;
+    private String fullChunkSql;
+
+    InsertChunkBuilder(InsertStatementParser.InsertInfo insertInfo, int rowsPerChunk) {
+      this.insertInfo = insertInfo;
+      this.rowsPerChunk = rowsPerChunk;
+    }
+
+    @Override
+    public BatchInsertPipeline.Chunk build(int startRow, int endRow) {
+      int chunkSize = endRow - startRow;
+      String multiRowSql;
+      if (chunkSize == rowsPerChunk) {
+        if (fullChunkSql == null) {
+          fullChunkSql = InsertStatementParser.generateMultiRowInsert(insertInfo, chunkSize);
+        }
+        multiRowSql = fullChunkSql;
+      } else {
+        multiRowSql = InsertStatementParser.generateMultiRowInsert(insertInfo, chunkSize);
+      }
+
+      // Combine parameters for this chunk
+      Map<Integer, ImmutableSqlParameter> chunkParams =
+          new HashMap<>(2 * chunkSize * insertInfo.getColumnCount());
+      int paramIndex = 1;
+      for (int i = startRow; i < endRow; i++) {
+        DatabricksParameterMetaData batchParams = databricksBatchParameterMetaData.get(i);
+        Map<Integer, ImmutableSqlParameter> rowParams = batchParams.getParameterBindings();
+        for (int j = 1; j <= rowParams.size(); j++) {
+          if (rowParams.containsKey(j)) {
+            chunkParams.put(paramIndex++, rowParams.get(j));
+          }
+        }
+      }
+      return new BatchInsertPipeline.Chunk(startRow, endRow, multiRowSql, chunkParams);
     }
   }
 
@@ -296,36 +296,64 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.BOOLEAN)) {
+      return !isPrimitiveNull(columnIndex) && executionResult.getBoolean(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toBoolean, () -> false);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.TINYINT)) {
+      return isPrimitiveNull(columnIndex) ? 0 : (byte) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toByte, () -> (byte) 0);
   }
 
   @Override
   public short getShort(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.TINYINT, Types.SMALLINT)) {
+      return isPrimitiveNull(columnIndex) ? 0 : (short) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toShort, () -> (short) 0);
   }
 
   @Override
   public int getInt(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.TINYINT, Types.SMALLINT, Types.INTEGER)) {
+      return isPrimitiveNull(columnIndex) ? 0 : (int) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toInt, () -> 0);
   }
 
   @Override
   public long getLong(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(
+        columnIndex, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT)) {
+      return isPrimitiveNull(columnIndex) ? 0L : executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toLong, () -> 0L);
   }
 
   @Override
   public float getFloat(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.FLOAT)) {
+      return isPrimitiveNull(columnIndex)
+          ? 0.0f
+          : (float) executionResult.getDouble(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toFloat, () -> 0.0f);
   }
 
   @Override
   public double getDouble(int columnIndex) throws SQLException {
+    if (isPrimitiveReadable(columnIndex, Types.FLOAT, Types.DOUBLE)) {
+      return isPrimitiveNull(columnIndex) ? 0.0 : executionResult.getDouble(columnIndex - 1);
+    }
+    if (isPrimitiveReadable(
+        columnIndex, Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT)) {
+      return isPrimitiveNull(columnIndex) ? 0.0 : executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toDouble, () -> 0.0);
   }
 
@@ -1905,6 +1933,32 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
     return object;
   }
 
+  /**
+   * Checks whether the column can be read through the primitive accessors of the execution result,
+   * which skips boxing the value and converting it through {@link ObjectConverter}. This is only
+   * the case if the result supports it for the column and the column type is one of the given
+   * types, for which the primitive read yields the same value as the converter.
+   */
+  private boolean isPrimitiveReadable(int columnIndex, int... allowedColumnTypes)
+      throws SQLException {
+    checkIfClosed();
+    if (columnIndex <= 0 || !executionResult.supportsPrimitiveAccess(columnIndex - 1)) {
+      return false;
+    }
+    int columnType = resultSetMetaData.getColumnType(columnIndex);
+    for (int allowedColumnType : allowedColumnTypes) {
+      if (columnType == allowedColumnType) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isPrimitiveNull(int columnIndex) throws SQLException {
+    this.wasNull = executionResult.isNull(columnIndex - 1);
+    return this.wasNull;
+  }
+
   private int getColumnNameIndex(String columnName) {
     return this.resultSetMetaData.getColumnNameIndex(columnName);
   }
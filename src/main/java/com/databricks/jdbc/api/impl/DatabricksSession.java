@@ -57,14 +57,13 @@ public class DatabricksSession implements IDatabricksSession {
   public DatabricksSession(IDatabricksConnectionContext connectionContext)
       throws DatabricksSQLException {
     if (connectionContext.getClientType() == DatabricksClientType.THRIFT) {
-      this.databricksClient =
-          DatabricksMetricsTimedProcessor.createProxy(
-              new DatabricksThriftServiceClient(connectionContext));
+      useThriftClient(new DatabricksThriftServiceClient(connectionContext));
     } else {
       this.databricksClient =
-          DatabricksMetricsTimedProcessor.createProxy(new DatabricksSdkClient(connectionContext));
+          DatabricksMetricsTimedProcessor.createTimedClient(
+              new DatabricksSdkClient(connectionContext));
       this.databricksMetadataClient =
-          DatabricksMetricsTimedProcessor.createProxy(
+          DatabricksMetricsTimedProcessor.createTimedMetadataClient(
               new DatabricksMetadataSdkClient(databricksClient));
     }
     this.isSessionOpen = false;
@@ -141,9 +140,7 @@ public class DatabricksSession implements IDatabricksSession {
                   this.computeResource, this.catalog, this.schema, this.sessionConfigs);
         } catch (DatabricksTemporaryRedirectException e) {
           this.connectionContext.setClientType(DatabricksClientType.THRIFT);
-          this.databricksClient =
-              DatabricksMetricsTimedProcessor.createProxy(
-                  new DatabricksThriftServiceClient(connectionContext));
+          useThriftClient(new DatabricksThriftServiceClient(connectionContext));
           this.sessionInfo =
               this.databricksClient.createSession(
                   this.computeResource, this.catalog, this.schema, this.sessionConfigs);
@@ -187,12 +184,20 @@ public class DatabricksSession implements IDatabricksSession {
   @Override
   public IDatabricksMetadataClient getDatabricksMetadataClient() {
     LOGGER.debug("public IDatabricksClient getDatabricksMetadataClient()");
-    if (this.connectionContext.getClientType() == DatabricksClientType.THRIFT) {
+    if (this.connectionContext.getClientType() == DatabricksClientType.THRIFT
+        && databricksMetadataClient == null) {
       return (IDatabricksMetadataClient) databricksClient;
     }
     return databricksMetadataClient;
   }
 
+  /** The Thrift client serves both the statements and the metadata requests of the session. */
+  private void useThriftClient(DatabricksThriftServiceClient thriftClient) {
+    this.databricksClient = DatabricksMetricsTimedProcessor.createTimedClient(thriftClient);
+    this.databricksMetadataClient =
+        DatabricksMetricsTimedProcessor.createTimedMetadataClient(thriftClient);
+  }
+
   @Override
   public String getCatalog() {
     LOGGER.debug("public String getCatalog()");
@@ -7,10 +7,12 @@ import static java.lang.String.format;
 import com.databricks.jdbc.api.IDatabricksResultSet;
 import com.databricks.jdbc.api.IDatabricksStatement;
 import com.databricks.jdbc.api.impl.batch.DatabricksBatchExecutor;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.util.*;
 import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.exception.*;
 import com.databricks.jdbc.log.JdbcLogger;
@@ -24,6 +26,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.function.Supplier;
 import org.apache.http.entity.InputStreamEntity;
 
 public class DatabricksStatement implements IDatabricksStatement, IDatabricksStatementInternal {
@@ -46,6 +49,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
   private InputStreamEntity inputStream = null;
   private boolean allowInputStreamForUCVolume = false;
   private final DatabricksBatchExecutor databricksBatchExecutor;
+  private volatile BatchInsertPipeline batchInsertPipeline;
 
   public DatabricksStatement(DatabricksConnection connection) {
     this.connection = connection;
@@ -105,6 +109,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
   @Override
   public void close(boolean removeFromSession) throws DatabricksSQLException {
     LOGGER.debug("public void close(boolean removeFromSession)");
+    cancelBatchInsertPipeline();
 
     if (statementId == null) {
       String warningMsg = "The statement you are trying to close does not have an ID yet.";
@@ -195,6 +200,9 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     LOGGER.debug("public void cancel()");
     checkIfClosed();
 
+    if (cancelBatchInsertPipeline()) {
+      return;
+    }
     if (statementId != null) {
       this.connection.getSession().getDatabricksClient().cancelStatement(statementId);
       DatabricksThreadContextHolder.clearStatementInfo();
@@ -205,6 +213,21 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     }
   }
 
+  /** Sets the pipeline executing a batch of this statement, or null once it has finished. */
+  void setBatchInsertPipeline(BatchInsertPipeline batchInsertPipeline) {
+    this.batchInsertPipeline = batchInsertPipeline;
+  }
+
+  /** Cancels the batch executing in a pipeline, returning false if there is none. */
+  private boolean cancelBatchInsertPipeline() {
+    BatchInsertPipeline pipeline = batchInsertPipeline;
+    if (pipeline == null) {
+      return false;
+    }
+    pipeline.cancel();
+    return true;
+  }
+
   @Override
   public SQLWarning getWarnings() {
     LOGGER.debug("public SQLWarning getWarnings()");
@@ -594,6 +617,18 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
         this);
   }
 
+  @Override
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException {
+    LOGGER.debug("CompletableFuture<ResultSet> executeQueryAsync() for statement {}", sql);
+    executeAsync(sql);
+    IDatabricksConnectionContext connectionContext = connection.getConnectionContext();
+    PollBackoff backoff =
+        new PollBackoff(
+            connectionContext.getAsyncExecPollInterval(),
+            connectionContext.getAsyncExecMaxPollInterval());
+    return AsyncStatementPoller.getInstance().poll(this, backoff, timeoutInSeconds);
+  }
+
   @Override
   public ResultSet getExecutionResult() throws SQLException {
     LOGGER.debug("ResultSet getExecutionResult() for statementId {%s}", statementId);
@@ -705,10 +740,12 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
       StatementType statementType,
       boolean closeStatement)
       throws SQLException {
-    String stackTraceMessage =
-        format(
-            "DatabricksResultSet executeInternal(String sql = %s, Map<Integer, ImmutableSqlParameter> params = {%s}, StatementType statementType = {%s})",
-            sql, params, statementType);
+    // Only formatted when debug logging is enabled or the execution times out
+    Supplier<String> stackTraceMessage =
+        () ->
+            format(
+                "DatabricksResultSet executeInternal(String sql = %s, Map<Integer, ImmutableSqlParameter> params = %s, StatementType statementType = %s)",
+                sql, params, statementType);
     LOGGER.debug(stackTraceMessage);
     CompletableFuture<DatabricksResultSet> futureResultSet =
         getFutureResult(sql, params, statementType);
@@ -724,7 +761,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
       String timeoutErrorMessage =
           String.format(
               "Statement execution timed-out. ErrorMessage %s, statementId %s",
-              stackTraceMessage, statementId);
+              stackTraceMessage.get(), statementId);
       LOGGER.error(timeoutErrorMessage);
       futureResultSet.cancel(true); // Cancel execution run
       throw new DatabricksTimeoutException(
@@ -761,8 +798,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     return CompletableFuture.supplyAsync(
         () -> {
           try {
-            String SQLString = escapeProcessing ? StringUtil.convertJdbcEscapeSequences(sql) : sql;
-            return getResultFromClient(SQLString, params, statementType);
+            return getResultFromClient(processEscapes(sql), params, statementType);
           } catch (SQLException e) {
             throw new RuntimeException(e);
           }
@@ -770,6 +806,11 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
         executor);
   }
 
+  /** Returns the SQL sent to the server, with JDBC escape sequences converted if enabled. */
+  String processEscapes(String sql) {
+    return escapeProcessing ? StringUtil.convertJdbcEscapeSequences(sql) : sql;
+  }
+
   DatabricksResultSet getResultFromClient(
       String sql, Map<Integer, ImmutableSqlParameter> params, StatementType statementType)
       throws SQLException {
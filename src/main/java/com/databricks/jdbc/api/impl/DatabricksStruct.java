@@ -29,8 +29,19 @@ public class DatabricksStruct implements Struct {
    */
   public DatabricksStruct(Map<String, Object> attributes, String metadata) {
     // Parse the metadata into a map: fieldName -> fieldType
-    Map<String, String> typeMap = MetadataParser.parseStructMetadata(metadata);
+    this(attributes, MetadataParser.parseStructMetadata(metadata), metadata);
+  }
 
+  /**
+   * Constructs a DatabricksStruct with the specified attributes and already parsed field types.
+   * This avoids parsing the metadata again when many structs of the same type are built.
+   *
+   * @param attributes the attributes of the struct as a map
+   * @param typeMap the field types as returned by {@link MetadataParser#parseStructMetadata}
+   * @param metadata the metadata describing types of struct fields
+   */
+  public DatabricksStruct(
+      Map<String, Object> attributes, Map<String, String> typeMap, String metadata) {
     // Capture field names (in the same order they appear in typeMap).
     this.fieldNames = new ArrayList<>(typeMap.keySet());
 
@@ -104,25 +115,25 @@ public class DatabricksStruct implements Struct {
     try {
       switch (type.toUpperCase()) {
         case DatabricksTypeUtil.INT:
-          return Integer.parseInt(value.toString());
+          return value instanceof Integer ? value : Integer.parseInt(value.toString());
         case DatabricksTypeUtil.BIGINT:
-          return Long.parseLong(value.toString());
+          return value instanceof Long ? value : Long.parseLong(value.toString());
         case DatabricksTypeUtil.SMALLINT:
-          return Short.parseShort(value.toString());
+          return value instanceof Short ? value : Short.parseShort(value.toString());
         case DatabricksTypeUtil.FLOAT:
-          return Float.parseFloat(value.toString());
+          return value instanceof Float ? value : Float.parseFloat(value.toString());
         case DatabricksTypeUtil.DOUBLE:
-          return Double.parseDouble(value.toString());
+          return value instanceof Double ? value : Double.parseDouble(value.toString());
         case DatabricksTypeUtil.DECIMAL:
-          return new BigDecimal(value.toString());
+          return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
         case DatabricksTypeUtil.BOOLEAN:
-          return Boolean.parseBoolean(value.toString());
+          return value instanceof Boolean ? value : Boolean.parseBoolean(value.toString());
         case DatabricksTypeUtil.DATE:
-          return Date.valueOf(value.toString());
+          return value instanceof Date ? value : Date.valueOf(value.toString());
         case DatabricksTypeUtil.TIMESTAMP:
-          return Timestamp.valueOf(value.toString());
+          return value instanceof Timestamp ? value : Timestamp.valueOf(value.toString());
         case DatabricksTypeUtil.TIME:
-          return Time.valueOf(value.toString());
+          return value instanceof Time ? value : Time.valueOf(value.toString());
         case DatabricksTypeUtil.BINARY:
           return value instanceof byte[] ? value : value.toString().getBytes();
         case DatabricksTypeUtil.STRING:
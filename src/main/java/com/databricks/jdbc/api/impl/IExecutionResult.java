@@ -1,6 +1,7 @@
 package com.databricks.jdbc.api.impl;
 
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 
 /** Interface to provide methods over an underlying statement result */
 public interface IExecutionResult {
@@ -14,6 +15,69 @@ public interface IExecutionResult {
    */
   Object getObject(int columnIndex) throws DatabricksSQLException;
 
+  /**
+   * Returns true if the value for given column index can be read through {@link #isNull(int)} and
+   * the primitive getters of this interface without materializing an object. Here index starts with
+   * 0.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return true if primitive access is supported for the column at the current row
+   */
+  default boolean supportsPrimitiveAccess(int columnIndex) {
+    return false;
+  }
+
+  /**
+   * Returns true if the value for given column index in the current row is null. Here index starts
+   * with 0.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return true if the value is null
+   * @throws DatabricksSQLException if there is any error in reading the value
+   */
+  default boolean isNull(int columnIndex) throws DatabricksSQLException {
+    return getObject(columnIndex) == null;
+  }
+
+  /**
+   * Reads the value for given column index as a long without boxing. Only valid when {@link
+   * #supportsPrimitiveAccess(int)} returns true for an integral column.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a long
+   */
+  default long getLong(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Unsupported primitive long access", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
+  /**
+   * Reads the value for given column index as a double without boxing. Only valid when {@link
+   * #supportsPrimitiveAccess(int)} returns true for a floating point column.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a double
+   */
+  default double getDouble(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Unsupported primitive double access", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
+  /**
+   * Reads the value for given column index as a boolean without boxing. Only valid when {@link
+   * #supportsPrimitiveAccess(int)} returns true for a boolean column.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a boolean
+   */
+  default boolean getBoolean(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Unsupported primitive boolean access", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
   /**
    * Gets the current row position, starting with 0.
    *
@@ -0,0 +1,295 @@
+package com.databricks.jdbc.api.impl;
+
+import static com.databricks.jdbc.common.EnvironmentVariables.DEFAULT_RESULT_ROW_LIMIT;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.client.thrift.generated.TColumn;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Result of a Thrift query returned in the {@code COLUMN_BASED_SET} format.
+ *
+ * <p>Every fetched page keeps the {@link TColumn}s as sent by the server, and values are read by
+ * their row index within the page instead of pivoting the columns into rows. By default all pages
+ * are fetched up front so that the row count is known. With {@link
+ * DatabricksJdbcUrlParams#ENABLE_LAZY_INLINE_RESULT_FETCH} the next page is only fetched once the
+ * rows of the current page are consumed.
+ */
+public class InlineColumnarResult implements IExecutionResult {
+
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(InlineColumnarResult.class);
+
+  private final IDatabricksStatementInternal parentStatement;
+  private final IDatabricksSession session;
+  private final long maxRows;
+  private final Deque<ColumnarPage> pendingPages = new ArrayDeque<>();
+  private ColumnarPage currentPage;
+  private int currentRowInPage;
+  private long currentRow;
+  private long fetchedRows;
+  private long fetchedPages;
+  private boolean hasMorePages;
+  private DatabricksSQLException pageFetchError;
+  private boolean isClosed;
+
+  public InlineColumnarResult(
+      TFetchResultsResp resultsResp,
+      IDatabricksStatementInternal parentStatement,
+      IDatabricksSession session)
+      throws DatabricksSQLException {
+    this.parentStatement = parentStatement;
+    this.session = session;
+    this.maxRows =
+        parentStatement != null ? parentStatement.getMaxRows() : DEFAULT_RESULT_ROW_LIMIT;
+    this.currentRow = -1;
+    this.isClosed = false;
+    IDatabricksConnectionContext connectionContext = session.getConnectionContext();
+    boolean lazyFetch =
+        connectionContext != null && connectionContext.isLazyInlineResultFetchEnabled();
+    addPage(resultsResp);
+    while (!lazyFetch && hasMorePages && !isRowLimitReached()) {
+      addPage(session.getDatabricksClient().getMoreResults(parentStatement));
+    }
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws DatabricksSQLException {
+    checkReadable(columnIndex);
+    return currentPage.getValue(columnIndex, currentRowInPage);
+  }
+
+  @Override
+  public boolean supportsPrimitiveAccess(int columnIndex) {
+    return currentPage != null
+        && columnIndex >= 0
+        && columnIndex < currentPage.getColumnCount()
+        && currentPage.isPrimitive(columnIndex);
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws DatabricksSQLException {
+    checkReadable(columnIndex);
+    return currentPage.getLong(columnIndex, currentRowInPage);
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws DatabricksSQLException {
+    checkReadable(columnIndex);
+    return currentPage.getDouble(columnIndex, currentRowInPage);
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws DatabricksSQLException {
+    Object value = getObject(columnIndex);
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    return IExecutionResult.super.getBoolean(columnIndex);
+  }
+
+  @Override
+  public long getCurrentRow() {
+    return currentRow;
+  }
+
+  @Override
+  public boolean next() throws DatabricksSQLException {
+    if (!hasNext()) {
+      return false;
+    }
+    if (currentPage == null || currentRowInPage >= currentPage.getRowCount() - 1) {
+      if (pendingPages.isEmpty()) {
+        DatabricksSQLException error = pageFetchError;
+        pageFetchError = null;
+        throw error;
+      }
+      // The consumed page is dropped here, so only the pages not yet read are held in memory
+      currentPage = pendingPages.poll();
+      currentRowInPage = 0;
+    } else {
+      currentRowInPage++;
+    }
+    currentRow++;
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (isClosed || (maxRows > 0 && currentRow + 1 >= maxRows)) {
+      return false;
+    }
+    if (currentPage != null && currentRowInPage < currentPage.getRowCount() - 1) {
+      return true;
+    }
+    // A failed page fetch is reported by next(), so it is not mistaken for the end of the result
+    return hasNextPage() || pageFetchError != null;
+  }
+
+  @Override
+  public void close() {
+    this.isClosed = true;
+    this.currentPage = null;
+    this.pendingPages.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Counts the rows of the pages fetched so far. Unless all pages are fetched up front, the
+   * count grows as further pages are fetched while the rows are read.
+   */
+  @Override
+  public long getRowCount() {
+    return maxRows > 0 ? Math.min(fetchedRows, maxRows) : fetchedRows;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Counts the pages with rows fetched so far, which grows like {@link #getRowCount()}.
+   */
+  @Override
+  public long getChunkCount() {
+    return fetchedPages;
+  }
+
+  private void checkReadable(int columnIndex) throws DatabricksSQLException {
+    if (isClosed) {
+      throw new DatabricksSQLException(
+          "Result is already closed", DatabricksDriverErrorCode.STATEMENT_CLOSED);
+    }
+    if (currentRow == -1) {
+      throw new DatabricksSQLException(
+          "Cursor is before first row", DatabricksDriverErrorCode.INVALID_STATE);
+    }
+    if (columnIndex < 0 || columnIndex >= currentPage.getColumnCount()) {
+      throw new DatabricksSQLException(
+          "Column index out of bounds " + columnIndex, DatabricksDriverErrorCode.INVALID_STATE);
+    }
+  }
+
+  /**
+   * Returns whether a page with rows is pending, fetching further pages of the result until one
+   * arrives or the result is exhausted. A failed fetch is recorded in {@link #pageFetchError}.
+   */
+  private boolean hasNextPage() {
+    while (pendingPages.isEmpty() && hasMorePages && pageFetchError == null) {
+      try {
+        addPage(session.getDatabricksClient().getMoreResults(parentStatement));
+      } catch (DatabricksSQLException e) {
+        LOGGER.error(e, "Failed to fetch columnar results of statement {}", parentStatement);
+        pageFetchError = e;
+        hasMorePages = false;
+      }
+    }
+    return !pendingPages.isEmpty();
+  }
+
+  private void addPage(TFetchResultsResp resultsResp) throws DatabricksSQLException {
+    ColumnarPage page = new ColumnarPage(resultsResp.getResults());
+    if (page.getRowCount() > 0) {
+      pendingPages.add(page);
+      fetchedRows += page.getRowCount();
+      fetchedPages++;
+    }
+    hasMorePages = resultsResp.hasMoreRows && !isRowLimitReached();
+  }
+
+  private boolean isRowLimitReached() {
+    return maxRows > 0 && fetchedRows >= maxRows;
+  }
+
+  /** Columns of one fetched page, with the null bitmap of each column decoded once. */
+  private static class ColumnarPage {
+    private final List<?>[] values;
+    private final BitSet[] nulls;
+    private final boolean[] primitive;
+    private final int rowCount;
+
+    ColumnarPage(TRowSet rowSet) throws DatabricksSQLException {
+      List<TColumn> columns =
+          rowSet == null || rowSet.getColumns() == null ? List.of() : rowSet.getColumns();
+      values = new List<?>[columns.size()];
+      nulls = new BitSet[columns.size()];
+      primitive = new boolean[columns.size()];
+      for (int i = 0; i < columns.size(); i++) {
+        setColumn(i, columns.get(i));
+      }
+      rowCount = columns.isEmpty() ? 0 : values[0].size();
+    }
+
+    int getRowCount() {
+      return rowCount;
+    }
+
+    int getColumnCount() {
+      return values.length;
+    }
+
+    boolean isPrimitive(int columnIndex) {
+      return primitive[columnIndex];
+    }
+
+    Object getValue(int columnIndex, int rowIndex) {
+      BitSet columnNulls = nulls[columnIndex];
+      if (columnNulls != null && columnNulls.get(rowIndex)) {
+        return null;
+      }
+      return values[columnIndex].get(rowIndex);
+    }
+
+    /** Reads a numeric value that the caller checked is not null, skipping the null bitmap. */
+    long getLong(int columnIndex, int rowIndex) {
+      return ((Number) values[columnIndex].get(rowIndex)).longValue();
+    }
+
+    /** Reads a numeric value that the caller checked is not null, skipping the null bitmap. */
+    double getDouble(int columnIndex, int rowIndex) {
+      return ((Number) values[columnIndex].get(rowIndex)).doubleValue();
+    }
+
+    private void setColumn(int index, TColumn column) throws DatabricksSQLException {
+      if (column.isSetBinaryVal()) {
+        setColumn(
+            index, column.getBinaryVal().getValues(), column.getBinaryVal().getNulls(), false);
+      } else if (column.isSetBoolVal()) {
+        setColumn(index, column.getBoolVal().getValues(), column.getBoolVal().getNulls(), true);
+      } else if (column.isSetByteVal()) {
+        setColumn(index, column.getByteVal().getValues(), column.getByteVal().getNulls(), true);
+      } else if (column.isSetI16Val()) {
+        setColumn(index, column.getI16Val().getValues(), column.getI16Val().getNulls(), true);
+      } else if (column.isSetI32Val()) {
+        setColumn(index, column.getI32Val().getValues(), column.getI32Val().getNulls(), true);
+      } else if (column.isSetI64Val()) {
+        setColumn(index, column.getI64Val().getValues(), column.getI64Val().getNulls(), true);
+      } else if (column.isSetDoubleVal()) {
+        setColumn(index, column.getDoubleVal().getValues(), column.getDoubleVal().getNulls(), true);
+      } else if (column.isSetStringVal()) {
+        setColumn(
+            index, column.getStringVal().getValues(), column.getStringVal().getNulls(), false);
+      } else {
+        throw new DatabricksSQLException(
+            "Unsupported column type: " + column, DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+      }
+    }
+
+    private void setColumn(
+        int index, List<?> columnValues, byte[] columnNulls, boolean isPrimitive) {
+      values[index] = columnValues;
+      nulls[index] = columnNulls == null ? null : BitSet.valueOf(columnNulls);
+      primitive[index] = isPrimitive;
+    }
+  }
+}
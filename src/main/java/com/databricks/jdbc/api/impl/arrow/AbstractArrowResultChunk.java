@@ -11,8 +11,10 @@ import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -21,9 +23,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
@@ -41,11 +44,18 @@ public abstract class AbstractArrowResultChunk {
       JdbcLoggerFactory.getLogger(AbstractArrowResultChunk.class);
 
   protected static final Integer SECONDS_BUFFER_FOR_EXPIRY = 60;
+
+  /** Default number of unread record batches, see {@link #getMaxUnreadRecordBatches}. */
+  static final int DEFAULT_MAX_UNREAD_RECORD_BATCHES = 8;
+
+  /** Default time limit, see {@link #getUnreadRecordBatchTimeoutSeconds}. */
+  static final int DEFAULT_UNREAD_RECORD_BATCH_TIMEOUT_SECONDS = 300;
+
   protected final long numRows;
   protected final long rowOffset;
   protected final long chunkIndex;
   protected final StatementId statementId;
-  protected final BufferAllocator rootAllocator;
+  protected final BufferAllocator chunkAllocator;
 
   /**
    * Future to track when the chunk becomes ready for consumption. This includes both the download
@@ -62,6 +72,37 @@ public abstract class AbstractArrowResultChunk {
   protected List<String> arrowMetadata;
   protected int chunkReadyTimeoutSeconds;
 
+  /** Size of the chunk's Arrow data as reported by the server, 0 if unknown. */
+  protected long byteCount;
+
+  /** Time taken to download and parse the chunk, 0 until the chunk is ready. */
+  protected volatile long downloadDurationNanos;
+
+  /** Memory reserved with {@link ArrowMemoryManager} for this chunk, released with the chunk. */
+  private final AtomicLong reservedBytes = new AtomicLong();
+
+  /**
+   * Guards {@link #recordBatchList} while the chunk is read progressively, and the state below.
+   * Waited on by the parsing thread for batches to be consumed and by the iterator for batches to
+   * be parsed.
+   */
+  private final Object recordBatchLock = new Object();
+
+  /** Number of leading record batches the iterator has moved past and which have been freed. */
+  private int consumedRecordBatchCount;
+
+  /** Whether a thread is parsing the record batches of the chunk. */
+  private boolean readingRecordBatches;
+
+  /** Reason the record batches of a progressively read chunk can no longer be read. */
+  private Throwable recordBatchReadError;
+
+  /** Time the parsing thread waited for record batches to be consumed, used by that thread. */
+  private long recordBatchWaitNanos;
+
+  /** Whether parsing gave up because the record batches were not read within the time limit. */
+  private boolean unreadRecordBatchTimedOut;
+
   static final class ArrowData {
     private final List<List<ValueVector>> valueVectors;
     private final List<String> metadata;
@@ -89,11 +130,39 @@ public abstract class AbstractArrowResultChunk {
       ExternalLink chunkLink,
       Instant expiryTime,
       int chunkReadyTimeoutSeconds) {
+    this(
+        numRows,
+        rowOffset,
+        chunkIndex,
+        statementId,
+        initialStatus,
+        chunkLink,
+        expiryTime,
+        chunkReadyTimeoutSeconds,
+        null);
+  }
+
+  /**
+   * @param parentAllocator allocator of the statement the chunk belongs to, or null to allocate
+   *     directly from the driver-wide {@link ArrowMemoryManager} root allocator
+   */
+  protected AbstractArrowResultChunk(
+      long numRows,
+      long rowOffset,
+      long chunkIndex,
+      StatementId statementId,
+      ChunkStatus initialStatus,
+      ExternalLink chunkLink,
+      Instant expiryTime,
+      int chunkReadyTimeoutSeconds,
+      BufferAllocator parentAllocator) {
     this.numRows = numRows;
     this.rowOffset = rowOffset;
     this.chunkIndex = chunkIndex;
     this.statementId = statementId;
-    this.rootAllocator = new RootAllocator(Integer.MAX_VALUE);
+    this.chunkAllocator =
+        (parentAllocator != null ? parentAllocator : ArrowMemoryManager.getRootAllocator())
+            .newChildAllocator("chunk-" + chunkIndex, 0, Long.MAX_VALUE);
     this.chunkReadyFuture = new CompletableFuture<>();
     this.chunkLink = chunkLink;
     this.expiryTime = expiryTime;
@@ -131,12 +200,31 @@ public abstract class AbstractArrowResultChunk {
       return false;
     }
 
-    if (getStatus() == ChunkStatus.PROCESSING_SUCCEEDED) {
-      logAllocatorStats("BeforeRelease");
-      purgeArrowData(this.recordBatchList);
-      rootAllocator.close();
+    synchronized (recordBatchLock) {
+      if (getStatus() == ChunkStatus.PROCESSING_SUCCEEDED) {
+        logAllocatorStats("BeforeRelease");
+        purgeArrowData(this.recordBatchList);
+        closeChunkAllocator();
+      } else if (readingRecordBatches) {
+        // The parsing thread frees the record batches once it notices the release
+        LOGGER.debug(
+            "Releasing chunk index {} and statement {} while its record batches are parsed",
+            chunkIndex,
+            statementId);
+      } else {
+        if (isReadProgressively() && recordBatchList != null) {
+          // Record batches published before the download failed or while it is retried
+          purgeArrowData(recordBatchList);
+        }
+        if (chunkAllocator.getAllocatedMemory() == 0) {
+          // Chunk was never downloaded or its data was already purged
+          closeChunkAllocator();
+        }
+      }
+      setStatus(ChunkStatus.CHUNK_RELEASED);
+      recordBatchLock.notifyAll();
     }
-    setStatus(ChunkStatus.CHUNK_RELEASED);
+    ArrowMemoryManager.release(reservedBytes.getAndSet(0));
 
     return true;
   }
@@ -161,6 +249,42 @@ public abstract class AbstractArrowResultChunk {
     return stateMachine.getCurrentStatus();
   }
 
+  /**
+   * Reserves memory for the chunk's data before it is submitted for download, if it fits in the
+   * driver-wide Arrow memory limit. The reservation is returned when the chunk is released.
+   *
+   * @return true if the memory was reserved
+   */
+  protected boolean tryReserveMemory() {
+    long estimatedBytes = getEstimatedBytes();
+    if (!ArrowMemoryManager.tryReserve(estimatedBytes)) {
+      return false;
+    }
+    reservedBytes.set(estimatedBytes);
+    return true;
+  }
+
+  /**
+   * Reserves memory for the chunk's data before it is submitted for download, waiting while the
+   * driver-wide Arrow memory limit is exhausted. The reservation is returned when the chunk is
+   * released.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   * @throws DatabricksSQLException if no memory is released in time
+   */
+  protected void reserveMemory() throws InterruptedException, DatabricksSQLException {
+    long estimatedBytes = getEstimatedBytes();
+    ArrowMemoryManager.reserve(estimatedBytes);
+    reservedBytes.set(estimatedBytes);
+  }
+
+  private long getEstimatedBytes() {
+    if (byteCount <= 0 && chunkLink != null && chunkLink.getByteCount() != null) {
+      return Math.max(0, chunkLink.getByteCount());
+    }
+    return byteCount;
+  }
+
   /**
    * Downloads and initializes data for this chunk using the provided HTTP client and compression
    * codec.
@@ -175,6 +299,44 @@ public abstract class AbstractArrowResultChunk {
       IDatabricksHttpClient httpClient, CompressionCodec compressionCodec, double speedThreshold)
       throws DatabricksParsingException, IOException;
 
+  /**
+   * Returns whether the record batches of the chunk become available to its iterator while the
+   * chunk is being parsed, with the chunk ready once its first record batch is parsed.
+   */
+  protected boolean isReadProgressively() {
+    return false;
+  }
+
+  /**
+   * Returns the maximum number of parsed record batches of a progressively read chunk that its
+   * iterator has not reached yet. Parsing waits once this many are pending, which stops reading the
+   * response until the rows are consumed.
+   */
+  protected int getMaxUnreadRecordBatches() {
+    return DEFAULT_MAX_UNREAD_RECORD_BATCHES;
+  }
+
+  /**
+   * Returns how long the parsing of a progressively read chunk waits for unread record batches to
+   * be read. The download holds a shared download thread and an open response while it waits, so
+   * it fails once the limit is exceeded instead of blocking the downloads of other results.
+   *
+   * @return time limit in seconds, 0 for no limit
+   */
+  protected int getUnreadRecordBatchTimeoutSeconds() {
+    return DEFAULT_UNREAD_RECORD_BATCH_TIMEOUT_SECONDS;
+  }
+
+  /**
+   * Returns whether parsing of the chunk stopped because its record batches were not read within
+   * {@link #getUnreadRecordBatchTimeoutSeconds}. Such a download is not retried.
+   */
+  protected boolean isUnreadRecordBatchTimedOut() {
+    synchronized (recordBatchLock) {
+      return unreadRecordBatchTimedOut;
+    }
+  }
+
   /** Handles a failure during the download or processing of this chunk. */
   protected abstract void handleFailure(Exception exception, ChunkStatus failedStatus)
       throws DatabricksParsingException;
@@ -197,6 +359,112 @@ public abstract class AbstractArrowResultChunk {
     return recordBatchList;
   }
 
+  /**
+   * Returns the record batch at the given index. When the chunk is read progressively, waits for
+   * the record batch to be parsed and frees the record batches before it, which the iterator is
+   * done with.
+   *
+   * @param recordBatchIndex index of the record batch
+   * @return the value vectors of the record batch, or null if the chunk has no such record batch
+   * @throws DatabricksSQLException if the chunk failed or timed out before the batch was parsed
+   */
+  protected List<ValueVector> getRecordBatch(int recordBatchIndex) throws DatabricksSQLException {
+    if (!isReadProgressively()) {
+      return recordBatchIndex < getRecordBatchCountInChunk()
+          ? recordBatchList.get(recordBatchIndex)
+          : null;
+    }
+    synchronized (recordBatchLock) {
+      if (recordBatchList == null) {
+        return null;
+      }
+      while (consumedRecordBatchCount < Math.min(recordBatchIndex, recordBatchList.size())) {
+        recordBatchList.get(consumedRecordBatchCount++).forEach(ValueVector::close);
+      }
+      recordBatchLock.notifyAll();
+
+      long deadlineNanos =
+          System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(chunkReadyTimeoutSeconds, 0));
+      while (recordBatchIndex >= recordBatchList.size()) {
+        ChunkStatus status = getStatus();
+        if (status == ChunkStatus.PROCESSING_SUCCEEDED) {
+          return null;
+        }
+        if (recordBatchReadError != null || status == ChunkStatus.CHUNK_RELEASED) {
+          throw new DatabricksSQLException(
+              String.format(
+                  "Failed to read record batch %d of chunk index %d and statement %s",
+                  recordBatchIndex, chunkIndex, statementId),
+              recordBatchReadError,
+              DatabricksDriverErrorCode.CHUNK_READY_ERROR);
+        }
+        try {
+          if (chunkReadyTimeoutSeconds <= 0) {
+            recordBatchLock.wait();
+          } else {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMillis <= 0) {
+              throw new DatabricksSQLException(
+                  String.format(
+                      "Record batch %d of chunk index %d and statement %s not ready within %d seconds",
+                      recordBatchIndex, chunkIndex, statementId, chunkReadyTimeoutSeconds),
+                  DatabricksDriverErrorCode.CHUNK_READY_ERROR);
+            }
+            recordBatchLock.wait(remainingMillis);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new DatabricksSQLException(
+              "Operation interrupted while waiting for record batch",
+              e,
+              DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+        }
+      }
+      return recordBatchList.get(recordBatchIndex);
+    }
+  }
+
+  /**
+   * Wakes the iterator of a progressively read chunk waiting for record batches that will not be
+   * parsed because the download failed.
+   *
+   * @param cause the reason the download failed
+   */
+  protected void failRecordBatchRead(Throwable cause) {
+    synchronized (recordBatchLock) {
+      recordBatchReadError = cause;
+      recordBatchLock.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the time the parsing of a progressively read chunk waited for its record batches to be
+   * consumed.
+   *
+   * @return duration in nanoseconds
+   */
+  protected long getRecordBatchWaitNanos() {
+    return recordBatchWaitNanos;
+  }
+
+  /**
+   * Returns the size of the chunk's Arrow data as reported by the server.
+   *
+   * @return size in bytes, or 0 if unknown
+   */
+  protected long getByteCount() {
+    return byteCount;
+  }
+
+  /**
+   * Returns the time taken to download and parse the chunk.
+   *
+   * @return duration in nanoseconds, or 0 if the chunk is not ready or was provided inline
+   */
+  protected long getDownloadDurationNanos() {
+    return downloadDurationNanos;
+  }
+
   /**
    * Returns the total number of rows in the chunk.
    *
@@ -283,12 +551,38 @@ public abstract class AbstractArrowResultChunk {
    */
   protected void initializeData(InputStream inputStream)
       throws DatabricksSQLException, IOException {
-    LOGGER.debug("Parsing data for chunk index %s and statement %s", chunkIndex, statementId);
-    ArrowData arrowData = getRecordBatchList(inputStream, rootAllocator, statementId, chunkIndex);
-    recordBatchList = arrowData.getValueVectors();
-    arrowMetadata = arrowData.getMetadata();
-    LOGGER.debug("Data parsed for chunk index %s and statement %s", chunkIndex, statementId);
-    setStatus(ChunkStatus.PROCESSING_SUCCEEDED);
+    LOGGER.debug("Parsing data for chunk index {} and statement {}", chunkIndex, statementId);
+    if (isReadProgressively()) {
+      readRecordBatchesProgressively(inputStream);
+      LOGGER.debug("Data parsed for chunk index {} and statement {}", chunkIndex, statementId);
+      return;
+    }
+    startReadingRecordBatches();
+    ArrowData arrowData = null;
+    boolean released;
+    try {
+      arrowData = getRecordBatchList(inputStream, chunkAllocator, statementId, chunkIndex);
+    } finally {
+      synchronized (recordBatchLock) {
+        readingRecordBatches = false;
+        released = getStatus() == ChunkStatus.CHUNK_RELEASED;
+        if (released) {
+          // Nothing reads the record batches of a chunk released while it was parsed
+          if (arrowData != null) {
+            purgeArrowData(arrowData.getValueVectors());
+          }
+          closeChunkAllocator();
+        } else if (arrowData != null) {
+          recordBatchList = arrowData.getValueVectors();
+          arrowMetadata = arrowData.getMetadata();
+          setStatus(ChunkStatus.PROCESSING_SUCCEEDED);
+        }
+      }
+    }
+    if (released) {
+      throw new IOException("Chunk released while its data was parsed");
+    }
+    LOGGER.debug("Data parsed for chunk index {} and statement {}", chunkIndex, statementId);
   }
 
   protected List<String> getArrowMetadata() {
@@ -300,14 +594,11 @@ public abstract class AbstractArrowResultChunk {
    * Each record batch is represented as a list of {@link ValueVector}s.
    */
   private ArrowData getRecordBatchList(
-      InputStream inputStream,
-      BufferAllocator rootAllocator,
-      StatementId statementId,
-      long chunkIndex)
+      InputStream inputStream, BufferAllocator allocator, StatementId statementId, long chunkIndex)
       throws IOException {
     List<List<ValueVector>> recordBatchList = new ArrayList<>();
     List<String> metadata = new ArrayList<>();
-    try (ArrowStreamReader arrowStreamReader = new ArrowStreamReader(inputStream, rootAllocator)) {
+    try (ArrowStreamReader arrowStreamReader = new ArrowStreamReader(inputStream, allocator)) {
       VectorSchemaRoot vectorSchemaRoot = arrowStreamReader.getVectorSchemaRoot();
       boolean fetchedMetadata = false;
       while (arrowStreamReader.loadNextBatch()) {
@@ -315,7 +606,7 @@ public abstract class AbstractArrowResultChunk {
           metadata = getMetadataInformationFromSchemaRoot(vectorSchemaRoot);
           fetchedMetadata = true;
         }
-        recordBatchList.add(getVectorsFromSchemaRoot(vectorSchemaRoot, rootAllocator));
+        recordBatchList.add(getVectorsFromSchemaRoot(vectorSchemaRoot, allocator));
         vectorSchemaRoot.clear();
       }
     } catch (ClosedByInterruptException e) {
@@ -332,11 +623,153 @@ public abstract class AbstractArrowResultChunk {
           "Error while reading arrow data, purging the local list and rethrowing the exception.");
       purgeArrowData(recordBatchList);
       throw e;
+    } catch (OutOfMemoryException e) {
+      // Rethrown as IOException so that the download is retried once memory has been released
+      LOGGER.warn(
+          "Arrow memory limit reached while reading chunk index [{}] and statement [{}]. Allocated: {}, Limit: {}",
+          chunkIndex,
+          statementId,
+          ArrowMemoryManager.getAllocatedMemory(),
+          ArrowMemoryManager.getMemoryLimit());
+      purgeArrowData(recordBatchList);
+      throw new IOException("Arrow memory limit reached while reading chunk data", e);
     }
 
     return new ArrowData(recordBatchList, metadata);
   }
 
+  /**
+   * Reads the record batches from the input stream, publishing each to the iterator as soon as it
+   * is parsed and completing {@link #chunkReadyFuture} with the first one. Parsing waits while
+   * {@link #getMaxUnreadRecordBatches} batches are unread.
+   *
+   * <p>The batches published before a failure are kept, since the iterator may be reading them, and
+   * a retried download skips them. If the chunk is released while it is parsed, parsing stops and
+   * the batches are freed.
+   */
+  private void readRecordBatchesProgressively(InputStream inputStream) throws IOException {
+    int publishedBatchCount;
+    synchronized (recordBatchLock) {
+      startReadingRecordBatches();
+      if (recordBatchList == null) {
+        recordBatchList = new ArrayList<>();
+      }
+      publishedBatchCount = recordBatchList.size();
+    }
+    boolean allBatchesRead = false;
+    try {
+      try (ArrowStreamReader arrowStreamReader =
+          new ArrowStreamReader(inputStream, chunkAllocator)) {
+        VectorSchemaRoot vectorSchemaRoot = arrowStreamReader.getVectorSchemaRoot();
+        int batchIndex = 0;
+        while (arrowStreamReader.loadNextBatch()) {
+          if (batchIndex++ < publishedBatchCount) {
+            // Published by a previous download attempt
+            vectorSchemaRoot.clear();
+            continue;
+          }
+          if (arrowMetadata == null) {
+            arrowMetadata = getMetadataInformationFromSchemaRoot(vectorSchemaRoot);
+          }
+          List<ValueVector> recordBatch =
+              getVectorsFromSchemaRoot(vectorSchemaRoot, chunkAllocator);
+          vectorSchemaRoot.clear();
+          publishRecordBatch(recordBatch);
+        }
+      }
+      allBatchesRead = true;
+    } catch (OutOfMemoryException e) {
+      LOGGER.warn(
+          "Arrow memory limit reached while reading chunk index [{}] and statement [{}]. Allocated: {}, Limit: {}",
+          chunkIndex,
+          statementId,
+          ArrowMemoryManager.getAllocatedMemory(),
+          ArrowMemoryManager.getMemoryLimit());
+      throw new IOException("Arrow memory limit reached while reading chunk data", e);
+    } finally {
+      synchronized (recordBatchLock) {
+        readingRecordBatches = false;
+        if (getStatus() == ChunkStatus.CHUNK_RELEASED) {
+          purgeArrowData(recordBatchList);
+          closeChunkAllocator();
+        } else if (allBatchesRead) {
+          if (arrowMetadata == null) {
+            arrowMetadata = new ArrayList<>();
+          }
+          setStatus(ChunkStatus.PROCESSING_SUCCEEDED);
+        }
+        recordBatchLock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Marks the chunk as being parsed, so that releasing it leaves freeing its record batches and
+   * closing its allocator to the parsing thread.
+   *
+   * @throws IOException if the chunk was already released
+   */
+  private void startReadingRecordBatches() throws IOException {
+    synchronized (recordBatchLock) {
+      if (getStatus() == ChunkStatus.CHUNK_RELEASED) {
+        throw new IOException("Chunk released before its data was parsed");
+      }
+      readingRecordBatches = true;
+    }
+  }
+
+  /** Closes the chunk allocator, and its statement allocator if that was closed in the meantime. */
+  private void closeChunkAllocator() {
+    chunkAllocator.close();
+    ArrowMemoryManager.onChunkAllocatorClosed(chunkAllocator);
+  }
+
+  /**
+   * Makes the record batch available to the iterator, first waiting while {@link
+   * #getMaxUnreadRecordBatches} batches are unread, for at most {@link
+   * #getUnreadRecordBatchTimeoutSeconds}.
+   */
+  private void publishRecordBatch(List<ValueVector> recordBatch) throws IOException {
+    synchronized (recordBatchLock) {
+      long waitStartNanos = System.nanoTime();
+      long timeoutNanos = TimeUnit.SECONDS.toNanos(getUnreadRecordBatchTimeoutSeconds());
+      try {
+        while (recordBatchList.size() - consumedRecordBatchCount >= getMaxUnreadRecordBatches()
+            && getStatus() != ChunkStatus.CHUNK_RELEASED) {
+          if (timeoutNanos <= 0) {
+            recordBatchLock.wait();
+            continue;
+          }
+          long remainingMillis =
+              TimeUnit.NANOSECONDS.toMillis(timeoutNanos - (System.nanoTime() - waitStartNanos));
+          if (remainingMillis <= 0) {
+            unreadRecordBatchTimedOut = true;
+            recordBatch.forEach(ValueVector::close);
+            throw new IOException(
+                String.format(
+                    "Record batches of chunk index %d and statement %s not read within %d seconds",
+                    chunkIndex, statementId, getUnreadRecordBatchTimeoutSeconds()));
+          }
+          recordBatchLock.wait(remainingMillis);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        recordBatch.forEach(ValueVector::close);
+        throw new InterruptedIOException("Interrupted while waiting for record batches to be read");
+      } finally {
+        recordBatchWaitNanos += System.nanoTime() - waitStartNanos;
+      }
+      if (getStatus() == ChunkStatus.CHUNK_RELEASED) {
+        recordBatch.forEach(ValueVector::close);
+        throw new IOException("Chunk released while its data was parsed");
+      }
+      recordBatchList.add(recordBatch);
+      recordBatchLock.notifyAll();
+    }
+    // The chunk is ready as soon as its first record batch can be read
+    chunkReadyFuture.complete(null);
+  }
+
   private List<String> getMetadataInformationFromSchemaRoot(VectorSchemaRoot vectorSchemaRoot) {
     return vectorSchemaRoot.getFieldVectors().stream()
         .map(fieldVector -> fieldVector.getField().getMetadata().get(ARROW_METADATA_KEY))
@@ -347,11 +780,11 @@ public abstract class AbstractArrowResultChunk {
    * Transfers the data from the given {@link VectorSchemaRoot} to a list of {@link ValueVector}s.
    */
   private List<ValueVector> getVectorsFromSchemaRoot(
-      VectorSchemaRoot vectorSchemaRoot, BufferAllocator rootAllocator) {
+      VectorSchemaRoot vectorSchemaRoot, BufferAllocator allocator) {
     return vectorSchemaRoot.getFieldVectors().stream()
         .map(
             fieldVector -> {
-              TransferPair transferPair = fieldVector.getTransferPair(rootAllocator);
+              TransferPair transferPair = fieldVector.getTransferPair(allocator);
               transferPair.transfer();
               return transferPair.getTo();
             })
@@ -359,14 +792,21 @@ public abstract class AbstractArrowResultChunk {
   }
 
   private void logAllocatorStats(String event) {
-    long allocatedMemory = rootAllocator.getAllocatedMemory();
-    long peakMemory = rootAllocator.getPeakMemoryAllocation();
-    long headRoom = rootAllocator.getHeadroom();
-    long initReservation = rootAllocator.getInitReservation();
+    long allocatedMemory = chunkAllocator.getAllocatedMemory();
+    long peakMemory = chunkAllocator.getPeakMemoryAllocation();
+    long headRoom = chunkAllocator.getHeadroom();
+    long initReservation = chunkAllocator.getInitReservation();
 
     LOGGER.debug(
-        "Chunk allocator stats Log - Event: %s, Chunk Index: %s, Allocated Memory: %s, Peak Memory: %s, Headroom: %s, Init Reservation: %s",
-        event, chunkIndex, allocatedMemory, peakMemory, headRoom, initReservation);
+        "Chunk allocator stats Log - Event: {}, Chunk Index: {}, Allocated Memory: {}, Peak Memory: {}, Headroom: {}, Init Reservation: {}, Driver Allocated Memory: {}, Driver Peak Memory: {}",
+        event,
+        chunkIndex,
+        allocatedMemory,
+        peakMemory,
+        headRoom,
+        initReservation,
+        ArrowMemoryManager.getAllocatedMemory(),
+        ArrowMemoryManager.getPeakMemoryAllocation());
   }
 
   /** Releases all Arrow-related resources and clears the record batch list. */
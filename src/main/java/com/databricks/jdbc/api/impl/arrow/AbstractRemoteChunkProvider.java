@@ -1,8 +1,10 @@
 package com.databricks.jdbc.api.impl.arrow;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
 import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.common.util.DatabricksThriftUtil;
 import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
@@ -19,10 +21,12 @@ import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.jdbc.telemetry.latency.TelemetryCollector;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import org.apache.arrow.memory.BufferAllocator;
 
 /**
  * Abstract base implementation of both {@link ChunkProvider} and {@link ChunkDownloadManager}
@@ -44,12 +48,19 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
   protected final IDatabricksHttpClient httpClient;
   protected final CompressionCodec compressionCodec;
   protected final ConcurrentMap<Long, T> chunkIndexToChunksMap;
-  protected long chunkCount;
-  protected long rowCount;
+  protected volatile long chunkCount;
+  protected volatile long rowCount;
   protected long currentChunkIndex;
   protected long nextChunkToDownload;
   protected long totalChunksInMemory;
   protected long allowedChunksInMemory;
+
+  /** Limits the chunks downloaded ahead of the consumer by count, size and observed speeds. */
+  protected ChunkPrefetchWindow prefetchWindow;
+
+  /** Time at which the consumer got the current chunk, 0 if it has not yet. */
+  private long currentChunkReadyNanos;
+
   protected boolean isClosed;
 
   /** Maximum number of parallel chunk downloads allowed per query. */
@@ -58,6 +69,33 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
   protected final ChunkLinkDownloadService<T> linkDownloadService;
   protected final int chunkReadyTimeoutSeconds;
 
+  /** Whether downloaded chunks are decompressed while they are read from the response body. */
+  protected final boolean streamingChunkDecompression;
+
+  /** Number of LZ4 blocks of a streamed chunk decompressed concurrently. */
+  protected final int chunkDecompressionParallelism;
+
+  /** Whether record batches of a chunk are readable before the whole chunk is downloaded. */
+  protected final boolean progressiveChunkReading;
+
+  /** Maximum number of unread record batches of a progressively read chunk. */
+  protected final int progressiveChunkReadAheadBatches;
+
+  /** Time limit for a progressively read chunk to wait for its record batches to be read. */
+  protected final int progressiveChunkReadTimeoutSeconds;
+
+  /** Parent allocator of the chunks of this statement. */
+  protected final BufferAllocator statementAllocator;
+
+  /** Statement of a Thrift result, used to fetch further pages of result links. */
+  private final IDatabricksStatementInternal parentStatement;
+
+  /** Whether pages of result links remain to be fetched while the result is read. */
+  private volatile boolean hasMoreLinkPages;
+
+  private volatile Throwable linkPageFetchError;
+  private CompletableFuture<Void> linkPageFetch;
+
   protected AbstractRemoteChunkProvider(
       StatementId statementId,
       ResultManifest resultManifest,
@@ -68,11 +106,23 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
       CompressionCodec compressionCodec)
       throws DatabricksSQLException {
     this.chunkReadyTimeoutSeconds = session.getConnectionContext().getChunkReadyTimeoutSeconds();
+    this.streamingChunkDecompression =
+        session.getConnectionContext().isStreamingChunkDecompressionEnabled();
+    this.chunkDecompressionParallelism =
+        session.getConnectionContext().getChunkDecompressionParallelism();
+    this.progressiveChunkReading =
+        session.getConnectionContext().isProgressiveChunkReadingEnabled();
+    this.progressiveChunkReadAheadBatches =
+        session.getConnectionContext().getProgressiveChunkReadAheadBatches();
+    this.progressiveChunkReadTimeoutSeconds =
+        session.getConnectionContext().getProgressiveChunkReadTimeoutSeconds();
     this.maxParallelChunkDownloadsPerQuery = maxParallelChunkDownloadsPerQuery;
     this.session = session;
     this.httpClient = httpClient;
     this.statementId = statementId;
     this.compressionCodec = compressionCodec;
+    this.statementAllocator = createStatementAllocator(session, statementId);
+    this.parentStatement = null;
     this.chunkCount = resultManifest.getTotalChunkCount();
     this.rowCount = resultManifest.getTotalRowCount();
     this.chunkIndexToChunksMap = initializeChunksMap(resultManifest, resultData, statementId);
@@ -96,16 +146,29 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
       CompressionCodec compressionCodec)
       throws DatabricksSQLException {
     this.chunkReadyTimeoutSeconds = session.getConnectionContext().getChunkReadyTimeoutSeconds();
+    this.streamingChunkDecompression =
+        session.getConnectionContext().isStreamingChunkDecompressionEnabled();
+    this.chunkDecompressionParallelism =
+        session.getConnectionContext().getChunkDecompressionParallelism();
+    this.progressiveChunkReading =
+        session.getConnectionContext().isProgressiveChunkReadingEnabled();
+    this.progressiveChunkReadAheadBatches =
+        session.getConnectionContext().getProgressiveChunkReadAheadBatches();
+    this.progressiveChunkReadTimeoutSeconds =
+        session.getConnectionContext().getProgressiveChunkReadTimeoutSeconds();
     this.maxParallelChunkDownloadsPerQuery = maxParallelChunkDownloadsPerQuery;
     this.session = session;
     this.httpClient = httpClient;
     this.statementId = parentStatement.getStatementId();
     this.compressionCodec = compressionCodec;
+    this.statementAllocator = createStatementAllocator(session, statementId);
+    this.parentStatement = parentStatement;
     this.chunkIndexToChunksMap = initializeChunksMap(resultsResp, parentStatement, session);
     this.linkDownloadService =
         new ChunkLinkDownloadService<>(
             session, statementId, chunkCount, chunkIndexToChunksMap, chunkCount);
     initializeData();
+    fetchMoreLinksIfNeeded();
   }
 
   /** Creates chunk {@link T} based on the {@link BaseChunkInfo}. Used in SQL Execution API flow. */
@@ -129,7 +192,20 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
   /** {@inheritDoc} */
   @Override
   public boolean hasNextChunk() {
-    return currentChunkIndex < chunkCount - 1;
+    while (currentChunkIndex >= chunkCount - 1 && hasMoreLinkPages && !isClosed) {
+      // The consumer caught up with the known links, wait for the next page
+      try {
+        startLinkPageFetch().get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException e) {
+        // Recorded by the fetch, next() reports it
+        break;
+      }
+    }
+    // A failed page fetch is reported by next(), so it is not mistaken for the end of the result
+    return currentChunkIndex < chunkCount - 1 || linkPageFetchError != null;
   }
 
   @Override
@@ -174,6 +250,9 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
           "Failed to ready chunk", e.getCause(), DatabricksDriverErrorCode.CHUNK_READY_ERROR);
     }
 
+    if (currentChunkReadyNanos == 0) {
+      currentChunkReadyNanos = System.nanoTime();
+    }
     return chunk;
   }
 
@@ -187,8 +266,19 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
     if (!hasNextChunk()) {
       return false;
     }
+    if (currentChunkIndex >= chunkCount - 1 && linkPageFetchError != null) {
+      throw new DatabricksSQLException(
+          "Failed to fetch result links",
+          linkPageFetchError,
+          DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
+    }
     // go to next chunk
     currentChunkIndex++;
+    if (hasMoreLinkPages || nextChunkToDownload <= currentChunkIndex) {
+      // Links of the chunk may have arrived after the last download round
+      downloadNextChunks();
+      fetchMoreLinksIfNeeded();
+    }
     return true;
   }
 
@@ -204,6 +294,7 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
       doClose();
     } finally {
       linkDownloadService.shutdown();
+      ArrowMemoryManager.closeStatementAllocator(statementAllocator);
     }
   }
 
@@ -220,6 +311,15 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
     // Default implementation does nothing
   }
 
+  private static BufferAllocator createStatementAllocator(
+      IDatabricksSession session, StatementId statementId) {
+    IDatabricksConnectionContext connectionContext = session.getConnectionContext();
+    if (connectionContext.isPropertyPresent(DatabricksJdbcUrlParams.ARROW_MEMORY_LIMIT_MB)) {
+      ArrowMemoryManager.applyLimit(connectionContext.getArrowMemoryLimitMB());
+    }
+    return ArrowMemoryManager.newStatementAllocator(String.valueOf(statementId));
+  }
+
   private void initializeData() throws DatabricksSQLException {
     DatabricksThreadContextHolder.setStatementId(statementId);
     // No chunks are downloaded, we need to start from first one
@@ -228,8 +328,16 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
     currentChunkIndex = -1L;
     // We don't have any chunk in downloaded yet
     totalChunksInMemory = 0L;
-    // Number of worker threads are directly linked to allowed chunks in memory
-    allowedChunksInMemory = Math.min(maxParallelChunkDownloadsPerQuery, chunkCount);
+    // Number of worker threads are directly linked to allowed chunks in memory. While links are
+    // fetched page by page, the final chunk count is not known yet.
+    allowedChunksInMemory =
+        hasMoreLinkPages
+            ? maxParallelChunkDownloadsPerQuery
+            : Math.min(maxParallelChunkDownloadsPerQuery, chunkCount);
+    prefetchWindow =
+        new ChunkPrefetchWindow(
+            allowedChunksInMemory,
+            session.getConnectionContext().getCloudFetchPrefetchMemoryMB() * 1024L * 1024L);
     // The first link is available
     downloadNextChunks();
   }
@@ -243,7 +351,7 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
     }
 
     for (BaseChunkInfo chunkInfo : resultManifest.getChunks()) {
-      LOGGER.debug("Manifest chunk information: " + chunkInfo.toString());
+      LOGGER.debug("Manifest chunk information: {}", chunkInfo);
       chunkIndexMap.put(
           chunkInfo.getChunkIndex(),
           createChunk(statementId, chunkInfo.getChunkIndex(), chunkInfo));
@@ -263,6 +371,11 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
       throws DatabricksSQLException {
     ConcurrentMap<Long, T> chunkIndexMap = new ConcurrentHashMap<>();
     populateChunkIndexMap(resultsResp.getResults(), chunkIndexMap);
+    if (resultsResp.hasMoreRows && session.getConnectionContext().isLazyResultLinkFetchEnabled()) {
+      // Remaining pages are fetched in the background as the result is read
+      hasMoreLinkPages = true;
+      return chunkIndexMap;
+    }
     while (resultsResp.hasMoreRows) {
       resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
       populateChunkIndexMap(resultsResp.getResults(), chunkIndexMap);
@@ -290,10 +403,80 @@ public abstract class AbstractRemoteChunkProvider<T extends AbstractArrowResultC
     }
   }
 
+  /**
+   * Admits the chunk into the prefetch window if the window has room for it. Subclasses call this
+   * before submitting a chunk for download.
+   *
+   * @return true if the chunk may be downloaded now
+   */
+  protected boolean tryAcquirePrefetchSlot(T chunk) {
+    return allowedChunksInMemory > 0
+        && totalChunksInMemory < allowedChunksInMemory
+        && prefetchWindow.tryAcquire(totalChunksInMemory, chunk.getByteCount());
+  }
+
+  /** Returns the window slot of a chunk that was admitted by {@link #tryAcquirePrefetchSlot}. */
+  protected void releasePrefetchSlot(T chunk) {
+    prefetchWindow.release(chunk.getByteCount(), 0, 0, 0);
+  }
+
+  /**
+   * Starts fetching the next page of result links in the background when the links not yet consumed
+   * run low.
+   */
+  private void fetchMoreLinksIfNeeded() {
+    if (hasMoreLinkPages
+        && chunkCount - Math.max(currentChunkIndex, 0) <= 2L * maxParallelChunkDownloadsPerQuery) {
+      startLinkPageFetch();
+    }
+  }
+
+  /** Returns the running page fetch, starting one if none is running. */
+  private synchronized CompletableFuture<Void> startLinkPageFetch() {
+    if (linkPageFetch == null || linkPageFetch.isDone()) {
+      linkPageFetch = ResultFetchExecutor.runAsync(this::fetchNextLinkPage);
+    }
+    return linkPageFetch;
+  }
+
+  private void fetchNextLinkPage() {
+    if (!hasMoreLinkPages || isClosed) {
+      return;
+    }
+    try {
+      TFetchResultsResp resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
+      synchronized (this) {
+        if (isClosed) {
+          return;
+        }
+        populateChunkIndexMap(resultsResp.getResults(), chunkIndexToChunksMap);
+        linkDownloadService.setTotalChunks(chunkCount);
+        hasMoreLinkPages = resultsResp.hasMoreRows;
+      }
+      LOGGER.debug(
+          "Fetched result links up to chunk {} for statement {}, more pages: {}",
+          chunkCount, statementId, hasMoreLinkPages);
+      if (!hasMoreLinkPages) {
+        TelemetryCollector.getInstance().recordTotalChunks(statementId, chunkCount);
+      }
+      downloadNextChunks();
+    } catch (DatabricksSQLException | RuntimeException e) {
+      LOGGER.error(
+          e, "Failed to fetch result links for statement {}: {}", statementId, e.getMessage());
+      linkPageFetchError = e;
+      hasMoreLinkPages = false;
+    }
+  }
+
   /** Release the memory for previous chunk since it is already consumed */
-  private void releaseChunk() throws DatabricksSQLException {
-    if (chunkIndexToChunksMap.get(currentChunkIndex).releaseChunk()) {
+  private synchronized void releaseChunk() throws DatabricksSQLException {
+    T chunk = chunkIndexToChunksMap.get(currentChunkIndex);
+    long consumeNanos = currentChunkReadyNanos > 0 ? System.nanoTime() - currentChunkReadyNanos : 0;
+    currentChunkReadyNanos = 0;
+    if (chunk.releaseChunk()) {
       totalChunksInMemory--;
+      prefetchWindow.release(
+          chunk.getByteCount(), chunk.getNumRows(), chunk.getDownloadDurationNanos(), consumeNanos);
       downloadNextChunks();
     }
   }
@@ -0,0 +1,243 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+
+/**
+ * Process-wide owner of the Arrow memory used for result data.
+ *
+ * <p>All result chunks allocate from a single {@link RootAllocator}. Each statement gets a child
+ * allocator of the root and each chunk a child allocator of its statement, so the memory held by a
+ * statement or chunk can be inspected and the total can be bounded by {@code ArrowMemoryLimitMB}.
+ * The limit is process-wide: every connection that sets {@code ArrowMemoryLimitMB} replaces the
+ * limit for all connections, and the last one to do so wins.
+ *
+ * <p>Before a chunk is submitted for download, its estimated size is reserved, so a download never
+ * holds a download thread while it waits for memory. A result set that already has chunks in
+ * memory only {@link #tryReserve tries} to reserve and submits the chunk later, once it released
+ * one of its own. A result set without chunks in memory {@link #reserve waits} until other chunks
+ * are released, for at most {@link #MAX_RESERVATION_WAIT_MILLIS}. A reservation that does not fit
+ * is still granted once nothing else is reserved, so that a chunk larger than the budget is read.
+ */
+public final class ArrowMemoryManager {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ArrowMemoryManager.class);
+
+  static final long MAX_RESERVATION_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+  private static final long RESERVATION_POLL_MILLIS = 100;
+  private static final long BYTES_PER_MB = 1024L * 1024L;
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+  private static final Condition RELEASED = LOCK.newCondition();
+  private static long reservedBytes = 0;
+
+  /** Statement allocators closed while chunks of the statement were still being parsed. */
+  private static final Set<BufferAllocator> DEFERRED_STATEMENT_ALLOCATORS =
+      ConcurrentHashMap.newKeySet();
+
+  private ArrowMemoryManager() {
+    // Private constructor to prevent instantiation
+  }
+
+  private static class RootAllocatorHolder {
+    private static final BufferAllocator ROOT_ALLOCATOR = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  static BufferAllocator getRootAllocator() {
+    return RootAllocatorHolder.ROOT_ALLOCATOR;
+  }
+
+  /**
+   * Applies the memory limit configured on a connection. The limit is process-wide and shared by
+   * all connections, so it is only applied for connections that set {@code ArrowMemoryLimitMB}
+   * explicitly, with the last of them taking effect. The limit is never set below the memory
+   * already allocated, which could not be freed by lowering it.
+   *
+   * @param limitMB the limit in MB, or 0 for no limit
+   */
+  static void applyLimit(int limitMB) {
+    if (limitMB < 0) {
+      return;
+    }
+    long limitBytes = limitMB == 0 ? Long.MAX_VALUE : limitMB * BYTES_PER_MB;
+    long allocatedBytes = getAllocatedMemory();
+    if (limitBytes < allocatedBytes) {
+      LOGGER.warn(
+          "Arrow result memory limit of {} bytes is below the {} bytes already allocated, limiting to the allocated memory",
+          limitBytes,
+          allocatedBytes);
+      limitBytes = allocatedBytes;
+    }
+    if (getRootAllocator().getLimit() != limitBytes) {
+      LOGGER.info("Setting Arrow result memory limit to {} bytes", limitBytes);
+      getRootAllocator().setLimit(limitBytes);
+      signalReleased();
+    }
+  }
+
+  /**
+   * Creates the allocator for a statement's result data. It must be closed after all chunks of the
+   * statement are released.
+   */
+  static BufferAllocator newStatementAllocator(String statementId) {
+    return getRootAllocator().newChildAllocator("statement-" + statementId, 0, Long.MAX_VALUE);
+  }
+
+  /**
+   * Closes a statement allocator once all chunks of the statement are released. Chunks that were
+   * released while they were parsed still have an open allocator, in which case closing the
+   * statement allocator is deferred until the last of them is closed through {@link
+   * #onChunkAllocatorClosed}.
+   */
+  static void closeStatementAllocator(BufferAllocator statementAllocator) {
+    synchronized (DEFERRED_STATEMENT_ALLOCATORS) {
+      if (!statementAllocator.getChildAllocators().isEmpty()) {
+        LOGGER.debug(
+            "Deferring close of allocator {} until its chunks finish parsing",
+            statementAllocator.getName());
+        DEFERRED_STATEMENT_ALLOCATORS.add(statementAllocator);
+        return;
+      }
+      closeAllocator(statementAllocator);
+    }
+  }
+
+  /**
+   * Closes the statement allocator of a chunk allocator that was just closed, if closing it was
+   * deferred and no other chunk allocator of the statement is left.
+   */
+  static void onChunkAllocatorClosed(BufferAllocator chunkAllocator) {
+    BufferAllocator statementAllocator = chunkAllocator.getParentAllocator();
+    if (statementAllocator == null) {
+      return;
+    }
+    synchronized (DEFERRED_STATEMENT_ALLOCATORS) {
+      if (statementAllocator.getChildAllocators().isEmpty()
+          && DEFERRED_STATEMENT_ALLOCATORS.remove(statementAllocator)) {
+        closeAllocator(statementAllocator);
+      }
+    }
+  }
+
+  private static void closeAllocator(BufferAllocator allocator) {
+    try {
+      allocator.close();
+    } catch (IllegalStateException e) {
+      LOGGER.warn(
+          "Arrow memory of allocator {} not fully released on close. Allocated: {}. Error: {}",
+          allocator.getName(),
+          allocator.getAllocatedMemory(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Reserves memory for a chunk about to be downloaded if it fits in the memory limit.
+   *
+   * @param bytes estimated size of the chunk
+   * @return true if the memory was reserved
+   */
+  static boolean tryReserve(long bytes) {
+    LOCK.lock();
+    try {
+      if (!fits(bytes, getRootAllocator().getLimit())) {
+        return false;
+      }
+      reservedBytes += bytes;
+      return true;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Reserves memory for a chunk about to be downloaded, waiting while the memory limit is
+   * exhausted.
+   *
+   * @param bytes estimated size of the chunk
+   * @throws InterruptedException if the thread is interrupted while waiting
+   * @throws DatabricksSQLException if the memory is not released within {@link
+   *     #MAX_RESERVATION_WAIT_MILLIS}
+   */
+  static void reserve(long bytes) throws InterruptedException, DatabricksSQLException {
+    long limit = getRootAllocator().getLimit();
+    long deadline = System.currentTimeMillis() + MAX_RESERVATION_WAIT_MILLIS;
+    LOCK.lockInterruptibly();
+    try {
+      while (!fits(bytes, limit)) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          throw new DatabricksSQLException(
+              String.format(
+                  "Arrow memory limit of %d bytes still exhausted after %d ms, cannot reserve %d bytes. Allocated: %d, Reserved: %d",
+                  limit, MAX_RESERVATION_WAIT_MILLIS, bytes, getAllocatedMemory(), reservedBytes),
+              DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
+        }
+        // Released memory is signalled, the timeout also catches memory freed outside chunks
+        RELEASED.await(Math.min(remaining, RESERVATION_POLL_MILLIS), TimeUnit.MILLISECONDS);
+        limit = getRootAllocator().getLimit();
+      }
+      reservedBytes += bytes;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /** Returns memory reserved through {@link #reserve} and wakes up waiting downloads. */
+  static void release(long bytes) {
+    LOCK.lock();
+    try {
+      reservedBytes = Math.max(0, reservedBytes - bytes);
+      RELEASED.signalAll();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /** Wakes up waiting downloads after memory that was not reserved has been freed. */
+  static void signalReleased() {
+    LOCK.lock();
+    try {
+      RELEASED.signalAll();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  private static boolean fits(long bytes, long limit) {
+    return reservedBytes == 0 || Math.max(reservedBytes, getAllocatedMemory()) + bytes <= limit;
+  }
+
+  /** Returns the Arrow memory currently allocated for result data, in bytes. */
+  public static long getAllocatedMemory() {
+    return getRootAllocator().getAllocatedMemory();
+  }
+
+  /** Returns the highest Arrow memory allocated for result data since the driver was loaded. */
+  public static long getPeakMemoryAllocation() {
+    return getRootAllocator().getPeakMemoryAllocation();
+  }
+
+  /** Returns the limit on Arrow memory for result data in bytes, {@link Long#MAX_VALUE} if none. */
+  public static long getMemoryLimit() {
+    return getRootAllocator().getLimit();
+  }
+
+  /** Returns the memory currently reserved by chunks that are downloading or held in memory. */
+  public static long getReservedMemory() {
+    LOCK.lock();
+    try {
+      return reservedBytes;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+}
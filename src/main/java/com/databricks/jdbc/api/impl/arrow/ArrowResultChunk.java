@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
@@ -29,6 +30,21 @@ import org.apache.http.client.utils.URIBuilder;
 public class ArrowResultChunk extends AbstractArrowResultChunk {
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ArrowResultChunk.class);
 
+  /** Whether the response body is decompressed while it is read by the Arrow stream reader. */
+  private final boolean streamingDecompression;
+
+  /** Number of LZ4 blocks decompressed concurrently when decompressing while streaming. */
+  private final int decompressionParallelism;
+
+  /** Whether record batches are readable while the rest of the chunk is downloaded and parsed. */
+  private final boolean progressiveRead;
+
+  /** Maximum number of parsed record batches not read yet when the chunk is read progressively. */
+  private final int maxUnreadRecordBatches;
+
+  /** Time limit for parsing to wait for unread record batches to be read, 0 for no limit. */
+  private final int unreadRecordBatchTimeoutSeconds;
+
   private ArrowResultChunk(Builder builder) throws DatabricksParsingException {
     super(
         builder.numRows,
@@ -38,7 +54,15 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
         builder.status,
         builder.chunkLink,
         builder.expiryTime,
-        builder.chunkReadyTimeoutSeconds);
+        builder.chunkReadyTimeoutSeconds,
+        builder.parentAllocator);
+    this.streamingDecompression = builder.streamingDecompression;
+    this.decompressionParallelism = builder.decompressionParallelism;
+    // Data provided up front is parsed in the constructor, before anything could consume it
+    this.progressiveRead = builder.progressiveRead && builder.inputStream == null;
+    this.maxUnreadRecordBatches = Math.max(1, builder.maxUnreadRecordBatches);
+    this.unreadRecordBatchTimeoutSeconds = Math.max(0, builder.unreadRecordBatchTimeoutSeconds);
+    this.byteCount = builder.byteCount;
     if (builder.inputStream != null) {
       // Data is already available
       try {
@@ -58,7 +82,9 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
    *
    * <p>Downloads and processes the Arrow data chunk using the provided HTTP client and compression
    * codec. Makes a synchronous HTTP GET request to fetch the data, decompresses it, and initializes
-   * the chunk's data structures.
+   * the chunk's data structures. With streaming decompression enabled, the response body is
+   * decompressed and parsed as it arrives instead of being buffered in full first, with the LZ4
+   * blocks decompressed concurrently when a decompression parallelism above 1 is configured.
    *
    * @param httpClient the HTTP client used to download the chunk data
    * @param compressionCodec the codec used to decompress the downloaded data
@@ -93,9 +119,17 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
               "Data decompression for chunk index [%d] and statement [%s]",
               this.chunkIndex, this.statementId);
       InputStream uncompressedStream =
-          DecompressionUtil.decompress(
-              response.getEntity().getContent(), compressionCodec, decompressionContext);
+          streamingDecompression
+              ? DecompressionUtil.decompressStream(
+                  response.getEntity().getContent(),
+                  compressionCodec,
+                  decompressionContext,
+                  decompressionParallelism)
+              : DecompressionUtil.decompress(
+                  response.getEntity().getContent(), compressionCodec, decompressionContext);
       initializeData(uncompressedStream);
+      // Exclude the time a progressively read chunk waited for its rows to be consumed
+      downloadDurationNanos = System.nanoTime() - startTime - getRecordBatchWaitNanos();
     } catch (IOException | DatabricksSQLException | URISyntaxException e) {
       handleFailure(e, ChunkStatus.DOWNLOAD_FAILED);
     } finally {
@@ -124,10 +158,42 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
             "Data parsing failed for chunk index [%d] and statement [%s]. Exception [%s]",
             this.chunkIndex, this.statementId, exception);
     LOGGER.error(this.errorMessage);
-    setStatus(failedStatus);
+    if (getStatus() != ChunkStatus.CHUNK_RELEASED) {
+      setStatus(failedStatus);
+    }
     throw new DatabricksParsingException(errorMessage, exception, failedStatus.toString());
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Enabled with {@code EnableProgressiveChunkReading} for downloaded chunks.
+   */
+  @Override
+  protected boolean isReadProgressively() {
+    return progressiveRead;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Configured with {@code ProgressiveChunkReadAheadBatches}.
+   */
+  @Override
+  protected int getMaxUnreadRecordBatches() {
+    return maxUnreadRecordBatches;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Configured with {@code ProgressiveChunkReadTimeoutSeconds}.
+   */
+  @Override
+  protected int getUnreadRecordBatchTimeoutSeconds() {
+    return unreadRecordBatchTimeoutSeconds;
+  }
+
   private void addHeaders(HttpGet getRequest, Map<String, String> headers) {
     if (headers != null) {
       headers.forEach(getRequest::addHeader);
@@ -162,11 +228,18 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
     private long chunkIndex;
     private long numRows;
     private long rowOffset;
+    private long byteCount;
     private ExternalLink chunkLink;
     private StatementId statementId;
     private Instant expiryTime;
     private ChunkStatus status;
     private InputStream inputStream;
+    private boolean streamingDecompression;
+    private int decompressionParallelism;
+    private boolean progressiveRead;
+    private int maxUnreadRecordBatches = DEFAULT_MAX_UNREAD_RECORD_BATCHES;
+    private int unreadRecordBatchTimeoutSeconds = DEFAULT_UNREAD_RECORD_BATCH_TIMEOUT_SECONDS;
+    private BufferAllocator parentAllocator;
     private int chunkReadyTimeoutSeconds =
         Integer.parseInt(DatabricksJdbcUrlParams.CHUNK_READY_TIMEOUT_SECONDS.getDefaultValue());
 
@@ -179,6 +252,7 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
       this.chunkIndex = baseChunkInfo.getChunkIndex();
       this.numRows = baseChunkInfo.getRowCount();
       this.rowOffset = baseChunkInfo.getRowOffset();
+      this.byteCount = baseChunkInfo.getByteCount() != null ? baseChunkInfo.getByteCount() : 0;
       this.status = status == null ? ChunkStatus.PENDING : status;
       return this;
     }
@@ -194,6 +268,7 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
       this.chunkIndex = chunkIndex;
       this.numRows = chunkInfo.getRowCount();
       this.rowOffset = chunkInfo.getStartRowOffset();
+      this.byteCount = chunkInfo.getBytesNum();
       this.expiryTime = Instant.ofEpochMilli(chunkInfo.getExpiryTime());
       this.status =
           status == null
@@ -213,6 +288,36 @@ public class ArrowResultChunk extends AbstractArrowResultChunk {
       return this;
     }
 
+    public Builder withStreamingDecompression(boolean streamingDecompression) {
+      this.streamingDecompression = streamingDecompression;
+      return this;
+    }
+
+    public Builder withDecompressionParallelism(int decompressionParallelism) {
+      this.decompressionParallelism = decompressionParallelism;
+      return this;
+    }
+
+    public Builder withProgressiveRead(boolean progressiveRead) {
+      this.progressiveRead = progressiveRead;
+      return this;
+    }
+
+    public Builder withMaxUnreadRecordBatches(int maxUnreadRecordBatches) {
+      this.maxUnreadRecordBatches = maxUnreadRecordBatches;
+      return this;
+    }
+
+    public Builder withUnreadRecordBatchTimeoutSeconds(int unreadRecordBatchTimeoutSeconds) {
+      this.unreadRecordBatchTimeoutSeconds = unreadRecordBatchTimeoutSeconds;
+      return this;
+    }
+
+    public Builder withParentAllocator(BufferAllocator parentAllocator) {
+      this.parentAllocator = parentAllocator;
+      return this;
+    }
+
     public ArrowResultChunk build() throws DatabricksParsingException {
       return new ArrowResultChunk(this);
     }
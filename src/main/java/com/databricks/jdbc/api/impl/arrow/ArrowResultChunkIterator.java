@@ -1,9 +1,27 @@
 package com.databricks.jdbc.api.impl.arrow;
 
+import static com.databricks.jdbc.common.util.DatabricksTypeUtil.ARRAY;
+import static com.databricks.jdbc.common.util.DatabricksTypeUtil.MAP;
+import static com.databricks.jdbc.common.util.DatabricksTypeUtil.STRUCT;
+import static com.databricks.jdbc.common.util.DatabricksTypeUtil.TIMESTAMP;
+import static com.databricks.jdbc.common.util.DatabricksTypeUtil.VARIANT;
+
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
 import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TinyIntVector;
 import org.apache.arrow.vector.ValueVector;
 
 public class ArrowResultChunkIterator {
@@ -15,6 +33,9 @@ public class ArrowResultChunkIterator {
   // index of record batch in chunk
   private int recordBatchCursorInChunk;
 
+  // value vectors of record batch under consideration
+  private List<ValueVector> currentRecordBatch;
+
   // total number of rows in record batch under consideration
   private int rowsInRecordBatch;
 
@@ -24,6 +45,9 @@ public class ArrowResultChunkIterator {
   // total number of rows read
   private int rowsReadByIterator;
 
+  // accessors of the columns read by type, created on first access of each column
+  private CachedColumnAccessor[] cachedColumnAccessors = new CachedColumnAccessor[0];
+
   ArrowResultChunkIterator(AbstractArrowResultChunk resultChunk) {
     this.resultChunk = resultChunk;
     this.recordBatchesInChunk = resultChunk.getRecordBatchCountInChunk();
@@ -39,9 +63,13 @@ public class ArrowResultChunkIterator {
 
   /**
    * Moves iterator to the next row of the chunk. Returns false if it is at the last row in the
-   * chunk.
+   * chunk. When the chunk is read progressively, waits for the record batch of the row to be
+   * parsed.
+   *
+   * @throws DatabricksSQLException if the chunk fails before the record batch of the row is parsed,
+   *     or holds fewer rows than reported
    */
-  boolean nextRow() {
+  boolean nextRow() throws DatabricksSQLException {
     if (!hasNextRow()) {
       return false;
     }
@@ -51,15 +79,19 @@ public class ArrowResultChunkIterator {
       // reset rowCursor to 0
       rowCursorInRecordBatch = 0;
       // Fetches number of rows in the record batch using the number of values in the first column
-      // vector
-      recordBatchCursorInChunk++;
-      while (recordBatchCursorInChunk < recordBatchesInChunk
-          && resultChunk.recordBatchList.get(recordBatchCursorInChunk).get(0).getValueCount()
-              == 0) {
+      // vector, skipping empty record batches
+      do {
         recordBatchCursorInChunk++;
+        currentRecordBatch = resultChunk.getRecordBatch(recordBatchCursorInChunk);
+      } while (currentRecordBatch != null && currentRecordBatch.get(0).getValueCount() == 0);
+      if (currentRecordBatch == null) {
+        throw new DatabricksSQLException(
+            String.format(
+                "Chunk index %d holds %d rows, fewer than the %d rows reported",
+                resultChunk.getChunkIndex(), rowsReadByIterator, resultChunk.numRows),
+            DatabricksDriverErrorCode.CHUNK_READY_ERROR);
       }
-      rowsInRecordBatch =
-          resultChunk.recordBatchList.get(recordBatchCursorInChunk).get(0).getValueCount();
+      rowsInRecordBatch = currentRecordBatch.get(0).getValueCount();
     }
     rowsReadByIterator++;
 
@@ -69,23 +101,175 @@ public class ArrowResultChunkIterator {
   /** Returns whether the next row in the chunk exists. */
   boolean hasNextRow() {
     if (rowsReadByIterator >= resultChunk.numRows) return false;
+    // The record batches of a progressively read chunk may not all be parsed yet
+    if (resultChunk.isReadProgressively()) return true;
     // If there are more rows in record batch
     return (rowCursorInRecordBatch < rowsInRecordBatch - 1)
         // or there are more record batches to be processed
         || (recordBatchCursorInChunk < recordBatchesInChunk - 1);
   }
 
-  /** Returns object in the current row at the specified columnIndex. */
+  /**
+   * Returns object in the current row at the specified columnIndex. The accessor of the column is
+   * created on the first call and reused while the column is read with the same type.
+   */
   Object getColumnObjectAtCurrentRow(
       int columnIndex, ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo)
       throws DatabricksSQLException {
-    ValueVector columnVector =
-        this.resultChunk.getColumnVector(this.recordBatchCursorInChunk, columnIndex);
-    return ArrowToJavaObjectConverter.convert(
-        columnVector, this.rowCursorInRecordBatch, requiredType, arrowMetadata, columnInfo);
+    return getColumnObjectAtCurrentRow(
+        columnIndex, getColumnAccessor(columnIndex, requiredType, arrowMetadata, columnInfo));
+  }
+
+  /** Returns object in the current row at the specified columnIndex using a pre-bound accessor. */
+  Object getColumnObjectAtCurrentRow(int columnIndex, ArrowColumnAccessor columnAccessor)
+      throws DatabricksSQLException {
+    return columnAccessor.getObject(
+        getCurrentColumnVector(columnIndex), this.rowCursorInRecordBatch);
+  }
+
+  /**
+   * Returns whether the column at the specified columnIndex is backed by a fixed-width Arrow vector
+   * whose natural Java type matches the required type, so that it can be read through the primitive
+   * accessors without going through {@link ArrowToJavaObjectConverter}.
+   */
+  boolean isPrimitiveColumn(int columnIndex, ColumnInfoTypeName requiredType) {
+    String arrowMetadata = getType(columnIndex);
+    if (arrowMetadata != null
+        && (arrowMetadata.startsWith(ARRAY)
+            || arrowMetadata.startsWith(STRUCT)
+            || arrowMetadata.startsWith(MAP)
+            || arrowMetadata.startsWith(VARIANT)
+            || arrowMetadata.startsWith(TIMESTAMP))) {
+      return false;
+    }
+    ValueVector columnVector = getCurrentColumnVector(columnIndex);
+    switch (requiredType) {
+      case BYTE:
+        return columnVector instanceof TinyIntVector;
+      case SHORT:
+        return columnVector instanceof SmallIntVector;
+      case INT:
+        return columnVector instanceof IntVector;
+      case LONG:
+        return columnVector instanceof BigIntVector;
+      case FLOAT:
+        return columnVector instanceof Float4Vector;
+      case DOUBLE:
+        return columnVector instanceof Float8Vector;
+      case BOOLEAN:
+        return columnVector instanceof BitVector;
+      default:
+        return false;
+    }
+  }
+
+  /** Returns whether the value in the current row at the specified columnIndex is null. */
+  boolean isNullAtCurrentRow(int columnIndex) {
+    return getCurrentColumnVector(columnIndex).isNull(this.rowCursorInRecordBatch);
+  }
+
+  /** Returns the integral value in the current row at the specified columnIndex without boxing. */
+  long getLongAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+    ValueVector columnVector = getCurrentColumnVector(columnIndex);
+    if (columnVector instanceof BigIntVector) {
+      return ((BigIntVector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    if (columnVector instanceof IntVector) {
+      return ((IntVector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    if (columnVector instanceof SmallIntVector) {
+      return ((SmallIntVector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    if (columnVector instanceof TinyIntVector) {
+      return ((TinyIntVector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    throw unsupportedPrimitiveAccess(columnVector, "long");
+  }
+
+  /**
+   * Returns the floating point value in the current row at the specified columnIndex without
+   * boxing.
+   */
+  double getDoubleAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+    ValueVector columnVector = getCurrentColumnVector(columnIndex);
+    if (columnVector instanceof Float8Vector) {
+      return ((Float8Vector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    if (columnVector instanceof Float4Vector) {
+      return ((Float4Vector) columnVector).get(this.rowCursorInRecordBatch);
+    }
+    throw unsupportedPrimitiveAccess(columnVector, "double");
+  }
+
+  /** Returns the boolean value in the current row at the specified columnIndex without boxing. */
+  boolean getBooleanAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+    ValueVector columnVector = getCurrentColumnVector(columnIndex);
+    if (columnVector instanceof BitVector) {
+      return ((BitVector) columnVector).get(this.rowCursorInRecordBatch) != 0;
+    }
+    throw unsupportedPrimitiveAccess(columnVector, "boolean");
   }
 
   String getType(int columnIndex) {
     return this.resultChunk.getArrowMetadata().get(columnIndex);
   }
+
+  private ArrowColumnAccessor getColumnAccessor(
+      int columnIndex,
+      ColumnInfoTypeName requiredType,
+      String arrowMetadata,
+      ColumnInfo columnInfo) {
+    if (columnIndex >= cachedColumnAccessors.length) {
+      cachedColumnAccessors = Arrays.copyOf(cachedColumnAccessors, columnIndex + 1);
+    }
+    CachedColumnAccessor cachedAccessor = cachedColumnAccessors[columnIndex];
+    if (cachedAccessor == null
+        || !cachedAccessor.matches(requiredType, arrowMetadata, columnInfo)) {
+      cachedAccessor =
+          new CachedColumnAccessor(
+              requiredType,
+              arrowMetadata,
+              columnInfo,
+              ArrowToJavaObjectConverter.createAccessor(requiredType, arrowMetadata, columnInfo));
+      cachedColumnAccessors[columnIndex] = cachedAccessor;
+    }
+    return cachedAccessor.accessor;
+  }
+
+  private ValueVector getCurrentColumnVector(int columnIndex) {
+    return this.currentRecordBatch.get(columnIndex);
+  }
+
+  private static DatabricksSQLException unsupportedPrimitiveAccess(
+      ValueVector columnVector, String targetType) {
+    return new DatabricksSQLException(
+        String.format(
+            "Unsupported %s access for vector type %s",
+            targetType, columnVector.getClass().getSimpleName()),
+        DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
+  private static class CachedColumnAccessor {
+    private final ColumnInfoTypeName requiredType;
+    private final String arrowMetadata;
+    private final ColumnInfo columnInfo;
+    private final ArrowColumnAccessor accessor;
+
+    CachedColumnAccessor(
+        ColumnInfoTypeName requiredType,
+        String arrowMetadata,
+        ColumnInfo columnInfo,
+        ArrowColumnAccessor accessor) {
+      this.requiredType = requiredType;
+      this.arrowMetadata = arrowMetadata;
+      this.columnInfo = columnInfo;
+      this.accessor = accessor;
+    }
+
+    boolean matches(ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
+      return this.requiredType == requiredType
+          && Objects.equals(this.arrowMetadata, arrowMetadata)
+          && this.columnInfo == columnInfo;
+    }
+  }
 }
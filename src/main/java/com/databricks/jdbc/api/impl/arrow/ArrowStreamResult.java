@@ -4,6 +4,9 @@ import static com.databricks.jdbc.common.util.DatabricksThriftUtil.getColumnInfo
 
 import com.databricks.jdbc.api.impl.ComplexDataTypeParser;
 import com.databricks.jdbc.api.impl.IExecutionResult;
+import com.databricks.jdbc.api.impl.arrow.incubator.RemoteChunkProviderV2;
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
@@ -23,6 +26,7 @@ import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /** Result container for Arrow-based query results. */
 public class ArrowStreamResult implements IExecutionResult {
@@ -32,6 +36,9 @@ public class ArrowStreamResult implements IExecutionResult {
   private boolean isClosed;
   private ArrowResultChunkIterator chunkIterator;
   private List<ColumnInfo> columnInfos;
+  private ArrowColumnAccessor[] columnAccessors;
+  private boolean[] primitiveColumns;
+  private List<String> columnAccessorsMetadata;
   private final IDatabricksSession session;
 
   public ArrowStreamResult(
@@ -68,14 +75,23 @@ public class ArrowStreamResult implements IExecutionResult {
       LOGGER.debug(
           "Creating ArrowStreamResult with remote links for statementId: {}",
           statementId.toSQLExecStatementId());
+      int maxParallelChunkDownloads = session.getConnectionContext().getCloudFetchThreadPoolSize();
       this.chunkProvider =
-          new RemoteChunkProvider(
-              statementId,
-              resultManifest,
-              resultData,
-              session,
-              httpClient,
-              session.getConnectionContext().getCloudFetchThreadPoolSize());
+          session.getConnectionContext().isAsyncCloudFetchEnabled()
+              ? new RemoteChunkProviderV2(
+                  statementId,
+                  resultManifest,
+                  resultData,
+                  session,
+                  httpClient,
+                  maxParallelChunkDownloads)
+              : new RemoteChunkProvider(
+                  statementId,
+                  resultManifest,
+                  resultData,
+                  session,
+                  httpClient,
+                  maxParallelChunkDownloads);
     }
     this.columnInfos =
         resultManifest.getSchema().getColumnCount() == 0
@@ -112,14 +128,23 @@ public class ArrowStreamResult implements IExecutionResult {
     } else {
       CompressionCodec compressionCodec =
           CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
+      int maxParallelChunkDownloads = session.getConnectionContext().getCloudFetchThreadPoolSize();
       this.chunkProvider =
-          new RemoteChunkProvider(
-              parentStatement,
-              resultsResp,
-              session,
-              httpClient,
-              session.getConnectionContext().getCloudFetchThreadPoolSize(),
-              compressionCodec);
+          session.getConnectionContext().isAsyncCloudFetchEnabled()
+              ? new RemoteChunkProviderV2(
+                  parentStatement,
+                  resultsResp,
+                  session,
+                  httpClient,
+                  maxParallelChunkDownloads,
+                  compressionCodec)
+              : new RemoteChunkProvider(
+                  parentStatement,
+                  resultsResp,
+                  session,
+                  httpClient,
+                  maxParallelChunkDownloads,
+                  compressionCodec);
     }
   }
 
@@ -133,27 +158,40 @@ public class ArrowStreamResult implements IExecutionResult {
   /** {@inheritDoc} */
   @Override
   public Object getObject(int columnIndex) throws DatabricksSQLException {
-    ColumnInfoTypeName requiredType = columnInfos.get(columnIndex).getTypeName();
-    String arrowMetadata = chunkIterator.getType(columnIndex);
-    if (arrowMetadata == null) {
-      arrowMetadata = columnInfos.get(columnIndex).getTypeText();
-    }
+    return chunkIterator.getColumnObjectAtCurrentRow(columnIndex, columnAccessors[columnIndex]);
+  }
 
-    // Handle complex type conversion when complex datatype support is disabled
-    boolean isComplexDatatypeSupportEnabled =
-        this.session.getConnectionContext().isComplexDatatypeSupportEnabled();
-    if (!isComplexDatatypeSupportEnabled && isComplexType(requiredType)) {
-      LOGGER.debug("Complex datatype support is disabled, converting complex type to STRING");
-
-      Object result =
-          chunkIterator.getColumnObjectAtCurrentRow(
-              columnIndex, ColumnInfoTypeName.STRING, "STRING", columnInfos.get(columnIndex));
-      ComplexDataTypeParser parser = new ComplexDataTypeParser();
-      return parser.formatComplexTypeString(result.toString(), requiredType.name(), arrowMetadata);
-    }
+  /** {@inheritDoc} */
+  @Override
+  public boolean supportsPrimitiveAccess(int columnIndex) {
+    return primitiveColumns != null
+        && columnIndex >= 0
+        && columnIndex < primitiveColumns.length
+        && primitiveColumns[columnIndex];
+  }
 
-    return chunkIterator.getColumnObjectAtCurrentRow(
-        columnIndex, requiredType, arrowMetadata, columnInfos.get(columnIndex));
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNull(int columnIndex) {
+    return chunkIterator.isNullAtCurrentRow(columnIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getLong(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getLongAtCurrentRow(columnIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getDouble(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getDoubleAtCurrentRow(columnIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean getBoolean(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getBooleanAtCurrentRow(columnIndex);
   }
 
   /**
@@ -186,6 +224,9 @@ public class ArrowStreamResult implements IExecutionResult {
     if (chunkIterator == null || !chunkIterator.hasNextRow()) {
       chunkProvider.next();
       chunkIterator = chunkProvider.getChunk().getChunkIterator();
+      boolean hasRow = chunkIterator.nextRow();
+      bindColumnAccessors(chunkProvider.getChunk().getArrowMetadata(), hasRow);
+      return hasRow;
     }
 
     return chunkIterator.nextRow();
@@ -225,6 +266,62 @@ public class ArrowStreamResult implements IExecutionResult {
     return chunkProvider.getChunkCount();
   }
 
+  /**
+   * Builds the per-column accessors for the schema of the current chunk. The Arrow metadata and
+   * column info are resolved once here instead of on every cell, and the accessors are reused for
+   * subsequent chunks as long as their schema does not change.
+   */
+  private void bindColumnAccessors(List<String> arrowMetadata, boolean isPositionedOnRow) {
+    if (columnAccessors != null && Objects.equals(arrowMetadata, columnAccessorsMetadata)) {
+      return;
+    }
+    boolean isComplexDatatypeSupportEnabled =
+        session.getConnectionContext().isComplexDatatypeSupportEnabled();
+    int columnCount = columnInfos.size();
+    ArrowColumnAccessor[] accessors = new ArrowColumnAccessor[columnCount];
+    boolean[] primitives = new boolean[columnCount];
+    for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+      ColumnInfo columnInfo = columnInfos.get(columnIndex);
+      ColumnInfoTypeName requiredType = columnInfo.getTypeName();
+      String columnArrowMetadata =
+          arrowMetadata != null && columnIndex < arrowMetadata.size()
+              ? arrowMetadata.get(columnIndex)
+              : null;
+      if (columnArrowMetadata == null) {
+        columnArrowMetadata = columnInfo.getTypeText();
+      }
+      if (!isComplexDatatypeSupportEnabled && isComplexType(requiredType)) {
+        // Handle complex type conversion when complex datatype support is disabled
+        accessors[columnIndex] =
+            getComplexTypeAsStringAccessor(requiredType, columnArrowMetadata, columnInfo);
+      } else {
+        accessors[columnIndex] =
+            ArrowToJavaObjectConverter.createAccessor(
+                requiredType, columnArrowMetadata, columnInfo);
+        primitives[columnIndex] =
+            isPositionedOnRow && chunkIterator.isPrimitiveColumn(columnIndex, requiredType);
+      }
+    }
+    columnAccessors = accessors;
+    primitiveColumns = isPositionedOnRow ? primitives : null;
+    columnAccessorsMetadata = isPositionedOnRow ? arrowMetadata : null;
+  }
+
+  private static ArrowColumnAccessor getComplexTypeAsStringAccessor(
+      ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
+    LOGGER.debug("Complex datatype support is disabled, converting complex type to STRING");
+    ArrowColumnAccessor stringAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.STRING, "STRING", columnInfo);
+    ComplexDataTypeParser parser = new ComplexDataTypeParser();
+    return (columnVector, vectorIndex) -> {
+      Object result = stringAccessor.getObject(columnVector, vectorIndex);
+      if (result == null) {
+        return null;
+      }
+      return parser.formatComplexTypeString(result.toString(), requiredType.name(), arrowMetadata);
+    };
+  }
+
   private void setColumnInfo(TGetResultSetMetadataResp resultManifest) {
     columnInfos = new ArrayList<>();
     if (resultManifest.getSchema() == null) {
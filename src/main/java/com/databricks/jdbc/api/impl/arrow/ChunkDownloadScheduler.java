@@ -0,0 +1,219 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide scheduler for CloudFetch chunk downloads, shared by all {@link
+ * RemoteChunkProvider}s.
+ *
+ * <p>Downloads run on a single thread pool whose size is the global cap on concurrent downloads.
+ * Every result set submits its downloads to its own {@link StatementQueue}, which also limits the
+ * downloads running concurrently for that result set. When a thread becomes free, the scheduler
+ * takes the next download from the statement queues in round-robin order, so a result set with many
+ * queued chunks cannot starve the others. Idle threads are released after {@link
+ * #THREAD_KEEP_ALIVE_SECONDS}.
+ */
+final class ChunkDownloadScheduler {
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(ChunkDownloadScheduler.class);
+  private static final String CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX =
+      "databricks-jdbc-chunks-downloader-";
+  static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 128;
+  static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private final ThreadPoolExecutor executor;
+
+  /** Statement queues that have pending downloads and are below their own concurrency limit. */
+  private final Queue<StatementQueue> readyQueues = new ArrayDeque<>();
+
+  private int maxConcurrentDownloads;
+  private int activeDownloads;
+
+  ChunkDownloadScheduler(int maxConcurrentDownloads) {
+    this.maxConcurrentDownloads = maxConcurrentDownloads;
+    ThreadFactory threadFactory =
+        new ThreadFactory() {
+          private final AtomicInteger threadCount = new AtomicInteger(1);
+
+          public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setName(CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+    // Downloads are only handed to the executor when a slot is free, so the work queue stays short
+    this.executor =
+        new ThreadPoolExecutor(
+            maxConcurrentDownloads,
+            maxConcurrentDownloads,
+            THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  private static class InstanceHolder {
+    private static final ChunkDownloadScheduler INSTANCE =
+        new ChunkDownloadScheduler(DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+  }
+
+  static ChunkDownloadScheduler getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  /**
+   * Sets the cap on concurrent downloads across all statements. The cap is shared by the whole
+   * process, so it is only set for connections that configure {@code
+   * CloudFetchMaxConcurrentDownloads} explicitly, and the most recently configured value applies.
+   *
+   * @param maxConcurrentDownloads the cap, values below 1 are ignored
+   */
+  void setMaxConcurrentDownloads(int maxConcurrentDownloads) {
+    if (maxConcurrentDownloads < 1) {
+      return;
+    }
+    synchronized (this) {
+      if (this.maxConcurrentDownloads == maxConcurrentDownloads) {
+        return;
+      }
+      LOGGER.debug(
+          "Changing maximum concurrent chunk downloads from {} to {}",
+          this.maxConcurrentDownloads, maxConcurrentDownloads);
+      if (maxConcurrentDownloads > executor.getMaximumPoolSize()) {
+        executor.setMaximumPoolSize(maxConcurrentDownloads);
+        executor.setCorePoolSize(maxConcurrentDownloads);
+      } else {
+        executor.setCorePoolSize(maxConcurrentDownloads);
+        executor.setMaximumPoolSize(maxConcurrentDownloads);
+      }
+      this.maxConcurrentDownloads = maxConcurrentDownloads;
+      dispatch();
+    }
+  }
+
+  /**
+   * Creates the queue through which a result set submits its downloads.
+   *
+   * @param maxParallelDownloads maximum downloads of the result set running at the same time
+   */
+  StatementQueue newStatementQueue(int maxParallelDownloads) {
+    return new StatementQueue(Math.max(1, maxParallelDownloads));
+  }
+
+  synchronized int getActiveDownloads() {
+    return activeDownloads;
+  }
+
+  synchronized int getMaxConcurrentDownloads() {
+    return maxConcurrentDownloads;
+  }
+
+  /** Starts queued downloads while the global cap allows. Must hold the scheduler lock. */
+  private void dispatch() {
+    while (activeDownloads < maxConcurrentDownloads && !readyQueues.isEmpty()) {
+      StatementQueue queue = readyQueues.poll();
+      FutureTask<Void> task = queue.pending.poll();
+      if (task == null) {
+        queue.isReady = false;
+        continue;
+      }
+      queue.running.add(task);
+      activeDownloads++;
+      // Re-queued at the tail so that other statements get the next free slots
+      queue.isReady = !queue.pending.isEmpty() && queue.running.size() < queue.maxParallel;
+      if (queue.isReady) {
+        readyQueues.add(queue);
+      }
+      executor.execute(
+          () -> {
+            try {
+              task.run();
+            } finally {
+              // Not freed on cancel, a cancelled download runs until it notices the interrupt
+              onTaskDone(queue, task);
+            }
+          });
+    }
+  }
+
+  private synchronized void onTaskDone(StatementQueue queue, FutureTask<Void> task) {
+    if (queue.running.remove(task)) {
+      activeDownloads--;
+    }
+    if (!queue.isReady && !queue.isCancelled && !queue.pending.isEmpty()) {
+      queue.isReady = true;
+      readyQueues.add(queue);
+    }
+    dispatch();
+  }
+
+  /** Downloads of one result set. */
+  final class StatementQueue {
+    private final int maxParallel;
+    private final Queue<FutureTask<Void>> pending = new ArrayDeque<>();
+    private final Set<FutureTask<Void>> running = new HashSet<>();
+    private boolean isReady;
+    private boolean isCancelled;
+
+    private StatementQueue(int maxParallel) {
+      this.maxParallel = maxParallel;
+    }
+
+    /** Queues a download. It starts once a slot is free for both this statement and the process. */
+    void submit(Callable<Void> download) {
+      FutureTask<Void> task = new FutureTask<>(download);
+      synchronized (ChunkDownloadScheduler.this) {
+        if (isCancelled) {
+          return;
+        }
+        pending.add(task);
+        if (!isReady && running.size() < maxParallel) {
+          isReady = true;
+          readyQueues.add(this);
+        }
+        dispatch();
+      }
+    }
+
+    /** Drops queued downloads and interrupts the running ones. */
+    void cancel() {
+      FutureTask<?>[] runningTasks;
+      synchronized (ChunkDownloadScheduler.this) {
+        isCancelled = true;
+        pending.clear();
+        readyQueues.remove(this);
+        isReady = false;
+        runningTasks = running.toArray(new FutureTask<?>[0]);
+      }
+      for (FutureTask<?> task : runningTasks) {
+        task.cancel(true);
+      }
+    }
+
+    int getRunningCount() {
+      synchronized (ChunkDownloadScheduler.this) {
+        return running.size();
+      }
+    }
+
+    int getPendingCount() {
+      synchronized (ChunkDownloadScheduler.this) {
+        return pending.size();
+      }
+    }
+  }
+}
@@ -66,6 +66,23 @@ class ChunkDownloadTask implements DatabricksCallableTask {
               connectionContext != null ? connectionContext.getCloudFetchSpeedThreshold() : 0.1);
           downloadSuccessful = true;
         } catch (IOException | DatabricksSQLException e) {
+          if (chunk.getStatus() == ChunkStatus.CHUNK_RELEASED) {
+            // Released while its record batches were being read progressively
+            LOGGER.debug(
+                "Chunk index {} released while being downloaded, not retrying",
+                chunk.getChunkIndex());
+            break;
+          }
+          if (chunk.isUnreadRecordBatchTimedOut()) {
+            // Retrying would wait for the same reader again while holding a download thread
+            chunk.setStatus(ChunkStatus.DOWNLOAD_FAILED);
+            throw new DatabricksSQLException(
+                "Record batches of the chunk were not read in time",
+                e,
+                statementId,
+                chunk.getChunkIndex(),
+                DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR.name());
+          }
           retries++;
           if (retries >= MAX_RETRIES) {
             LOGGER.error(
@@ -105,6 +122,8 @@ class ChunkDownloadTask implements DatabricksCallableTask {
     } finally {
       if (downloadSuccessful) {
         chunk.getChunkReadyFuture().complete(null); // complete the void future successfully
+      } else if (chunk.getStatus() == ChunkStatus.CHUNK_RELEASED) {
+        LOGGER.debug("Download stopped for released chunk index {}", chunk.getChunkIndex());
       } else {
         LOGGER.info(
             "Uncaught exception during chunk download. Chunk index: %d, Error: %s",
@@ -118,6 +137,8 @@ class ChunkDownloadTask implements DatabricksCallableTask {
                 new DatabricksSQLException(
                     "Download failed for chunk index " + chunk.getChunkIndex(),
                     DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR));
+        // A progressively read chunk may already be ready, with its iterator waiting for rows
+        chunk.failRecordBatchRead(uncaughtException);
       }
 
       DatabricksThreadContextHolder.clearAllContext();
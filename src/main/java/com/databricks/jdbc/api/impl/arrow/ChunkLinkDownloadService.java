@@ -68,7 +68,7 @@ public class ChunkLinkDownloadService<T extends AbstractArrowResultChunk> {
 
   private final IDatabricksSession session;
   private final StatementId statementId;
-  private final long totalChunks;
+  private volatile long totalChunks;
   private final Map<Long, CompletableFuture<ExternalLink>> chunkIndexToLinkFuture;
   private final AtomicLong nextBatchStartIndex;
   private final AtomicBoolean isDownloadInProgress;
@@ -166,6 +166,21 @@ public class ChunkLinkDownloadService<T extends AbstractArrowResultChunk> {
     return chunkIndexToLinkFuture.get(chunkIndex);
   }
 
+  /**
+   * Extends the service to chunks whose links became known after it was created, when result links
+   * are fetched page by page.
+   *
+   * @param totalChunks the number of chunks now known, smaller values are ignored
+   */
+  public void setTotalChunks(long totalChunks) {
+    synchronized (resetLock) {
+      for (long i = this.totalChunks; i < totalChunks; i++) {
+        chunkIndexToLinkFuture.putIfAbsent(i, new CompletableFuture<>());
+      }
+      this.totalChunks = Math.max(this.totalChunks, totalChunks);
+    }
+  }
+
   /** Shuts down the service and cancels all pending operations. */
   public void shutdown() {
     LOGGER.info("Shutting down ChunkLinkDownloadService for statement {}", statementId);
@@ -0,0 +1,96 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+
+/**
+ * Decides how many chunks of a result are downloaded ahead of the consumer.
+ *
+ * <p>The window is bounded by the number of download threads and by a byte budget, using the chunk
+ * sizes reported by the server. Within these bounds the window adapts to the observed speeds: it
+ * holds enough chunks to hide the download latency behind the time the consumer takes to read a
+ * chunk, and no more. With a fast consumer and slow downloads the window grows to the thread limit,
+ * with a slow consumer it shrinks so that downloaded chunks do not pile up in memory.
+ *
+ * <p>A chunk is always admitted when no other chunk is in memory, so a chunk that is larger than
+ * the budget is still downloaded.
+ */
+class ChunkPrefetchWindow {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ChunkPrefetchWindow.class);
+
+  /** Weight of the latest sample in the moving averages of download and consume times. */
+  private static final double SMOOTHING_FACTOR = 0.3;
+
+  private final long maxChunks;
+  private final long byteBudget;
+  private long bytesInMemory;
+  private long targetChunks;
+  private double downloadNanosPerRow;
+  private double consumeNanosPerRow;
+
+  /**
+   * @param maxChunks maximum number of chunks in memory, the number of download threads
+   * @param byteBudget maximum bytes of chunks in memory, or 0 if not bounded by size
+   */
+  ChunkPrefetchWindow(long maxChunks, long byteBudget) {
+    this.maxChunks = Math.max(1, maxChunks);
+    this.byteBudget = byteBudget > 0 ? byteBudget : Long.MAX_VALUE;
+    // Until speeds are observed, prefetch as much as the limits allow
+    this.targetChunks = this.maxChunks;
+  }
+
+  /**
+   * Admits the next chunk into the window if it fits.
+   *
+   * @param chunksInMemory number of chunks downloaded or downloading and not yet released
+   * @param chunkBytes size of the next chunk, or 0 if unknown
+   * @return true if the chunk may be downloaded now
+   */
+  synchronized boolean tryAcquire(long chunksInMemory, long chunkBytes) {
+    if (chunksInMemory > 0
+        && (chunksInMemory >= targetChunks || bytesInMemory + chunkBytes > byteBudget)) {
+      return false;
+    }
+    bytesInMemory += chunkBytes;
+    return true;
+  }
+
+  /**
+   * Removes a consumed chunk from the window and adapts the window size to the observed speeds.
+   *
+   * @param chunkBytes size passed to {@link #tryAcquire} for the chunk
+   * @param rows number of rows in the chunk
+   * @param downloadNanos time taken to download and parse the chunk, or 0 if unknown
+   * @param consumeNanos time the consumer spent reading the chunk after it became ready
+   */
+  synchronized void release(long chunkBytes, long rows, long downloadNanos, long consumeNanos) {
+    bytesInMemory = Math.max(0, bytesInMemory - chunkBytes);
+    if (rows <= 0 || downloadNanos <= 0 || consumeNanos <= 0) {
+      return;
+    }
+    downloadNanosPerRow = smooth(downloadNanosPerRow, (double) downloadNanos / rows);
+    consumeNanosPerRow = smooth(consumeNanosPerRow, (double) consumeNanos / rows);
+    // While one chunk is consumed, (download time / consume time) downloads have to be in flight
+    // to have the next chunk ready; one more chunk absorbs variance in download times.
+    long chunksToHideLatency = (long) Math.ceil(downloadNanosPerRow / consumeNanosPerRow) + 1;
+    long newTarget = Math.max(1, Math.min(maxChunks, chunksToHideLatency));
+    if (newTarget != targetChunks) {
+      LOGGER.debug(
+          "Adjusting prefetch window from {} to {} chunks. Download ns/row: {}, Consume ns/row: {}",
+          targetChunks, newTarget, downloadNanosPerRow, consumeNanosPerRow);
+      targetChunks = newTarget;
+    }
+  }
+
+  synchronized long getTargetChunks() {
+    return targetChunks;
+  }
+
+  synchronized long getBytesInMemory() {
+    return bytesInMemory;
+  }
+
+  private static double smooth(double average, double sample) {
+    return average == 0 ? sample : average + SMOOTHING_FACTOR * (sample - average);
+  }
+}
@@ -3,9 +3,11 @@ package com.databricks.jdbc.api.impl.arrow;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.*;
 import static com.databricks.jdbc.common.util.DecompressionUtil.decompress;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
@@ -19,23 +21,46 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.arrow.vector.util.SchemaUtility;
 
-/** Class to manage inline Arrow chunks */
+/**
+ * Class to manage inline Arrow chunks.
+ *
+ * <p>For Thrift results every fetched {@link TSparkArrowBatch} is exposed as its own chunk, which
+ * is decompressed and parsed only when the reader reaches it. By default all pages of the result
+ * are fetched up front so that the row count is known. With {@link
+ * DatabricksJdbcUrlParams#ENABLE_LAZY_INLINE_RESULT_FETCH} the next page is only fetched once the
+ * batches of the current page are consumed, optionally reading one page ahead in the background.
+ */
 public class InlineChunkProvider implements ChunkProvider {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(InlineChunkProvider.class);
   private long totalRows;
   private long currentChunkIndex;
   private boolean isClosed;
-  private final ArrowResultChunk
-      arrowResultChunk; // There is only one packet of data in case of inline arrow
+  private ArrowResultChunk arrowResultChunk; // Chunk of the batch currently read
+
+  // State of Thrift results, whose batches are fetched page by page
+  private final Deque<TSparkArrowBatch> pendingBatches = new ArrayDeque<>();
+  private IDatabricksStatementInternal parentStatement;
+  private IDatabricksSession session;
+  private CompressionCodec compressionType;
+  private byte[] serializedSchema;
+  private boolean hasMorePages;
+  private boolean readAhead;
+  private CompletableFuture<TFetchResultsResp> nextPage;
+  private DatabricksSQLException pageFetchError;
 
   InlineChunkProvider(
       TFetchResultsResp resultsResp,
@@ -44,12 +69,26 @@ public class InlineChunkProvider implements ChunkProvider {
       throws DatabricksParsingException {
     this.currentChunkIndex = -1;
     this.totalRows = 0;
-    ByteArrayInputStream byteStream = initializeByteStream(resultsResp, session, parentStatement);
-    arrowResultChunk =
-        ArrowResultChunk.builder()
-            .withInputStream(byteStream, totalRows)
-            .withStatementId(parentStatement.getStatementId())
-            .build();
+    this.parentStatement = parentStatement;
+    this.session = session;
+    IDatabricksConnectionContext connectionContext = session.getConnectionContext();
+    boolean lazyFetch =
+        connectionContext != null && connectionContext.isLazyInlineResultFetchEnabled();
+    this.readAhead = lazyFetch && connectionContext.isInlineResultReadAheadEnabled();
+    this.compressionType =
+        CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
+    try {
+      this.serializedSchema = getSerializedSchema(resultsResp.getResultSetMetadata());
+      addPage(resultsResp);
+      while (!lazyFetch && hasMorePages) {
+        addPage(session.getDatabricksClient().getMoreResults(parentStatement));
+      }
+      // The first chunk is prepared eagerly, it also provides the metadata of the result
+      arrowResultChunk =
+          hasNextBatch() ? createBatchChunk(pendingBatches.poll()) : createBatchChunk(null);
+    } catch (DatabricksSQLException e) {
+      handleError(e);
+    }
   }
 
   /**
@@ -80,15 +119,28 @@ public class InlineChunkProvider implements ChunkProvider {
   /** {@inheritDoc} */
   @Override
   public boolean hasNextChunk() {
-    return this.currentChunkIndex == -1;
+    if (this.currentChunkIndex == -1) {
+      return true;
+    }
+    // A failed page fetch is reported by next(), so it is not mistaken for the end of the result
+    return hasNextBatch() || pageFetchError != null;
   }
 
   /** {@inheritDoc} */
   @Override
-  public boolean next() {
+  public boolean next() throws DatabricksSQLException {
     if (!hasNextChunk()) {
       return false;
     }
+    if (this.currentChunkIndex >= 0) {
+      if (pendingBatches.isEmpty()) {
+        DatabricksSQLException error = pageFetchError;
+        pageFetchError = null;
+        throw error;
+      }
+      arrowResultChunk.releaseChunk();
+      arrowResultChunk = createBatchChunk(pendingBatches.poll());
+    }
     this.currentChunkIndex++;
     return true;
   }
@@ -103,7 +155,13 @@ public class InlineChunkProvider implements ChunkProvider {
   @Override
   public void close() {
     isClosed = true;
-    arrowResultChunk.releaseChunk();
+    if (nextPage != null) {
+      nextPage.cancel(false);
+    }
+    pendingBatches.clear();
+    if (arrowResultChunk != null) {
+      arrowResultChunk.releaseChunk();
+    }
   }
 
   @Override
@@ -121,50 +179,100 @@ public class InlineChunkProvider implements ChunkProvider {
     return isClosed;
   }
 
-  private ByteArrayInputStream initializeByteStream(
-      TFetchResultsResp resultsResp,
-      IDatabricksSession session,
-      IDatabricksStatementInternal parentStatement)
-      throws DatabricksParsingException {
+  /**
+   * Returns whether a batch is pending, fetching further pages of the result until one arrives or
+   * the result is exhausted. A failed fetch is recorded in {@link #pageFetchError}.
+   */
+  private boolean hasNextBatch() {
+    while (pendingBatches.isEmpty() && hasMorePages && pageFetchError == null && !isClosed) {
+      try {
+        addPage(fetchNextPage());
+      } catch (DatabricksSQLException e) {
+        LOGGER.error(e, "Failed to fetch inline results of statement {}", parentStatement);
+        pageFetchError = e;
+        hasMorePages = false;
+      }
+    }
+    return !pendingBatches.isEmpty();
+  }
+
+  private TFetchResultsResp fetchNextPage() throws DatabricksSQLException {
+    if (nextPage == null) {
+      return session.getDatabricksClient().getMoreResults(parentStatement);
+    }
+    CompletableFuture<TFetchResultsResp> page = nextPage;
+    nextPage = null;
+    try {
+      return page.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabricksSQLException(
+          "Interrupted while fetching inline results",
+          e,
+          DatabricksDriverErrorCode.INLINE_CHUNK_PARSING_ERROR);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof DatabricksSQLException) {
+        throw (DatabricksSQLException) e.getCause();
+      }
+      throw new DatabricksSQLException(
+          "Failed to fetch inline results",
+          e.getCause(),
+          DatabricksDriverErrorCode.INLINE_CHUNK_PARSING_ERROR);
+    }
+  }
+
+  /** Queues the non-empty batches of a fetched page, and starts reading the next page ahead. */
+  private void addPage(TFetchResultsResp resultsResp) {
+    for (TSparkArrowBatch arrowBatch : resultsResp.getResults().getArrowBatches()) {
+      // Empty batches carry no rows, and an empty chunk would end the iteration of the result
+      if (arrowBatch.getRowCount() > 0) {
+        totalRows += arrowBatch.getRowCount();
+        pendingBatches.add(arrowBatch);
+      }
+    }
+    hasMorePages = resultsResp.hasMoreRows;
+    if (readAhead && hasMorePages && !isClosed) {
+      nextPage =
+          ResultFetchExecutor.supplyAsync(
+              () -> {
+                try {
+                  return session.getDatabricksClient().getMoreResults(parentStatement);
+                } catch (DatabricksSQLException e) {
+                  throw new CompletionException(e);
+                }
+              });
+    }
+  }
+
+  /**
+   * Creates the chunk of a single batch, prefixed with the schema of the result. A null batch
+   * creates a chunk with the schema only.
+   */
+  private ArrowResultChunk createBatchChunk(TSparkArrowBatch arrowBatch)
+      throws DatabricksSQLException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    CompressionCodec compressionType =
-        CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
+    long rowCount = 0;
     try {
-      byte[] serializedSchema = getSerializedSchema(resultsResp.getResultSetMetadata());
       if (serializedSchema != null) {
         baos.write(serializedSchema);
       }
-      writeToByteOutputStream(
-          compressionType, parentStatement, resultsResp.getResults().getArrowBatches(), baos);
-      while (resultsResp.hasMoreRows) {
-        resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
-        writeToByteOutputStream(
-            compressionType, parentStatement, resultsResp.getResults().getArrowBatches(), baos);
+      if (arrowBatch != null) {
+        rowCount = arrowBatch.getRowCount();
+        baos.write(
+            decompress(
+                arrowBatch.getBatch(),
+                compressionType,
+                String.format(
+                    "Data fetch for inline arrow batch [%d] and statement [%s] with decompression algorithm : [%s]",
+                    rowCount, parentStatement, compressionType)));
       }
-      return new ByteArrayInputStream(baos.toByteArray());
-    } catch (DatabricksSQLException | IOException e) {
+    } catch (IOException e) {
       handleError(e);
     }
-    return null;
-  }
-
-  private void writeToByteOutputStream(
-      CompressionCodec compressionCodec,
-      IDatabricksStatementInternal parentStatement,
-      List<TSparkArrowBatch> arrowBatchList,
-      ByteArrayOutputStream baos)
-      throws DatabricksSQLException, IOException {
-    for (TSparkArrowBatch arrowBatch : arrowBatchList) {
-      byte[] decompressedBytes =
-          decompress(
-              arrowBatch.getBatch(),
-              compressionCodec,
-              String.format(
-                  "Data fetch for inline arrow batch [%d] and statement [%s] with decompression algorithm : [%s]",
-                  arrowBatch.getRowCount(), parentStatement, compressionCodec));
-      totalRows += arrowBatch.getRowCount();
-      baos.write(decompressedBytes);
-    }
+    return ArrowResultChunk.builder()
+        .withInputStream(new ByteArrayInputStream(baos.toByteArray()), rowCount)
+        .withStatementId(parentStatement.getStatementId())
+        .build();
   }
 
   private byte[] getSerializedSchema(TGetResultSetMetadataResp metadata)
@@ -1,8 +1,10 @@
 package com.databricks.jdbc.api.impl.arrow;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
 import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
@@ -11,16 +13,11 @@ import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
 import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class RemoteChunkProvider extends AbstractRemoteChunkProvider<ArrowResultChunk> {
-  private static final String CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX =
-      "databricks-jdbc-chunks-downloader-";
-  private ExecutorService chunkDownloaderExecutorService;
+  private ChunkDownloadScheduler.StatementQueue downloadQueue;
 
   RemoteChunkProvider(
       StatementId statementId,
@@ -66,6 +63,12 @@ public class RemoteChunkProvider extends AbstractRemoteChunkProvider<ArrowResult
         .withStatementId(statementId)
         .withChunkInfo(chunkInfo)
         .withChunkReadyTimeoutSeconds(chunkReadyTimeoutSeconds)
+        .withStreamingDecompression(streamingChunkDecompression)
+        .withDecompressionParallelism(chunkDecompressionParallelism)
+        .withProgressiveRead(progressiveChunkReading)
+        .withMaxUnreadRecordBatches(progressiveChunkReadAheadBatches)
+        .withUnreadRecordBatchTimeoutSeconds(progressiveChunkReadTimeoutSeconds)
+        .withParentAllocator(statementAllocator)
         .build();
   }
 
@@ -78,68 +81,96 @@ public class RemoteChunkProvider extends AbstractRemoteChunkProvider<ArrowResult
         .withStatementId(statementId)
         .withThriftChunkInfo(chunkIndex, resultLink)
         .withChunkReadyTimeoutSeconds(chunkReadyTimeoutSeconds)
+        .withStreamingDecompression(streamingChunkDecompression)
+        .withDecompressionParallelism(chunkDecompressionParallelism)
+        .withProgressiveRead(progressiveChunkReading)
+        .withMaxUnreadRecordBatches(progressiveChunkReadAheadBatches)
+        .withUnreadRecordBatchTimeoutSeconds(progressiveChunkReadTimeoutSeconds)
+        .withParentAllocator(statementAllocator)
         .build();
   }
 
   /**
    * {@inheritDoc}
    *
-   * <p>Downloads the next set of available chunks asynchronously using a thread pool executor. This
-   * method:
+   * <p>Downloads the next set of available chunks asynchronously using the driver-wide {@link
+   * ChunkDownloadScheduler}. This method:
    *
    * <ul>
-   *   <li>Initializes a thread pool executor if not already created
-   *   <li>Submits chunk download tasks to the executor while:
+   *   <li>Registers a download queue for this result with the scheduler if not already done
+   *   <li>Submits chunk download tasks to the queue while:
    *       <ul>
    *         <li>The provider is not closed
    *         <li>There are more chunks available to download
-   *         <li>The number of chunks in memory is below the allowed limit
+   *         <li>The {@link ChunkPrefetchWindow} admits the chunk, based on the number and size of
+   *             the chunks in memory and on the observed download and consume speeds
+   *         <li>The chunk fits in the {@link ArrowMemoryManager} memory limit. Without chunks of
+   *             this result in memory, it waits for the memory here instead of on a download thread
    *       </ul>
    *   <li>Tracks the total chunks in memory and the next chunk to download
    * </ul>
    *
-   * Each chunk download is handled by a separate {@link ChunkDownloadTask} running in the executor
-   * service. This implementation provides non-blocking downloads using a custom thread pool for
-   * chunk downloads.
+   * Each chunk download is handled by a separate {@link ChunkDownloadTask}. At most {@code
+   * maxParallelChunkDownloadsPerQuery} of them run at the same time, and the scheduler shares its
+   * threads fairly between the results of all statements.
    */
   @Override
-  public void downloadNextChunks() {
-    if (chunkDownloaderExecutorService == null) {
-      chunkDownloaderExecutorService = createChunksDownloaderExecutorService();
+  public synchronized void downloadNextChunks() throws DatabricksSQLException {
+    if (downloadQueue == null) {
+      ChunkDownloadScheduler scheduler = ChunkDownloadScheduler.getInstance();
+      IDatabricksConnectionContext connectionContext = session.getConnectionContext();
+      if (connectionContext.isPropertyPresent(
+          DatabricksJdbcUrlParams.CLOUD_FETCH_MAX_CONCURRENT_DOWNLOADS)) {
+        // The cap is process-wide, connections that do not set it keep the current one
+        scheduler.setMaxConcurrentDownloads(
+            connectionContext.getCloudFetchMaxConcurrentDownloads());
+      }
+      downloadQueue = scheduler.newStatementQueue(maxParallelChunkDownloadsPerQuery);
     }
 
-    while (!isClosed
-        && nextChunkToDownload < chunkCount
-        && totalChunksInMemory < allowedChunksInMemory) {
+    while (!isClosed && nextChunkToDownload < chunkCount) {
       ArrowResultChunk chunk = chunkIndexToChunksMap.get(nextChunkToDownload);
-      chunkDownloaderExecutorService.submit(
-          new ChunkDownloadTask(chunk, httpClient, this, linkDownloadService));
+      if (!tryAcquirePrefetchSlot(chunk)) {
+        break;
+      }
+      if (!chunk.tryReserveMemory()) {
+        if (totalChunksInMemory > 0) {
+          // Retried when one of the chunks in memory is released
+          releasePrefetchSlot(chunk);
+          break;
+        }
+        reserveMemory(chunk);
+      }
+      downloadQueue.submit(new ChunkDownloadTask(chunk, httpClient, this, linkDownloadService));
       totalChunksInMemory++;
       nextChunkToDownload++;
     }
   }
 
+  private void reserveMemory(ArrowResultChunk chunk) throws DatabricksSQLException {
+    try {
+      chunk.reserveMemory();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      releasePrefetchSlot(chunk);
+      throw new DatabricksSQLException(
+          "Interrupted while waiting for memory to download chunk",
+          e,
+          DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+    } catch (DatabricksSQLException e) {
+      releasePrefetchSlot(chunk);
+      throw e;
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   protected void doClose() {
     isClosed = true;
-    chunkDownloaderExecutorService.shutdownNow();
+    if (downloadQueue != null) {
+      downloadQueue.cancel();
+    }
     chunkIndexToChunksMap.values().forEach(ArrowResultChunk::releaseChunk);
     DatabricksThreadContextHolder.clearStatementInfo();
   }
-
-  private ExecutorService createChunksDownloaderExecutorService() {
-    ThreadFactory threadFactory =
-        new ThreadFactory() {
-          private final AtomicInteger threadCount = new AtomicInteger(1);
-
-          public Thread newThread(final Runnable r) {
-            final Thread thread = new Thread(r);
-            thread.setName(CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX + threadCount.getAndIncrement());
-            thread.setDaemon(true);
-            return thread;
-          }
-        };
-    return Executors.newFixedThreadPool(maxParallelChunkDownloadsPerQuery, threadFactory);
-  }
 }
@@ -0,0 +1,68 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide executor for the requests a result set sends in the background while its rows are
+ * read, such as fetching the next page of result links or of inline results.
+ *
+ * <p>The requests block on the server, so they run on dedicated daemon threads instead of the
+ * common fork-join pool. The connection context and statement id of the submitting thread are
+ * propagated to the request, as they are to chunk downloads.
+ */
+final class ResultFetchExecutor {
+  private static final String THREAD_NAME_PREFIX = "databricks-jdbc-result-fetcher-";
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(createThreadFactory());
+
+  private ResultFetchExecutor() {
+    // Private constructor to prevent instantiation
+  }
+
+  /** Runs the task in the background with the thread context of the calling thread. */
+  static CompletableFuture<Void> runAsync(Runnable task) {
+    return supplyAsync(
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+
+  /** Runs the task in the background with the thread context of the calling thread. */
+  static <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksThreadContextHolder.getConnectionContext();
+    String statementId = DatabricksThreadContextHolder.getStatementId();
+    return CompletableFuture.supplyAsync(
+        () -> {
+          DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+          DatabricksThreadContextHolder.setStatementId(statementId);
+          try {
+            return task.get();
+          } finally {
+            DatabricksThreadContextHolder.clearAllContext();
+          }
+        },
+        EXECUTOR);
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    return new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+}
@@ -17,7 +17,6 @@ import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
@@ -32,55 +31,35 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ArrowResultChunkV2.class);
 
   /**
-   * The number of threads in the executor for processing downloaded Arrow data chunks.
-   *
-   * <p>TODO: Make this configurable
+   * The number of threads in the executor for processing downloaded Arrow data chunks. Processing
+   * is CPU-bound, so more threads than processors would only add contention.
    */
-  private static final int N_THREADS_PROCESSING = 150;
+  private static final int N_THREADS_PROCESSING = Runtime.getRuntime().availableProcessors();
 
   /**
-   * Scheduler dedicated to retry operations for failed chunk downloads. Uses a small thread pool
-   * since chunk downloads operate asynchronously and retry operations are lightweight scheduling
-   * tasks.
-   *
-   * <p>Thread pool size is set to the number of available processors to balance resource usage with
-   * responsiveness. Each thread is configured as a daemon thread to prevent blocking JVM shutdown.
+   * Scheduler dedicated to retry operations for failed chunk downloads. A single thread suffices
+   * since the retried downloads are asynchronous and scheduling a retry only starts a request.
    *
-   * <p>This scheduler handles: - Exponential backoff delays between retry attempts - Scheduling
-   * retry operations when network errors or timeouts occur - Managing retry attempts across
-   * multiple concurrent chunk downloads
-   *
-   * <p>The scheduler operates independently of the main arrow data processing executor to ensure
-   * retry scheduling is not blocked by data processing operations.
+   * <p>The thread is a daemon thread to prevent blocking JVM shutdown. Retries of chunks that were
+   * released in the meantime, for example because their statement was closed, are dropped.
    */
   private static final ScheduledExecutorService retryScheduler =
-      Executors.newScheduledThreadPool(
-          Runtime.getRuntime().availableProcessors(),
-          new ThreadFactory() {
-            private final AtomicInteger threadNumber = new AtomicInteger(1);
-
-            @Override
-            public Thread newThread(@Nonnull Runnable r) {
-              Thread thread =
-                  new Thread(r, "Arrow-Retry-Scheduler-" + threadNumber.getAndIncrement());
-              thread.setDaemon(true);
-              return thread;
-            }
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            Thread thread = new Thread(r, "Arrow-Retry-Scheduler");
+            thread.setDaemon(true);
+            return thread;
           });
 
   /**
-   * A thread pool executor for processing Arrow data chunks after successful download.
+   * A bounded thread pool executor for processing Arrow data chunks after successful download.
    *
-   * <p>Processing operations include: - Decompressing downloaded byte arrays using the specified
+   * <p>Processing operations include: - Decompressing downloaded data using the specified
    * compression codec - Initializing Arrow data structures from the decompressed input stream
    *
-   * <p>Uses a fixed thread pool of 150 threads to handle concurrent chunk processing across
-   * multiple active result sets. The large thread pool size accommodates the potentially blocking
-   * nature of decompression and Arrow data initialization operations.
-   *
-   * <p>Each thread is configured as a daemon thread to prevent blocking JVM shutdown. Processing
-   * tasks are submitted here after chunks are successfully downloaded to separate I/O operations
-   * from CPU-intensive data transformation work.
+   * <p>The pool has one thread per processor and is shared by every active result set, keeping the
+   * decoding work off the I/O threads of the async HTTP client. Each thread is configured as a
+   * daemon thread to prevent blocking JVM shutdown.
    */
   private static final ExecutorService arrowDataProcessingExecutor =
       Executors.newFixedThreadPool(
@@ -100,7 +79,7 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
   protected volatile long downloadStartTime;
   protected volatile long downloadEndTime;
   protected volatile long bytesDownloaded;
-  protected byte[] downloadedBytes;
+  protected PooledBufferInputStream downloadedData;
 
   private ArrowResultChunkV2(Builder builder) {
     super(
@@ -155,6 +134,10 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
       CompressionCodec compressionCodec,
       RetryConfig retryConfig,
       int currentAttempt) {
+    if (getStatus() == ChunkStatus.CHUNK_RELEASED) {
+      LOGGER.debug("Skipping download of released chunk {}", chunkIndex);
+      return;
+    }
     try {
       // Initialize consumer to handle streaming response
       StreamingResponseConsumer consumer = new StreamingResponseConsumer(this);
@@ -184,19 +167,25 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
   }
 
   /**
-   * Processes the downloaded Arrow data by decompressing and initializing it. After successful
-   * processing, clears the downloaded bytes and updates the chunk status.
+   * Processes the downloaded Arrow data by decompressing and initializing it straight from the
+   * pooled download buffers. The buffers are returned to the pool as they are read, and the
+   * remaining ones once processing ends, before the chunk status is updated.
    *
    * @param compressionCodec the codec to use for decompression
    * @param context descriptive context string for error reporting
    */
   private void processArrowData(CompressionCodec compressionCodec, String context) {
-    try (ByteArrayInputStream compressedStream = new ByteArrayInputStream(downloadedBytes);
+    if (getStatus() == ChunkStatus.CHUNK_RELEASED) {
+      downloadedData.close();
+      downloadedData = null;
+      return;
+    }
+    try (PooledBufferInputStream compressedStream = downloadedData;
         InputStream uncompressedStream =
-            DecompressionUtil.decompress(compressedStream, compressionCodec, context)) {
+            DecompressionUtil.decompressStream(compressedStream, compressionCodec, context)) {
+      // Arrow data is transferred into the chunk allocator, so the buffers can be reused after this
       initializeData(uncompressedStream);
-      // Clear the downloaded bytes after successful processing
-      downloadedBytes = null;
+      downloadedData = null;
       chunkReadyFuture.complete(null);
     } catch (IOException | DatabricksSQLException e) {
       handleFailure(e, ChunkStatus.PROCESSING_FAILED);
@@ -310,7 +299,7 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
     }
   }
 
-  private class ChunkDownloadCallback implements FutureCallback<byte[]> {
+  private class ChunkDownloadCallback implements FutureCallback<PooledBufferInputStream> {
     private final IDatabricksHttpClient httpClient;
     private final CompressionCodec compressionCodec;
     private final RetryConfig retryConfig;
@@ -328,9 +317,9 @@ public class ArrowResultChunkV2 extends AbstractArrowResultChunk {
     }
 
     @Override
-    public void completed(byte[] result) {
+    public void completed(PooledBufferInputStream result) {
       // Store downloaded data and update status on successful download
-      downloadedBytes = result;
+      downloadedData = result;
       setStatus(ChunkStatus.DOWNLOAD_SUCCEEDED);
       String context =
           String.format(
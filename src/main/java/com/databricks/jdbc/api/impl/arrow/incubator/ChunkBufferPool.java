@@ -0,0 +1,83 @@
+package com.databricks.jdbc.api.impl.arrow.incubator;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of fixed-size direct buffers that {@link StreamingResponseConsumer} writes downloaded chunk
+ * data into.
+ *
+ * <p>The buffers live outside the heap and are recycled across chunks and statements, so that
+ * downloading a chunk does not allocate heap memory proportional to its size. Buffers released
+ * while the pool already holds {@code maxPooledBuffers} are left to the garbage collector.
+ */
+class ChunkBufferPool {
+  /**
+   * The size of each buffer, which is also the capacity increment of the response consumer. 1 MB
+   * keeps the per-buffer overhead negligible for chunks of tens of MB while wasting little of the
+   * last, partially filled buffer of a chunk.
+   */
+  static final int BUFFER_SIZE = 1024 * 1024;
+
+  /**
+   * The maximum number of idle buffers kept for reuse, bounding the retained memory to 64 MB. This
+   * covers a few chunks of typical size, enough to recycle the buffers of the chunks released
+   * while the next ones download, without holding on to the peak memory of a burst of downloads.
+   */
+  private static final int MAX_POOLED_BUFFERS = 64;
+
+  private static final ChunkBufferPool INSTANCE =
+      new ChunkBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+  private final int bufferSize;
+  private final int maxPooledBuffers;
+  private final Deque<ByteBuffer> pooledBuffers = new ArrayDeque<>();
+
+  @VisibleForTesting
+  ChunkBufferPool(int bufferSize, int maxPooledBuffers) {
+    this.bufferSize = bufferSize;
+    this.maxPooledBuffers = maxPooledBuffers;
+  }
+
+  static ChunkBufferPool getInstance() {
+    return INSTANCE;
+  }
+
+  int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** Returns an empty buffer ready for writing, reusing a pooled buffer if one is available. */
+  ByteBuffer acquire() {
+    ByteBuffer buffer;
+    synchronized (pooledBuffers) {
+      buffer = pooledBuffers.poll();
+    }
+    return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+  }
+
+  /**
+   * Returns the buffer to the pool. Buffers not allocated by the pool are ignored. The buffer must
+   * not be used after it is released.
+   */
+  void release(ByteBuffer buffer) {
+    if (buffer == null || !buffer.isDirect() || buffer.capacity() != bufferSize) {
+      return;
+    }
+    buffer.clear();
+    synchronized (pooledBuffers) {
+      if (pooledBuffers.size() < maxPooledBuffers) {
+        pooledBuffers.push(buffer);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int getPooledBufferCount() {
+    synchronized (pooledBuffers) {
+      return pooledBuffers.size();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.databricks.jdbc.api.impl.arrow.incubator;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads the data of a downloaded chunk from the buffers it was received into, without first
+ * copying it into a single array.
+ *
+ * <p>Each buffer is returned to its {@link ChunkBufferPool} as soon as it has been read, and the
+ * remaining buffers are returned when the stream is closed.
+ */
+class PooledBufferInputStream extends InputStream {
+  private final Deque<ByteBuffer> buffers;
+  private final ChunkBufferPool bufferPool;
+
+  /**
+   * @param buffers the buffers holding the data, each positioned at its first unread byte
+   * @param bufferPool the pool the buffers are returned to once read
+   */
+  PooledBufferInputStream(List<ByteBuffer> buffers, ChunkBufferPool bufferPool) {
+    this.buffers = new ArrayDeque<>(buffers);
+    this.bufferPool = bufferPool;
+  }
+
+  @Override
+  public synchronized int read() {
+    ByteBuffer buffer = currentBuffer();
+    return buffer != null ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public synchronized int read(byte[] bytes, int offset, int length) {
+    if (length == 0) {
+      return 0;
+    }
+    int bytesRead = 0;
+    ByteBuffer buffer;
+    while (bytesRead < length && (buffer = currentBuffer()) != null) {
+      int count = Math.min(length - bytesRead, buffer.remaining());
+      buffer.get(bytes, offset + bytesRead, count);
+      bytesRead += count;
+    }
+    return bytesRead > 0 ? bytesRead : -1;
+  }
+
+  @Override
+  public synchronized long skip(long n) {
+    long skipped = 0;
+    ByteBuffer buffer;
+    while (skipped < n && (buffer = currentBuffer()) != null) {
+      int count = (int) Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + count);
+      skipped += count;
+    }
+    return skipped;
+  }
+
+  @Override
+  public synchronized int available() {
+    long available = 0;
+    for (ByteBuffer buffer : buffers) {
+      available += buffer.remaining();
+    }
+    return (int) Math.min(available, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public synchronized void close() {
+    ByteBuffer buffer;
+    while ((buffer = buffers.poll()) != null) {
+      bufferPool.release(buffer);
+    }
+  }
+
+  /** Returns the first buffer with unread data, releasing the buffers read in full. */
+  private ByteBuffer currentBuffer() {
+    ByteBuffer buffer;
+    while ((buffer = buffers.peek()) != null && !buffer.hasRemaining()) {
+      bufferPool.release(buffers.poll());
+    }
+    return buffer;
+  }
+}
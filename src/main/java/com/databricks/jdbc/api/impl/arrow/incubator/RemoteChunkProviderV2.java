@@ -1,6 +1,7 @@
 package com.databricks.jdbc.api.impl.arrow.incubator;
 
 import com.databricks.jdbc.api.impl.arrow.AbstractRemoteChunkProvider;
+import com.databricks.jdbc.api.impl.arrow.ChunkStatus;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
@@ -14,12 +15,19 @@ import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
 /**
  * A V2 implementation of chunk provider that handles chunk downloads using Apache's async HTTP
- * client. Each chunk is downloaded sequentially but processed asynchronously through streaming
- * responses.
+ * client, used when {@code EnableAsyncCloudFetch} is set.
+ *
+ * <p>All chunks admitted by the prefetch window are downloaded concurrently with non-blocking
+ * requests on the {@link com.databricks.jdbc.dbclient.impl.http.GlobalAsyncHttpClient}, whose few
+ * I/O threads serve every statement of the JVM. Link refreshes are chained to the downloads as
+ * futures, and the downloaded data is decoded on a bounded pool of CPU threads, so no thread waits
+ * on a chunk until the consumer needs it.
  */
 public class RemoteChunkProviderV2 extends AbstractRemoteChunkProvider<ArrowResultChunkV2> {
   private final double downloadSpeedThresholdForWaring;
@@ -69,6 +77,7 @@ public class RemoteChunkProviderV2 extends AbstractRemoteChunkProvider<ArrowResu
     return ArrowResultChunkV2.builder()
         .withStatementId(statementId)
         .withChunkInfo(chunkInfo)
+        .withChunkReadyTimeoutSeconds(chunkReadyTimeoutSeconds)
         .build();
   }
 
@@ -78,66 +87,86 @@ public class RemoteChunkProviderV2 extends AbstractRemoteChunkProvider<ArrowResu
     return ArrowResultChunkV2.builder()
         .withStatementId(statementId)
         .withThriftChunkInfo(chunkIndex, resultLink)
+        .withChunkReadyTimeoutSeconds(chunkReadyTimeoutSeconds)
         .build();
   }
 
   /**
    * {@inheritDoc}
    *
-   * <p>Downloads the next set of available chunks using Apache's async HTTP client. This method
-   * processes chunks sequentially but each chunk download is performed asynchronously. For each
-   * chunk, it:
+   * <p>Starts the download of every chunk the prefetch window of the provider admits, without
+   * waiting for any of them. For each chunk, it:
    *
    * <ul>
    *   <li>Checks if the provider is not closed
    *   <li>Verifies more chunks are available to download
-   *   <li>Ensures the number of chunks in memory is below the allowed limit
-   *   <li>Downloads the chunk data if these conditions are met
+   *   <li>Ensures the prefetch window of the provider admits the chunk
+   *   <li>Starts the download right away if the chunk link is valid, or once the refreshed link
+   *       arrives otherwise
    * </ul>
    *
    * The actual download is performed using {@link ArrowResultChunkV2}'s streaming response
    * consumer, which handles:
    *
    * <ul>
-   *   <li>Asynchronous data streaming
+   *   <li>Asynchronous data streaming on the I/O threads shared by every statement
    *   <li>Automatic retries with exponential backoff
    *   <li>Download statistics tracking
-   *   <li>Memory-efficient data processing
+   *   <li>Decoding on a bounded pool of CPU threads
    * </ul>
    *
-   * @throws DatabricksSQLException If there's an error during the chunk download process, including
-   *     errors in downloading links or chunk data
+   * @throws DatabricksSQLException If there's an error requesting the link of a chunk
    */
   @Override
-  public void downloadNextChunks() throws DatabricksSQLException {
-    while (!isClosed
-        && nextChunkToDownload < chunkCount
-        && totalChunksInMemory < allowedChunksInMemory) {
+  public synchronized void downloadNextChunks() throws DatabricksSQLException {
+    while (!isClosed && nextChunkToDownload < chunkCount) {
       ArrowResultChunkV2 chunk = chunkIndexToChunksMap.get(nextChunkToDownload);
+      if (!tryAcquirePrefetchSlot(chunk)) {
+        break;
+      }
       totalChunksInMemory++;
       if (chunk.isChunkLinkInvalid()) {
-        try {
-          ExternalLink link =
-              linkDownloadService
-                  .getLinkForChunk(chunk.getChunkIndex())
-                  .get(); // Block until link is available
-          chunk.setChunkLink(link);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt(); // Restore interrupted status
-          throw new DatabricksSQLException(
-              "Chunk link download interrupted",
-              e,
-              DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
-        } catch (ExecutionException e) {
-          throw new DatabricksSQLException(
-              "Chunk link download failed", e, DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
-        }
+        downloadWithRefreshedLink(chunk);
+      } else {
+        startDownload(chunk);
       }
-      chunk.downloadData(httpClient, getCompressionCodec(), downloadSpeedThresholdForWaring);
       nextChunkToDownload++;
     }
   }
 
+  /** Chains the download of the chunk to the refresh of its link, so no thread waits for it. */
+  private void downloadWithRefreshedLink(ArrowResultChunkV2 chunk) throws DatabricksSQLException {
+    CompletableFuture<ExternalLink> linkFuture;
+    try {
+      linkFuture = linkDownloadService.getLinkForChunk(chunk.getChunkIndex());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt(); // Restore interrupted status
+      throw new DatabricksSQLException(
+          "Chunk link download interrupted", e, DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+    } catch (ExecutionException e) {
+      throw new DatabricksSQLException(
+          "Chunk link download failed", e, DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
+    }
+    linkFuture.whenComplete(
+        (link, error) -> {
+          if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            chunk.handleFailure(
+                cause instanceof Exception ? (Exception) cause : new ExecutionException(cause),
+                ChunkStatus.DOWNLOAD_FAILED);
+            return;
+          }
+          chunk.setChunkLink(link);
+          startDownload(chunk);
+        });
+  }
+
+  private void startDownload(ArrowResultChunkV2 chunk) {
+    if (!isClosed) {
+      chunk.downloadData(httpClient, getCompressionCodec(), downloadSpeedThresholdForWaring);
+    }
+  }
+
   @Override
   protected void doClose() {
     isClosed = true;
@@ -2,9 +2,10 @@ package com.databricks.jdbc.api.impl.arrow.incubator;
 
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpException;
@@ -12,23 +13,33 @@ import org.apache.hc.core5.http.HttpResponse;
 
 /**
  * {@link AbstractBinResponseConsumer} that handles streaming Arrow data chunks. This class
- * processes incoming data in chunks, accumulates them in a byte array output stream, and provides
- * performance metrics for the download operation.
+ * processes incoming data in chunks, copies them into buffers of a {@link ChunkBufferPool}, and
+ * provides performance metrics for the download operation.
+ *
+ * <p>The result is a {@link PooledBufferInputStream} over the received buffers, so the response is
+ * never consolidated into a single array. The buffers are returned to the pool as the stream is
+ * read and closed, or when the download fails.
  *
  * <p>The consumer works in conjunction with ArrowResultChunkV2 to handle the asynchronous
  * downloading of Arrow format data.
  */
-class StreamingResponseConsumer extends AbstractBinResponseConsumer<byte[]> {
+class StreamingResponseConsumer extends AbstractBinResponseConsumer<PooledBufferInputStream> {
   private static final JdbcLogger LOGGER =
       JdbcLoggerFactory.getLogger(StreamingResponseConsumer.class);
 
   private final ArrowResultChunkV2 chunk;
+  private final ChunkBufferPool bufferPool;
   private long bytesReceived = 0;
-  private final ByteArrayOutputStream byteOutputStream;
+  private List<ByteBuffer> buffers = new ArrayList<>();
+  private ByteBuffer currentBuffer;
 
   public StreamingResponseConsumer(ArrowResultChunkV2 chunk) {
+    this(chunk, ChunkBufferPool.getInstance());
+  }
+
+  StreamingResponseConsumer(ArrowResultChunkV2 chunk, ChunkBufferPool bufferPool) {
     this.chunk = chunk;
-    this.byteOutputStream = new ByteArrayOutputStream();
+    this.bufferPool = bufferPool;
   }
 
   @Override
@@ -47,14 +58,14 @@ class StreamingResponseConsumer extends AbstractBinResponseConsumer<byte[]> {
    */
   @Override
   protected int capacityIncrement() {
-    // Define the size of chunks to process, e.g., 1MB
-    return 1024 * 1024;
+    // Process the data in chunks the size of a pooled buffer, e.g., 1MB
+    return ChunkBufferPool.BUFFER_SIZE;
   }
 
   /**
    * Processes incoming chunks of data from the HTTP response. This method is called repeatedly as
-   * data becomes available in the {@link java.nio.channels.Channel}. It accumulates the received
-   * data and tracks download statistics.
+   * data becomes available in the {@link java.nio.channels.Channel}. It copies the received data
+   * into pooled buffers and tracks download statistics.
    *
    * @param data the ByteBuffer containing the chunk of response data
    * @param endOfStream flag indicating if this is the last chunk of data
@@ -62,39 +73,56 @@ class StreamingResponseConsumer extends AbstractBinResponseConsumer<byte[]> {
    */
   @Override
   protected void data(ByteBuffer data, boolean endOfStream) throws IOException {
-    try {
-      int currentBatch = data.remaining();
-      bytesReceived += currentBatch;
-
-      // Write data as it comes in
-      byte[] bytes = new byte[currentBatch];
-      data.get(bytes);
-      byteOutputStream.write(bytes);
-
-      if (endOfStream) {
-        chunk.downloadEndTime = System.nanoTime(); // Record end time
-        chunk.bytesDownloaded = bytesReceived;
-        logDownloadStats();
+    bytesReceived += data.remaining();
+
+    // Copy the data straight into the pooled buffers, the HTTP client reuses the source buffer
+    while (data.hasRemaining()) {
+      if (currentBuffer == null || !currentBuffer.hasRemaining()) {
+        currentBuffer = bufferPool.acquire();
+        buffers.add(currentBuffer);
       }
-    } catch (IOException e) {
-      failed(e);
-      throw e;
+      int count = Math.min(data.remaining(), currentBuffer.remaining());
+      ByteBuffer source = data.duplicate();
+      source.limit(source.position() + count);
+      currentBuffer.put(source);
+      data.position(data.position() + count);
+    }
+
+    if (endOfStream) {
+      chunk.downloadEndTime = System.nanoTime(); // Record end time
+      chunk.bytesDownloaded = bytesReceived;
+      logDownloadStats();
     }
   }
 
+  /** Hands the received buffers over to the returned stream, which returns them to the pool. */
   @Override
-  protected byte[] buildResult() {
-    return byteOutputStream.toByteArray();
+  protected PooledBufferInputStream buildResult() {
+    for (ByteBuffer buffer : buffers) {
+      buffer.flip();
+    }
+    PooledBufferInputStream result = new PooledBufferInputStream(buffers, bufferPool);
+    buffers = new ArrayList<>();
+    currentBuffer = null;
+    return result;
   }
 
   @Override
   public void failed(Exception cause) {
-    byteOutputStream.reset();
+    releaseBuffers();
   }
 
   @Override
   public void releaseResources() {
-    byteOutputStream.reset();
+    releaseBuffers();
+  }
+
+  private void releaseBuffers() {
+    for (ByteBuffer buffer : buffers) {
+      bufferPool.release(buffer);
+    }
+    buffers = new ArrayList<>();
+    currentBuffer = null;
   }
 
   /**
@@ -112,7 +140,7 @@ class StreamingResponseConsumer extends AbstractBinResponseConsumer<byte[]> {
     double speedMBps = (chunk.bytesDownloaded / 1024.0 / 1024.0) / (durationMs / 1000.0);
 
     LOGGER.debug(
-        "Download stats for chunk %s: Size: %s MB, Duration: %s ms, Speed: %s MB/s",
+        "Download stats for chunk {}: Size: {} MB, Duration: {} ms, Speed: {} MB/s",
         chunk.getChunkIndex(), chunk.bytesDownloaded / 1024.0 / 1024.0, durationMs, speedMBps);
   }
 }
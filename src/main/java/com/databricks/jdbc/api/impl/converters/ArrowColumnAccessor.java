@@ -0,0 +1,23 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import org.apache.arrow.vector.ValueVector;
+
+/**
+ * Reads the Java object for one column of an Arrow result. Instances are bound once per column
+ * schema by {@link ArrowToJavaObjectConverter#createAccessor}, so that reading a cell does not
+ * repeat the type resolution done by {@link ArrowToJavaObjectConverter#convert}.
+ */
+@FunctionalInterface
+public interface ArrowColumnAccessor {
+
+  /**
+   * Returns the converted value at the given index of the column vector.
+   *
+   * @param columnVector vector holding the column values of the current record batch
+   * @param vectorIndex index of the value in the vector
+   * @return converted value, or null if the value is null
+   * @throws DatabricksSQLException if the value cannot be converted
+   */
+  Object getObject(ValueVector columnVector, int vectorIndex) throws DatabricksSQLException;
+}
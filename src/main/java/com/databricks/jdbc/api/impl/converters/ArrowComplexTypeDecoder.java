@@ -0,0 +1,248 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.api.impl.DatabricksArray;
+import com.databricks.jdbc.api.impl.DatabricksMap;
+import com.databricks.jdbc.api.impl.DatabricksStruct;
+import com.databricks.jdbc.api.impl.MetadataParser;
+import com.databricks.jdbc.common.util.DatabricksTypeUtil;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.util.Text;
+
+/**
+ * Decodes STRUCT, ARRAY and MAP values directly from the child vectors of Arrow complex vectors.
+ *
+ * <p>Without this decoder the value would be read with {@link ValueVector#getObject}, serialized to
+ * JSON and parsed back by {@link com.databricks.jdbc.api.impl.ComplexDataTypeParser}. The type
+ * metadata is parsed once when the decoder is created, so decoding a cell only walks the vectors.
+ */
+class ArrowComplexTypeDecoder {
+
+  private final Decoder decoder;
+
+  /**
+   * @param metadata Databricks type text of the column, e.g. {@code STRUCT<a:INT,b:ARRAY<STRING>>}
+   */
+  ArrowComplexTypeDecoder(String metadata) {
+    this.decoder = createDecoder(metadata);
+  }
+
+  /** Returns true if the vector holds the Arrow complex type described by the metadata. */
+  boolean supports(ValueVector columnVector) {
+    return decoder.supports(columnVector);
+  }
+
+  /**
+   * Decodes the value at the given index.
+   *
+   * @param columnVector vector of the column, which must be {@link #supports supported}
+   * @param index index of the value in the vector
+   * @return {@link DatabricksStruct}, {@link DatabricksArray} or {@link DatabricksMap}, or null
+   */
+  Object decode(ValueVector columnVector, int index) {
+    return decoder.decode(columnVector, index);
+  }
+
+  private interface Decoder {
+    boolean supports(ValueVector vector);
+
+    Object decode(ValueVector vector, int index);
+  }
+
+  private static Decoder createDecoder(String metadata) {
+    if (metadata.startsWith(DatabricksTypeUtil.STRUCT)) {
+      return new StructDecoder(metadata);
+    }
+    if (metadata.startsWith(DatabricksTypeUtil.ARRAY)) {
+      return new ArrayDecoder(metadata);
+    }
+    if (metadata.startsWith(DatabricksTypeUtil.MAP)) {
+      return new MapDecoder(metadata);
+    }
+    return new PrimitiveDecoder();
+  }
+
+  private static final class StructDecoder implements Decoder {
+    private final String metadata;
+    private final Map<String, String> typeMap;
+    private final Map<String, Decoder> fieldDecoders = new HashMap<>();
+
+    StructDecoder(String metadata) {
+      this.metadata = metadata;
+      this.typeMap = MetadataParser.parseStructMetadata(metadata);
+      typeMap.forEach((name, type) -> fieldDecoders.put(name, createDecoder(type)));
+    }
+
+    @Override
+    public boolean supports(ValueVector vector) {
+      if (!(vector instanceof StructVector)) {
+        return false;
+      }
+      for (FieldVector child : ((StructVector) vector).getChildrenFromFields()) {
+        Decoder fieldDecoder = fieldDecoders.get(child.getName());
+        if (fieldDecoder == null || !fieldDecoder.supports(child)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Object decode(ValueVector vector, int index) {
+      if (vector.isNull(index)) {
+        return null;
+      }
+      Map<String, Object> attributes = new LinkedHashMap<>();
+      for (FieldVector child : ((StructVector) vector).getChildrenFromFields()) {
+        attributes.put(child.getName(), fieldDecoders.get(child.getName()).decode(child, index));
+      }
+      return new DatabricksStruct(attributes, typeMap, metadata);
+    }
+  }
+
+  private static final class ArrayDecoder implements Decoder {
+    private final String metadata;
+    private final String elementType;
+    private final Decoder elementDecoder;
+
+    ArrayDecoder(String metadata) {
+      this.metadata = metadata;
+      this.elementType = MetadataParser.parseArrayMetadata(metadata);
+      this.elementDecoder = createDecoder(elementType);
+    }
+
+    @Override
+    public boolean supports(ValueVector vector) {
+      return vector instanceof ListVector
+          && !(vector instanceof MapVector)
+          && elementDecoder.supports(((ListVector) vector).getDataVector());
+    }
+
+    @Override
+    public Object decode(ValueVector vector, int index) {
+      if (vector.isNull(index)) {
+        return null;
+      }
+      ListVector listVector = (ListVector) vector;
+      ValueVector dataVector = listVector.getDataVector();
+      int start = listVector.getElementStartIndex(index);
+      int end = listVector.getElementEndIndex(index);
+      List<Object> elements = new ArrayList<>(end - start);
+      for (int i = start; i < end; i++) {
+        elements.add(elementDecoder.decode(dataVector, i));
+      }
+      return new DatabricksArray(elements, elementType, metadata);
+    }
+  }
+
+  private static final class MapDecoder implements Decoder {
+    private final String keyType;
+    private final String valueType;
+    private final Decoder keyDecoder;
+    private final Decoder valueDecoder;
+
+    MapDecoder(String metadata) {
+      String[] kv = MetadataParser.parseMapMetadata(metadata).split(",", 2);
+      this.keyType = kv[0].trim();
+      this.valueType = kv[1].trim();
+      this.keyDecoder = createDecoder(keyType);
+      this.valueDecoder = createDecoder(valueType);
+    }
+
+    @Override
+    public boolean supports(ValueVector vector) {
+      if (!(vector instanceof MapVector)) {
+        return false;
+      }
+      ValueVector entries = ((MapVector) vector).getDataVector();
+      if (!(entries instanceof StructVector) || ((StructVector) entries).size() != 2) {
+        return false;
+      }
+      StructVector entryVector = (StructVector) entries;
+      return keyDecoder.supports(entryVector.getChildByOrdinal(0))
+          && valueDecoder.supports(entryVector.getChildByOrdinal(1));
+    }
+
+    @Override
+    public Object decode(ValueVector vector, int index) {
+      if (vector.isNull(index)) {
+        return null;
+      }
+      MapVector mapVector = (MapVector) vector;
+      StructVector entryVector = (StructVector) mapVector.getDataVector();
+      ValueVector keyVector = entryVector.getChildByOrdinal(0);
+      ValueVector valueVector = entryVector.getChildByOrdinal(1);
+      int start = mapVector.getElementStartIndex(index);
+      int end = mapVector.getElementEndIndex(index);
+      Map<Object, Object> entries = new LinkedHashMap<>();
+      for (int i = start; i < end; i++) {
+        entries.put(keyDecoder.decode(keyVector, i), valueDecoder.decode(valueVector, i));
+      }
+      return new DatabricksMap<>(entries, keyType, valueType);
+    }
+  }
+
+  /**
+   * Reads leaf values. The result is converted to the declared type by the complex type objects,
+   * which keep values that already have the target Java type as they are.
+   */
+  private static final class PrimitiveDecoder implements Decoder {
+    private String timeZone;
+    private ZoneId zoneId;
+
+    @Override
+    public boolean supports(ValueVector vector) {
+      return !(vector instanceof StructVector) && !(vector instanceof ListVector);
+    }
+
+    @Override
+    public Object decode(ValueVector vector, int index) {
+      if (vector.isNull(index)) {
+        return null;
+      }
+      if (vector instanceof DateDayVector) {
+        return Date.valueOf(LocalDate.ofEpochDay(((DateDayVector) vector).get(index)));
+      }
+      if (vector instanceof TimeStampMicroTZVector) {
+        TimeStampMicroTZVector timestampVector = (TimeStampMicroTZVector) vector;
+        Instant instant = Instant.ofEpochMilli(timestampVector.get(index) / 1000);
+        return Timestamp.valueOf(
+            LocalDateTime.ofInstant(instant, getZoneId(timestampVector.getTimeZone())));
+      }
+      Object object = vector.getObject(index);
+      if (object instanceof Text) {
+        return object.toString();
+      }
+      if (object instanceof LocalDateTime) {
+        // timestamp_ntz values are returned as local date time
+        return Timestamp.valueOf((LocalDateTime) object);
+      }
+      return object;
+    }
+
+    private ZoneId getZoneId(String vectorTimeZone) {
+      if (zoneId == null || !vectorTimeZone.equals(timeZone)) {
+        zoneId = ArrowToJavaObjectConverter.getZoneIdFromTimeZoneOpt(Optional.of(vectorTimeZone));
+        timeZone = vectorTimeZone;
+      }
+      return zoneId;
+    }
+  }
+}
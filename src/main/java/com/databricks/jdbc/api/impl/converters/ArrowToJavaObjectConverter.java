@@ -58,6 +58,10 @@ public class ArrowToJavaObjectConverter {
           DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.S"),
           DateTimeFormatter.RFC_1123_DATE_TIME);
 
+  /**
+   * Converts a single value. The accessor of the column is created on every call, so values that
+   * are read repeatedly should be converted through an accessor from {@link #createAccessor}.
+   */
   public static Object convert(
       ValueVector columnVector,
       int vectorIndex,
@@ -65,11 +69,81 @@ public class ArrowToJavaObjectConverter {
       String arrowMetadata,
       ColumnInfo columnInfo)
       throws DatabricksSQLException {
-    // check isNull before getting the object from the vector
-    if (columnVector.isNull(vectorIndex)) {
-      return null;
+    return createAccessor(requiredType, arrowMetadata, columnInfo)
+        .getObject(columnVector, vectorIndex);
+  }
+
+  /**
+   * Creates an accessor for a column, resolving the target type from the Arrow metadata and caching
+   * the per-column conversion state (decimal scale, time zone, interval qualifier) so that it is
+   * not recomputed for every cell.
+   *
+   * @param requiredType type of the column as described by the result manifest
+   * @param arrowMetadata Databricks type text attached to the Arrow field, may be null
+   * @param columnInfo column description of the result manifest
+   * @return accessor that converts the values of the column
+   */
+  public static ArrowColumnAccessor createAccessor(
+      ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
+    ColumnInfoTypeName resolvedType = resolveRequiredType(requiredType, arrowMetadata);
+    ValueConversion conversion = bindConversion(resolvedType, arrowMetadata, columnInfo);
+    ArrowColumnAccessor objectAccessor = createObjectAccessor(conversion);
+    if (arrowMetadata == null
+        || (resolvedType != ColumnInfoTypeName.STRUCT
+            && resolvedType != ColumnInfoTypeName.ARRAY
+            && resolvedType != ColumnInfoTypeName.MAP)) {
+      return objectAccessor;
+    }
+    return createComplexTypeAccessor(arrowMetadata, objectAccessor);
+  }
+
+  /**
+   * Decodes complex values natively from the Arrow child vectors. Falls back to the JSON based
+   * conversion if the metadata cannot be parsed or if the vector does not have the expected shape,
+   * e.g. when the server sends complex types as strings.
+   */
+  private static ArrowColumnAccessor createComplexTypeAccessor(
+      String arrowMetadata, ArrowColumnAccessor fallbackAccessor) {
+    ArrowComplexTypeDecoder decoder;
+    try {
+      decoder = new ArrowComplexTypeDecoder(arrowMetadata);
+    } catch (RuntimeException e) {
+      LOGGER.debug(
+          "Falling back to JSON conversion for complex type {}: {}", arrowMetadata, e.getMessage());
+      return fallbackAccessor;
     }
-    Object object = columnVector.getObject(vectorIndex);
+    ValueVector[] lastVector = new ValueVector[1];
+    boolean[] isDecodable = new boolean[1];
+    return (columnVector, vectorIndex) -> {
+      // vectors are replaced per record batch, so check the shape only once per vector
+      if (columnVector != lastVector[0]) {
+        isDecodable[0] = decoder.supports(columnVector);
+        lastVector[0] = columnVector;
+      }
+      if (!isDecodable[0]) {
+        return fallbackAccessor.getObject(columnVector, vectorIndex);
+      }
+      return decoder.decode(columnVector, vectorIndex);
+    };
+  }
+
+  private static ArrowColumnAccessor createObjectAccessor(ValueConversion conversion) {
+    return (columnVector, vectorIndex) -> {
+      // check isNull before getting the object from the vector
+      if (columnVector.isNull(vectorIndex)) {
+        return null;
+      }
+      Object object = columnVector.getObject(vectorIndex);
+      if (object == null) {
+        return null;
+      }
+      return conversion.apply(columnVector, object);
+    };
+  }
+
+  /** Overrides the manifest type with the type carried by the Arrow metadata, if any. */
+  static ColumnInfoTypeName resolveRequiredType(
+      ColumnInfoTypeName requiredType, String arrowMetadata) {
     if (arrowMetadata != null) {
       if (arrowMetadata.startsWith(ARRAY)) {
         requiredType = ColumnInfoTypeName.ARRAY;
@@ -87,61 +161,98 @@ public class ArrowToJavaObjectConverter {
         requiredType = ColumnInfoTypeName.TIMESTAMP;
       }
     }
-    if (object == null) {
-      return null;
-    }
+    return requiredType;
+  }
+
+  @FunctionalInterface
+  private interface ValueConversion {
+    Object apply(ValueVector columnVector, Object object) throws DatabricksSQLException;
+  }
+
+  private static ValueConversion bindConversion(
+      ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
     switch (requiredType) {
       case BYTE:
-        return convertToNumber(object, Byte::parseByte, Number::byteValue);
+        return (vector, object) -> convertToNumber(object, Byte::parseByte, Number::byteValue);
       case SHORT:
-        return convertToNumber(object, Short::parseShort, Number::shortValue);
+        return (vector, object) -> convertToNumber(object, Short::parseShort, Number::shortValue);
       case INT:
-        return convertToNumber(object, Integer::parseInt, Number::intValue);
+        return (vector, object) -> convertToNumber(object, Integer::parseInt, Number::intValue);
       case LONG:
-        return convertToNumber(object, Long::parseLong, Number::longValue);
+        return (vector, object) -> convertToNumber(object, Long::parseLong, Number::longValue);
       case FLOAT:
-        return convertToNumber(object, Float::parseFloat, Number::floatValue);
+        return (vector, object) -> convertToNumber(object, Float::parseFloat, Number::floatValue);
       case DOUBLE:
-        return convertToNumber(object, Double::parseDouble, Number::doubleValue);
+        return (vector, object) ->
+            convertToNumber(object, Double::parseDouble, Number::doubleValue);
       case DECIMAL:
-        return convertToDecimal(object, columnInfo);
+        Integer scale =
+            columnInfo.getTypeScale() != null ? columnInfo.getTypeScale().intValue() : null;
+        return (vector, object) -> convertToDecimal(object, scale);
       case BINARY:
-        return convertToByteArray(object);
+        return (vector, object) -> convertToByteArray(object);
       case BOOLEAN:
-        return convertToBoolean(object);
+        return (vector, object) -> convertToBoolean(object);
       case CHAR:
-        return convertToChar(object);
+        return (vector, object) -> convertToChar(object);
       case STRUCT:
-        return convertToStruct(object, arrowMetadata);
+        return (vector, object) -> convertToStruct(object, arrowMetadata);
       case ARRAY:
-        return convertToArray(object, arrowMetadata);
+        return (vector, object) -> convertToArray(object, arrowMetadata);
       case MAP:
-        return convertToMap(object, arrowMetadata);
+        return (vector, object) -> convertToMap(object, arrowMetadata);
       case STRING:
-        return convertToString(object);
+        return (vector, object) -> convertToString(object);
       case DATE:
-        return convertToDate(object);
+        return (vector, object) -> convertToDate(object);
       case TIMESTAMP:
-        Optional<String> timeZone = Optional.empty();
-        if (columnVector instanceof TimeStampMicroTZVector) {
-          timeZone = Optional.of(((TimeStampMicroTZVector) columnVector).getTimeZone());
-        }
-        return convertToTimestamp(object, timeZone);
+        ZoneIdCache zoneIdCache = new ZoneIdCache();
+        return (vector, object) -> convertToTimestamp(object, vector, zoneIdCache);
       case INTERVAL:
         if (arrowMetadata == null) {
-          String errorMessage =
-              String.format("Failed to read INTERVAL %s with null metadata.", object);
-          LOGGER.error(errorMessage);
-          throw new DatabricksValidationException(errorMessage);
+          return (vector, object) -> {
+            String errorMessage =
+                String.format("Failed to read INTERVAL %s with null metadata.", object);
+            LOGGER.error(errorMessage);
+            throw new DatabricksValidationException(errorMessage);
+          };
         }
-        IntervalConverter ic = new IntervalConverter(arrowMetadata);
-        return ic.toLiteral(object);
+        IntervalConverter[] intervalConverter = new IntervalConverter[1];
+        return (vector, object) -> {
+          if (intervalConverter[0] == null) {
+            intervalConverter[0] = new IntervalConverter(arrowMetadata);
+          }
+          return intervalConverter[0].toLiteral(object);
+        };
       case NULL:
-        return null;
+        return (vector, object) -> null;
       default:
-        String errorMessage = String.format("Unsupported conversion type %s", requiredType);
-        LOGGER.error(errorMessage);
-        throw new DatabricksValidationException(errorMessage);
+        return (vector, object) -> {
+          String errorMessage = String.format("Unsupported conversion type %s", requiredType);
+          LOGGER.error(errorMessage);
+          throw new DatabricksValidationException(errorMessage);
+        };
+    }
+  }
+
+  /**
+   * Caches the zone of a timestamp column. The time zone of a {@link TimeStampMicroTZVector} is
+   * part of the field type, so it is only parsed again if the vector reports a different zone.
+   */
+  private static final class ZoneIdCache {
+    private String timeZone;
+    private ZoneId zoneId;
+
+    ZoneId get(ValueVector columnVector) {
+      if (!(columnVector instanceof TimeStampMicroTZVector)) {
+        return getZoneIdFromTimeZoneOpt(Optional.empty());
+      }
+      String vectorTimeZone = ((TimeStampMicroTZVector) columnVector).getTimeZone();
+      if (zoneId == null || !vectorTimeZone.equals(timeZone)) {
+        zoneId = getZoneIdFromTimeZoneOpt(Optional.of(vectorTimeZone));
+        timeZone = vectorTimeZone;
+      }
+      return zoneId;
     }
   }
 
@@ -163,7 +274,8 @@ public class ArrowToJavaObjectConverter {
     return parser.parseJsonStringToDbStruct(object.toString(), arrowMetadata);
   }
 
-  private static Object convertToTimestamp(Object object, Optional<String> timeZoneOpt)
+  private static Object convertToTimestamp(
+      Object object, ValueVector columnVector, ZoneIdCache zoneIdCache)
       throws DatabricksSQLException {
     if (object instanceof Text) {
       return convertArrowTextToTimestamp(object.toString());
@@ -176,7 +288,7 @@ public class ArrowToJavaObjectConverter {
     Instant instant =
         Instant.ofEpochMilli(
             object instanceof Integer ? ((int) object) / 1000 : ((long) object) / 1000);
-    ZoneId zoneId = getZoneIdFromTimeZoneOpt(timeZoneOpt);
+    ZoneId zoneId = zoneIdCache.get(columnVector);
     LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, zoneId);
     return Timestamp.valueOf(localDateTime);
   }
@@ -266,15 +378,15 @@ public class ArrowToJavaObjectConverter {
 
   static BigDecimal convertToDecimal(Object object, ColumnInfo columnInfo)
       throws DatabricksValidationException {
+    return convertToDecimal(
+        object, columnInfo.getTypeScale() != null ? columnInfo.getTypeScale().intValue() : null);
+  }
+
+  private static BigDecimal convertToDecimal(Object object, Integer scale)
+      throws DatabricksValidationException {
     if (object instanceof Text || object instanceof Number) {
       BigDecimal bigDecimal = new BigDecimal(object.toString());
-      Optional<Integer> bigDecimalScale =
-          columnInfo.getTypeScale() != null
-              ? Optional.of(columnInfo.getTypeScale().intValue())
-              : Optional.empty();
-      return bigDecimalScale
-          .map(scale -> bigDecimal.setScale(scale, RoundingMode.HALF_UP))
-          .orElse(bigDecimal);
+      return scale != null ? bigDecimal.setScale(scale, RoundingMode.HALF_UP) : bigDecimal;
     }
     String errorMessage =
         String.format("Unsupported object type for decimal conversion: %s", object.getClass());
@@ -350,4 +350,61 @@ public interface IDatabricksConnectionContext {
 
   /** Returns the HTTP connection request timeout in seconds */
   Integer getHttpConnectionRequestTimeout();
+
+  /** Returns whether CloudFetch chunks are decompressed and parsed while being downloaded */
+  boolean isStreamingChunkDecompressionEnabled();
+
+  /** Returns the process-wide limit in MB for Arrow result memory, 0 if unbounded */
+  int getArrowMemoryLimitMB();
+
+  /** Returns the maximum size in MB of CloudFetch chunks prefetched per result, 0 if unbounded */
+  int getCloudFetchPrefetchMemoryMB();
+
+  /** Returns the maximum number of concurrent CloudFetch downloads across all connections */
+  int getCloudFetchMaxConcurrentDownloads();
+
+  /** Returns whether CloudFetch result links of Thrift results are fetched page by page */
+  boolean isLazyResultLinkFetchEnabled();
+
+  /** Returns whether pages of inline results of Thrift results are fetched as rows are read */
+  boolean isLazyInlineResultFetchEnabled();
+
+  /** Returns whether the next page of a lazily fetched inline Arrow result is fetched ahead */
+  boolean isInlineResultReadAheadEnabled();
+
+  /** Returns whether Thrift responses are decoded while they are read from the HTTP response */
+  boolean isStreamingThriftTransportEnabled();
+
+  /** Returns the maximum interval in milliseconds between status polls of a running statement */
+  int getAsyncExecMaxPollInterval();
+
+  /** Returns the seconds the SQL Execution API waits for a statement before it is polled */
+  int getSqlExecWaitTimeout();
+
+  /** Returns whether connections with the same host, TLS and proxy settings share an HTTP pool */
+  boolean isSharedHttpConnectionPoolEnabled();
+
+  /** Returns the time in milliseconds for which a successful isValid server check is reused */
+  int getConnectionValidationCacheInterval();
+
+  /** Returns the maximum number of multi-row INSERT chunks of a batch executing at the same time */
+  int getBatchInsertConcurrency();
+
+  /** Returns whether connections with the same OAuth credentials share a refreshed token */
+  boolean isSharedOAuthTokenCacheEnabled();
+
+  /** Returns whether CloudFetch chunks are downloaded with the asynchronous HTTP client */
+  boolean isAsyncCloudFetchEnabled();
+
+  /** Returns the number of LZ4 blocks of a streamed chunk that are decompressed concurrently */
+  int getChunkDecompressionParallelism();
+
+  /** Returns whether the rows of a CloudFetch chunk are readable before it is fully downloaded */
+  boolean isProgressiveChunkReadingEnabled();
+
+  /** Returns the maximum number of unread record batches of a progressively read chunk */
+  int getProgressiveChunkReadAheadBatches();
+
+  /** Returns the time limit in seconds for a progressively read chunk to wait for its reader */
+  int getProgressiveChunkReadTimeoutSeconds();
 }
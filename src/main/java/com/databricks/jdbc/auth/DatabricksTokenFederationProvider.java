@@ -11,10 +11,12 @@ import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.core.*;
+import com.databricks.sdk.core.oauth.ExternalBrowserCredentialsProvider;
 import com.databricks.sdk.core.oauth.OAuthResponse;
 import com.databricks.sdk.core.oauth.RefreshableTokenSource;
 import com.databricks.sdk.core.oauth.Token;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.net.MalformedURLException;
@@ -24,10 +26,14 @@ import java.text.ParseException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
@@ -63,6 +69,9 @@ public class DatabricksTokenFederationProvider extends RefreshableTokenSource
   private DatabricksConfig config;
   private Map<String, String> externalProviderHeaders;
   private IDatabricksHttpClient hc;
+  private final Supplier<SharedOAuthToken.Credentials> sharedTokenRefresher =
+      this::refreshSharedCredentials;
+  private SharedOAuthToken sharedToken;
 
   public DatabricksTokenFederationProvider(
       IDatabricksConnectionContext connectionContext, CredentialsProvider credentialsProvider) {
@@ -114,6 +123,10 @@ public class DatabricksTokenFederationProvider extends RefreshableTokenSource
     }
 
     this.config = databricksConfig;
+    if (connectionContext.isSharedOAuthTokenCacheEnabled() && isShareable()) {
+      SharedOAuthToken token = acquireSharedToken();
+      return token::getHeaders;
+    }
     return () -> {
       Token exchangedToken = getToken();
       Map<String, String> headers = new HashMap<>(this.externalProviderHeaders);
@@ -124,6 +137,67 @@ public class DatabricksTokenFederationProvider extends RefreshableTokenSource
     };
   }
 
+  /** Releases the shared OAuth token of the connection, if it uses one. */
+  public synchronized void close() {
+    if (sharedToken != null) {
+      sharedToken.release(sharedTokenRefresher);
+      sharedToken = null;
+    }
+  }
+
+  private synchronized SharedOAuthToken acquireSharedToken() {
+    // The config is configured again whenever it is resolved, the connection holds a single
+    // reference to the shared token
+    if (sharedToken == null) {
+      sharedToken = SharedOAuthToken.acquire(getSharedTokenKey(), sharedTokenRefresher);
+    }
+    return sharedToken;
+  }
+
+  /**
+   * Browser-based logins are not shared, since the identity of the user is only known once the
+   * token has been fetched.
+   */
+  private boolean isShareable() {
+    return !(credentialsProvider instanceof ExternalBrowserCredentialsProvider);
+  }
+
+  /**
+   * Returns the settings that determine the token: the flow, the host, the client id and scopes,
+   * and a hash of the credentials used to obtain the token.
+   */
+  private List<Object> getSharedTokenKey() {
+    String credentials =
+        Stream.of(
+                connectionContext.getClientSecret(),
+                connectionContext.getPassThroughAccessToken(),
+                connectionContext.getOAuthRefreshToken(),
+                connectionContext.getJWTKeyFile(),
+                connectionContext.getKID(),
+                connectionContext.getJWTPassphrase(),
+                connectionContext.getGoogleCredentials(),
+                connectionContext.getGoogleServiceAccount())
+            .map(String::valueOf)
+            .collect(Collectors.joining("\0"));
+    return Arrays.asList(
+        credentialsProvider.authType(),
+        config.getHost(),
+        connectionContext.getNullableClientId(),
+        connectionContext.getAuthScope(),
+        connectionContext.getAzureTenantId(),
+        connectionContext.getIdentityFederationClientId(),
+        Hashing.sha256().hashString(credentials, StandardCharsets.UTF_8).toString());
+  }
+
+  private SharedOAuthToken.Credentials refreshSharedCredentials() {
+    Token refreshedToken = refresh();
+    Map<String, String> headers = new HashMap<>(this.externalProviderHeaders);
+    headers.put(
+        HttpHeaders.AUTHORIZATION,
+        refreshedToken.getTokenType() + " " + refreshedToken.getAccessToken());
+    return new SharedOAuthToken.Credentials(headers, refreshedToken.getExpiry());
+  }
+
   protected Token refresh() {
     this.externalProviderHeaders = this.credentialsProvider.configure(this.config).headers();
     String[] tokenInfo = extractTokenInfoFromHeader(this.externalProviderHeaders);
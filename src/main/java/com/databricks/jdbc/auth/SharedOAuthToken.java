@@ -0,0 +1,238 @@
+package com.databricks.jdbc.auth;
+
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OAuth token shared by the connections with the same host, client id, scopes and credentials,
+ * used when {@code EnableSharedOAuthTokenCache} is set.
+ *
+ * <p>The token is refreshed in the background ahead of its expiry, so that sending a request only
+ * reads the cached authorization headers. A request only waits for the token endpoint when there is
+ * no usable token, that is for the first request and after background refreshes kept failing until
+ * the token expired.
+ *
+ * <p>Every connection using the token registers the refresher of its own credentials provider, and
+ * refreshes use the oldest refresher still registered. Like {@code SharedHttpConnectionPool}, the
+ * token is reference counted and dropped when the last connection using it releases it.
+ */
+final class SharedOAuthToken {
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(SharedOAuthToken.class);
+  private static final Map<List<Object>, SharedOAuthToken> TOKENS = new HashMap<>();
+  private static final ScheduledExecutorService REFRESH_SCHEDULER = createRefreshScheduler();
+
+  /** How long before it stops being used a token is refreshed, at most half its usable life. */
+  @VisibleForTesting static final Duration MAX_REFRESH_LEAD = Duration.ofMinutes(5);
+
+  /** How long before its expiry a token is no longer used, in line with the SDK token sources. */
+  @VisibleForTesting static final Duration EXPIRY_MARGIN = Duration.ofSeconds(40);
+
+  /** Delay before a failed background refresh is retried while the token is still usable. */
+  @VisibleForTesting static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+  /** Authorization headers and the expiry of the token they carry. */
+  static final class Credentials {
+    private final Map<String, String> headers;
+    private final LocalDateTime expiry;
+
+    Credentials(Map<String, String> headers, LocalDateTime expiry) {
+      this.headers = Map.copyOf(headers);
+      this.expiry = expiry;
+    }
+
+    Map<String, String> getHeaders() {
+      return headers;
+    }
+
+    LocalDateTime getExpiry() {
+      return expiry;
+    }
+
+    private boolean isUsable() {
+      return expiry != null && LocalDateTime.now().plus(EXPIRY_MARGIN).isBefore(expiry);
+    }
+  }
+
+  private final List<Object> key;
+  private final List<Supplier<Credentials>> refreshers = new ArrayList<>();
+  private final Object refreshLock = new Object();
+  private volatile Credentials credentials;
+  private ScheduledFuture<?> scheduledRefresh;
+  private int referenceCount;
+
+  private SharedOAuthToken(List<Object> key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns the token shared under {@code key}, creating it if necessary, registers {@code
+   * refresher} to refresh it and increments its reference count.
+   */
+  static SharedOAuthToken acquire(List<Object> key, Supplier<Credentials> refresher) {
+    synchronized (TOKENS) {
+      SharedOAuthToken token = TOKENS.get(key);
+      if (token == null) {
+        LOGGER.debug("Creating shared OAuth token for host {}", key.get(1));
+        token = new SharedOAuthToken(key);
+        TOKENS.put(key, token);
+      }
+      token.refreshers.add(refresher);
+      token.referenceCount++;
+      return token;
+    }
+  }
+
+  /**
+   * Returns the authorization headers of the token, refreshing it first only if no usable token is
+   * cached.
+   */
+  Map<String, String> getHeaders() {
+    Credentials current = credentials;
+    if (current != null && current.isUsable()) {
+      return current.getHeaders();
+    }
+    synchronized (refreshLock) {
+      // Another thread may have refreshed the token while this one waited
+      current = credentials;
+      if (current != null && current.isUsable()) {
+        return current.getHeaders();
+      }
+      LOGGER.debug("No usable shared OAuth token for host {}, refreshing it", key.get(1));
+      return refresh().getHeaders();
+    }
+  }
+
+  /**
+   * Unregisters {@code refresher}, decrements the reference count of the token, and drops the token
+   * once no connection uses it.
+   */
+  void release(Supplier<Credentials> refresher) {
+    synchronized (TOKENS) {
+      refreshers.remove(refresher);
+      if (referenceCount == 0 || --referenceCount > 0) {
+        return;
+      }
+      TOKENS.remove(key);
+      if (scheduledRefresh != null) {
+        scheduledRefresh.cancel(false);
+        scheduledRefresh = null;
+      }
+    }
+    LOGGER.debug("Dropping shared OAuth token for host {}", key.get(1));
+  }
+
+  @VisibleForTesting
+  static int getTokenCount() {
+    synchronized (TOKENS) {
+      return TOKENS.size();
+    }
+  }
+
+  /** Fetches a new token with the oldest registered refresher. Must hold {@code refreshLock}. */
+  private Credentials refresh() {
+    Supplier<Credentials> refresher;
+    synchronized (TOKENS) {
+      if (refreshers.isEmpty()) {
+        throw new IllegalStateException("Shared OAuth token used after it was released");
+      }
+      refresher = refreshers.get(0);
+    }
+    Credentials refreshed = refresher.get();
+    credentials = refreshed;
+    scheduleRefresh(getRefreshDelay(refreshed.getExpiry()));
+    return refreshed;
+  }
+
+  private void refreshInBackground() {
+    synchronized (refreshLock) {
+      synchronized (TOKENS) {
+        if (referenceCount == 0) {
+          return;
+        }
+      }
+      try {
+        refresh();
+        LOGGER.debug("Refreshed shared OAuth token for host {}", key.get(1));
+      } catch (Exception e) {
+        Credentials current = credentials;
+        Duration remaining =
+            current != null ? getUsableLifetime(current.getExpiry()) : Duration.ZERO;
+        LOGGER.warn(
+            "Background refresh of shared OAuth token for host {} failed: {}",
+            key.get(1),
+            e.getMessage());
+        // Once the token is no longer usable, the next request refreshes it in the foreground
+        if (!remaining.isNegative() && !remaining.isZero()) {
+          Duration retryDelay = remaining.dividedBy(2);
+          scheduleRefresh(retryDelay.compareTo(RETRY_INTERVAL) < 0 ? retryDelay : RETRY_INTERVAL);
+        }
+      }
+    }
+  }
+
+  private void scheduleRefresh(Duration delay) {
+    synchronized (TOKENS) {
+      if (scheduledRefresh != null) {
+        scheduledRefresh.cancel(false);
+        scheduledRefresh = null;
+      }
+      if (referenceCount == 0 || delay == null) {
+        return;
+      }
+      scheduledRefresh =
+          REFRESH_SCHEDULER.schedule(
+              this::refreshInBackground, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Returns the delay after which a token expiring at {@code expiry} is refreshed: {@link
+   * #MAX_REFRESH_LEAD} before it stops being used, or halfway through its usable lifetime if that
+   * is shorter. Returns null if the token has no expiry or is no longer usable.
+   */
+  @VisibleForTesting
+  static Duration getRefreshDelay(LocalDateTime expiry) {
+    if (expiry == null) {
+      return null;
+    }
+    Duration remaining = getUsableLifetime(expiry);
+    if (remaining.isNegative() || remaining.isZero()) {
+      return null;
+    }
+    Duration halfRemaining = remaining.dividedBy(2);
+    Duration lead =
+        halfRemaining.compareTo(MAX_REFRESH_LEAD) < 0 ? halfRemaining : MAX_REFRESH_LEAD;
+    return remaining.minus(lead);
+  }
+
+  private static Duration getUsableLifetime(LocalDateTime expiry) {
+    return expiry != null
+        ? Duration.between(LocalDateTime.now(), expiry.minus(EXPIRY_MARGIN))
+        : Duration.ZERO;
+  }
+
+  private static ScheduledExecutorService createRefreshScheduler() {
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            r -> {
+              Thread thread = new Thread(r, "Shared-OAuth-Token-Refresher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+}
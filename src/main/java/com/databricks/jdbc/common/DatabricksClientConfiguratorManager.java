@@ -67,6 +67,9 @@ public class DatabricksClientConfiguratorManager {
   }
 
   public void removeInstance(IDatabricksConnectionContext context) {
-    instances.remove(context.getConnectionUuid());
+    ClientConfigurator configurator = instances.remove(context.getConnectionUuid());
+    if (configurator != null) {
+      configurator.close();
+    }
   }
 }
@@ -153,7 +153,83 @@ public enum DatabricksJdbcUrlParams {
   HTTP_CONNECTION_REQUEST_TIMEOUT(
       "HttpConnectionRequestTimeout", "HTTP connection request timeout in seconds"),
   CLOUD_FETCH_SPEED_THRESHOLD(
-      "CloudFetchSpeedThreshold", "Minimum expected download speed in MB/s", "0.1");
+      "CloudFetchSpeedThreshold", "Minimum expected download speed in MB/s", "0.1"),
+  ENABLE_STREAMING_CHUNK_DECOMPRESSION(
+      "EnableStreamingChunkDecompression",
+      "Decompress and parse CloudFetch chunks while they are downloaded instead of buffering them",
+      "1"),
+  ARROW_MEMORY_LIMIT_MB(
+      "ArrowMemoryLimitMB",
+      "Process-wide upper bound in MB for off-heap memory held by Arrow result data across all connections, applied when a connection sets it, the connection that set it last wins. 0 means unbounded",
+      "0"),
+  CLOUD_FETCH_PREFETCH_MEMORY_MB(
+      "CloudFetchPrefetchMemoryMB",
+      "Maximum size in MB of the CloudFetch chunks of a result that are downloaded ahead of the reader. 0 means bounded by cloudFetchThreadPoolSize only",
+      "512"),
+  CLOUD_FETCH_MAX_CONCURRENT_DOWNLOADS(
+      "CloudFetchMaxConcurrentDownloads",
+      "Process-wide maximum number of CloudFetch chunk downloads running at the same time across all connections, applied when a connection sets it",
+      "128"),
+  ENABLE_LAZY_RESULT_LINK_FETCH(
+      "EnableLazyResultLinkFetch",
+      "Fetch the pages of CloudFetch result links of Thrift results in the background while rows are read, instead of fetching all pages before the first row. Row and chunk counts of the result then only cover the pages fetched so far",
+      "0"),
+  ENABLE_LAZY_INLINE_RESULT_FETCH(
+      "EnableLazyInlineResultFetch",
+      "Fetch the pages of inline Arrow and columnar results of Thrift results as rows are read, instead of fetching all pages before the first row. The row count of the result then only covers the pages fetched so far",
+      "0"),
+  INLINE_RESULT_READ_AHEAD(
+      "InlineResultReadAhead",
+      "When inline Arrow results are fetched lazily, fetch the next page in the background while the current page is read",
+      "1"),
+  ENABLE_STREAMING_THRIFT_TRANSPORT(
+      "EnableStreamingThriftTransport",
+      "Decode Thrift responses directly from the HTTP response stream instead of buffering the whole response first",
+      "0"),
+  ASYNC_EXEC_MAX_POLL_INTERVAL(
+      "AsyncExecMaxPollInterval",
+      "Maximum interval in milliseconds between status polls of a running statement. The interval grows from asyncexecpollinterval up to this value",
+      "2000"),
+  SQL_EXEC_WAIT_TIMEOUT(
+      "SqlExecWaitTimeout",
+      "Seconds the SQL Execution API waits for a statement to finish before it is polled, between 5 and 50. 0 polls from the start",
+      "10"),
+  ENABLE_SHARED_HTTP_CONNECTION_POOL(
+      "EnableSharedHttpConnectionPool",
+      "Share one HTTP connection pool between connections to the same host with the same TLS and proxy settings",
+      "0"),
+  CONNECTION_VALIDATION_CACHE_INTERVAL(
+      "ConnectionValidationCacheInterval",
+      "Time in milliseconds for which a successful server check of Connection.isValid is reused",
+      "5000"),
+  BATCH_INSERT_CONCURRENCY(
+      "BatchInsertConcurrency",
+      "Maximum number of multi-row INSERT chunks of a batch executing at the same time. The next chunk is prepared while the previous ones execute. 0 executes the chunks one after another",
+      "0"),
+  ENABLE_SHARED_OAUTH_TOKEN_CACHE(
+      "EnableSharedOAuthTokenCache",
+      "Share one OAuth token between connections with the same host, client id, scopes and credentials, and refresh it in the background ahead of its expiry",
+      "0"),
+  ENABLE_ASYNC_CLOUD_FETCH(
+      "EnableAsyncCloudFetch",
+      "Download CloudFetch chunks with non-blocking requests on the driver-wide asynchronous HTTP client, decoding them on a bounded pool of CPU threads",
+      "0"),
+  CHUNK_DECOMPRESSION_PARALLELISM(
+      "ChunkDecompressionParallelism",
+      "Number of LZ4 blocks of a streamed CloudFetch chunk decompressed concurrently on a shared pool of CPU threads, 0 or 1 to decompress on the download thread",
+      "0"),
+  ENABLE_PROGRESSIVE_CHUNK_READING(
+      "EnableProgressiveChunkReading",
+      "Make the rows of a CloudFetch chunk readable as soon as their record batch is parsed, instead of after the whole chunk is downloaded and parsed",
+      "0"),
+  PROGRESSIVE_CHUNK_READ_AHEAD_BATCHES(
+      "ProgressiveChunkReadAheadBatches",
+      "Maximum number of parsed record batches of a progressively read CloudFetch chunk that are not read yet. The download of the chunk pauses while this many are pending",
+      "8"),
+  PROGRESSIVE_CHUNK_READ_TIMEOUT_SECONDS(
+      "ProgressiveChunkReadTimeoutSeconds",
+      "Time limit in seconds for the download of a progressively read CloudFetch chunk to stay paused on unread record batches, after which the download fails and frees its download thread. 0 means no limit",
+      "300");
 
   private final String paramName;
   private final String defaultValue;
@@ -1,11 +1,8 @@
 package com.databricks.jdbc.common.util;
 
-import static com.databricks.jdbc.common.EnvironmentVariables.DEFAULT_RESULT_ROW_LIMIT;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.*;
 import static com.databricks.jdbc.model.client.thrift.generated.TTypeId.*;
 
-import com.databricks.jdbc.api.internal.IDatabricksSession;
-import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.DatabricksJdbcConstants;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.exception.DatabricksHttpException;
@@ -21,6 +18,7 @@ import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import com.databricks.sdk.service.sql.StatementState;
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class DatabricksThriftUtil {
 
@@ -82,13 +80,23 @@ public class DatabricksThriftUtil {
 
   public static void verifySuccessStatus(TStatus status, String errorContext, String statementId)
       throws DatabricksHttpException {
+    verifySuccessStatus(status, () -> errorContext, statementId);
+  }
+
+  /**
+   * Verifies the status of a Thrift response, building the error context only if the status is not
+   * successful. Used on the fetch path, where rendering the request and response is expensive.
+   */
+  public static void verifySuccessStatus(
+      TStatus status, Supplier<String> errorContext, String statementId)
+      throws DatabricksHttpException {
     if (!SUCCESS_STATUS_LIST.contains(status.getStatusCode())) {
       String errorMessage =
           statementId != null
               ? String.format(
                   "Error thrift response received [%s] for statementId [%s]",
-                  errorContext, statementId)
-              : String.format("Error thrift response received [%s]", errorContext);
+                  errorContext.get(), statementId)
+              : String.format("Error thrift response received [%s]", errorContext.get());
       LOGGER.error(errorMessage);
       throw new DatabricksHttpException(errorMessage, status.getSqlState());
     }
@@ -277,30 +285,6 @@ public class DatabricksThriftUtil {
     return result;
   }
 
-  public static List<List<Object>> convertColumnarToRowBased(
-      TFetchResultsResp resultsResp,
-      IDatabricksStatementInternal parentStatement,
-      IDatabricksSession session)
-      throws DatabricksSQLException {
-    int statementMaxRows =
-        parentStatement != null ? parentStatement.getMaxRows() : DEFAULT_RESULT_ROW_LIMIT;
-    boolean hasRowLimit = statementMaxRows > 0;
-    List<List<Object>> rows = extractRowsFromColumnar(resultsResp.getResults());
-    while (resultsResp.hasMoreRows) {
-      resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
-      rows.addAll(extractRowsFromColumnar(resultsResp.getResults()));
-      if (hasRowLimit
-          && rows.size() >= statementMaxRows) { // check if we have reached requested row limit
-        break;
-      }
-    }
-    if (hasRowLimit
-        && rows.size() > statementMaxRows) { // truncate rows to get exact number of rows requested
-      rows = rows.subList(0, statementMaxRows);
-    }
-    return rows;
-  }
-
   public static TOperationHandle getOperationHandle(StatementId statementId) {
     THandleIdentifier identifier = statementId.toOperationIdentifier();
     // This will help logging the statement-Id in readable format for debugging purposes
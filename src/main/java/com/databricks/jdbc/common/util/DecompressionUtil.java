@@ -6,6 +6,7 @@ import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,9 @@ public class DecompressionUtil {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DecompressionUtil.class);
 
+  /** Read buffer placed between the network stream and the LZ4 frame decoder. */
+  private static final int STREAMING_BUFFER_SIZE = 64 * 1024;
+
   private static byte[] decompressLZ4Frame(byte[] compressedInput, String context)
       throws DatabricksSQLException {
     LOGGER.debug("Decompressing using LZ4 Frame algorithm. Context: {}", context);
@@ -67,4 +71,72 @@ public class DecompressionUtil {
     byte[] uncompressedBytes = decompress(compressedBytes, compressionCodec, context);
     return new ByteArrayInputStream(uncompressedBytes);
   }
+
+  /**
+   * Wraps the compressed stream in a decompressing stream, so that the data is decompressed while
+   * the caller reads it. Unlike {@link #decompress(InputStream, CompressionCodec, String)}, neither
+   * the compressed nor the decompressed payload is materialized in memory.
+   *
+   * @param compressedStream the compressed input stream
+   * @param compressionCodec the codec the stream was compressed with
+   * @param context description of the data, used for logging and error messages
+   * @return a stream producing the decompressed data
+   * @throws DatabricksSQLException if the codec is unknown or the LZ4 frame cannot be opened
+   */
+  public static InputStream decompressStream(
+      InputStream compressedStream, CompressionCodec compressionCodec, String context)
+      throws DatabricksSQLException {
+    return decompressStream(compressedStream, compressionCodec, context, 1);
+  }
+
+  /**
+   * Wraps the compressed stream in a decompressing stream like {@link
+   * #decompressStream(InputStream, CompressionCodec, String)}, decompressing up to {@code
+   * parallelism} LZ4 frame blocks at the same time while the caller reads the previous ones.
+   *
+   * @param compressedStream the compressed input stream
+   * @param compressionCodec the codec the stream was compressed with
+   * @param context description of the data, used for logging and error messages
+   * @param parallelism the number of blocks decompressed concurrently, 1 or less to decompress on
+   *     the calling thread
+   * @return a stream producing the decompressed data
+   * @throws DatabricksSQLException if the codec is unknown or the LZ4 frame cannot be opened
+   */
+  public static InputStream decompressStream(
+      InputStream compressedStream,
+      CompressionCodec compressionCodec,
+      String context,
+      int parallelism)
+      throws DatabricksSQLException {
+    if (compressionCodec == null
+        || compressionCodec.equals(CompressionCodec.NONE)
+        || compressedStream == null) {
+      LOGGER.debug("Compression is NONE /InputStream is `NULL`. Skipping compression.");
+      return compressedStream;
+    }
+    switch (compressionCodec) {
+      case LZ4_FRAME:
+        LOGGER.debug("Streaming decompression using LZ4 Frame algorithm. Context: {}", context);
+        if (parallelism > 1) {
+          return new ParallelLz4FrameInputStream(
+              new BufferedInputStream(compressedStream, STREAMING_BUFFER_SIZE), parallelism);
+        }
+        try {
+          return new LZ4FrameInputStream(
+              new BufferedInputStream(compressedStream, STREAMING_BUFFER_SIZE));
+        } catch (IOException e) {
+          String errorMessage =
+              String.format("Unable to de-compress LZ4 Frame compressed result %s", context);
+          LOGGER.error(e, errorMessage);
+          throw new DatabricksParsingException(
+              errorMessage, e, DatabricksDriverErrorCode.DECOMPRESSION_ERROR);
+        }
+      default:
+        String errorMessage =
+            String.format("Unknown compression type: %s. Context : %s", compressionCodec, context);
+        LOGGER.error(errorMessage);
+        throw new DatabricksSQLException(
+            errorMessage, DatabricksDriverErrorCode.DECOMPRESSION_ERROR);
+    }
+  }
 }
@@ -0,0 +1,373 @@
+package com.databricks.jdbc.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import net.jpountz.xxhash.StreamingXXHash32;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
+
+/**
+ * Decompresses an LZ4 frame stream, decompressing the blocks of each frame concurrently on a
+ * fork-join pool shared by the driver.
+ *
+ * <p>The thread reading this stream reads the compressed blocks from the source in order, keeping
+ * up to {@code parallelism} blocks ahead of the block it is reading, and the blocks are returned in
+ * order once decompressed. The reader thus parses one block while the following blocks are being
+ * decompressed. Block and content checksums are verified when present.
+ *
+ * <p>Frames whose blocks depend on the previous blocks, or that use a dictionary, cannot be split.
+ * From the first such frame on, the rest of the stream is decompressed with {@link
+ * LZ4FrameInputStream} on the reading thread.
+ */
+final class ParallelLz4FrameInputStream extends InputStream {
+  private static final int MAGIC = 0x184D2204;
+  private static final int SKIPPABLE_MAGIC_MASK = 0xFFFFFFF0;
+  private static final int SKIPPABLE_MAGIC = 0x184D2A50;
+  private static final int UNCOMPRESSED_BLOCK_FLAG = 0x80000000;
+
+  private static final LZ4SafeDecompressor DECOMPRESSOR =
+      LZ4Factory.fastestInstance().safeDecompressor();
+  private static final XXHash32 BLOCK_HASH = XXHashFactory.fastestInstance().hash32();
+  private static final ForkJoinPool DECOMPRESSION_POOL = createDecompressionPool();
+
+  /** Descriptor of the frame a block belongs to, and the running checksum of its content. */
+  private static final class Frame {
+    private final int maxBlockSize;
+    private final boolean blockChecksum;
+    private final StreamingXXHash32 contentHash;
+    private int expectedContentChecksum;
+
+    private Frame(int maxBlockSize, boolean blockChecksum, boolean contentChecksum) {
+      this.maxBlockSize = maxBlockSize;
+      this.blockChecksum = blockChecksum;
+      this.contentHash =
+          contentChecksum ? XXHashFactory.fastestJavaInstance().newStreamingHash32(0) : null;
+    }
+  }
+
+  /** A block being decompressed, or the end of its frame when {@code data} is null. */
+  private static final class Block {
+    private final Frame frame;
+    private final CompletableFuture<ByteBuffer> data;
+
+    private Block(Frame frame, CompletableFuture<ByteBuffer> data) {
+      this.frame = frame;
+      this.data = data;
+    }
+  }
+
+  private final InputStream source;
+  private final int parallelism;
+  private final Deque<Block> pendingBlocks = new ArrayDeque<>();
+  private final byte[] intBuffer = new byte[Integer.BYTES];
+  private Frame currentFrame;
+  private ByteBuffer currentBlock;
+  private InputStream sequentialStream;
+  private boolean sourceExhausted;
+  private boolean closed;
+
+  /**
+   * @param source the compressed stream, read by the thread reading this stream
+   * @param parallelism the maximum number of blocks decompressed at the same time
+   */
+  ParallelLz4FrameInputStream(InputStream source, int parallelism) {
+    this.source = source;
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] singleByte = new byte[1];
+    return read(singleByte, 0, 1) > 0 ? singleByte[0] & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (length == 0) {
+      return 0;
+    }
+    ByteBuffer block = nextBlock();
+    if (block == null) {
+      return sequentialStream != null ? sequentialStream.read(bytes, offset, length) : -1;
+    }
+    int count = Math.min(length, block.remaining());
+    block.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public int available() throws IOException {
+    if (currentBlock != null && currentBlock.hasRemaining()) {
+      return currentBlock.remaining();
+    }
+    return sequentialStream != null && pendingBlocks.isEmpty() ? sequentialStream.available() : 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    pendingBlocks.forEach(block -> cancel(block.data));
+    pendingBlocks.clear();
+    currentBlock = null;
+    if (sequentialStream != null) {
+      sequentialStream.close();
+    } else {
+      source.close();
+    }
+  }
+
+  /**
+   * Returns the block with unread data, waiting for it to be decompressed, or null once all the
+   * frames read in parallel have been returned.
+   */
+  private ByteBuffer nextBlock() throws IOException {
+    while (currentBlock == null || !currentBlock.hasRemaining()) {
+      fillPipeline();
+      Block block = pendingBlocks.poll();
+      if (block == null) {
+        currentBlock = null;
+        return null;
+      }
+      // Replace the block taken off the pipeline before waiting for it
+      fillPipeline();
+      if (block.data == null) {
+        verifyContentChecksum(block.frame);
+        continue;
+      }
+      currentBlock = await(block.data);
+      if (block.frame.contentHash != null) {
+        block.frame.contentHash.update(
+            currentBlock.array(), currentBlock.position(), currentBlock.remaining());
+      }
+    }
+    return currentBlock;
+  }
+
+  /** Reads compressed blocks and submits them until {@code parallelism} blocks are pending. */
+  private void fillPipeline() throws IOException {
+    while (!sourceExhausted && sequentialStream == null && pendingBlocks.size() < parallelism) {
+      if (currentFrame == null) {
+        if (!readFrameHeader()) {
+          sourceExhausted = true;
+        }
+        continue;
+      }
+      Frame frame = currentFrame;
+      int blockHeader = readInt();
+      if (blockHeader == 0) {
+        // End mark of the frame
+        if (frame.contentHash != null) {
+          frame.expectedContentChecksum = readInt();
+        }
+        pendingBlocks.add(new Block(frame, null));
+        currentFrame = null;
+        continue;
+      }
+      boolean compressed = (blockHeader & UNCOMPRESSED_BLOCK_FLAG) == 0;
+      int blockSize = blockHeader & ~UNCOMPRESSED_BLOCK_FLAG;
+      if (blockSize > frame.maxBlockSize) {
+        throw new IOException(
+            String.format(
+                "LZ4 block size %d exceeds the maximum block size %d of the frame",
+                blockSize, frame.maxBlockSize));
+      }
+      byte[] blockData = readBytes(blockSize);
+      boolean hasChecksum = frame.blockChecksum;
+      int checksum = hasChecksum ? readInt() : 0;
+      pendingBlocks.add(
+          new Block(
+              frame,
+              CompletableFuture.supplyAsync(
+                  () ->
+                      decodeBlock(
+                          blockData, compressed, frame.maxBlockSize, hasChecksum, checksum),
+                  DECOMPRESSION_POOL)));
+    }
+  }
+
+  /**
+   * Reads the header of the next frame, skipping skippable frames. Switches to sequential
+   * decompression for frames whose blocks cannot be decompressed independently.
+   *
+   * @return false if the source has no more frames
+   */
+  private boolean readFrameHeader() throws IOException {
+    int firstByte = source.read();
+    if (firstByte < 0) {
+      return false;
+    }
+    byte[] magicBytes = new byte[Integer.BYTES];
+    magicBytes[0] = (byte) firstByte;
+    readFully(magicBytes, 1, Integer.BYTES - 1);
+    int magic = toInt(magicBytes);
+    if ((magic & SKIPPABLE_MAGIC_MASK) == SKIPPABLE_MAGIC) {
+      skipFully(readInt() & 0xFFFFFFFFL);
+      return true;
+    }
+    if (magic != MAGIC) {
+      throw new IOException(String.format("Invalid LZ4 frame magic number 0x%08X", magic));
+    }
+
+    byte[] flags = readBytes(2);
+    int flg = flags[0] & 0xFF;
+    int bd = flags[1] & 0xFF;
+    if ((flg >>> 6) != 1 || (flg & 0x02) != 0 || (bd & 0x8F) != 0) {
+      throw new IOException("Unsupported LZ4 frame descriptor");
+    }
+    boolean blockIndependence = (flg & 0x20) != 0;
+    boolean blockChecksum = (flg & 0x10) != 0;
+    boolean contentSize = (flg & 0x08) != 0;
+    boolean contentChecksum = (flg & 0x04) != 0;
+    boolean dictionaryId = (flg & 0x01) != 0;
+    int blockSizeId = (bd >>> 4) & 0x07;
+    if (blockSizeId < 4) {
+      throw new IOException("Invalid LZ4 frame block size id " + blockSizeId);
+    }
+
+    byte[] optionalFields = readBytes((contentSize ? Long.BYTES : 0) + (dictionaryId ? 4 : 0));
+    byte[] descriptor = new byte[flags.length + optionalFields.length];
+    System.arraycopy(flags, 0, descriptor, 0, flags.length);
+    System.arraycopy(optionalFields, 0, descriptor, flags.length, optionalFields.length);
+    int headerChecksum = readBytes(1)[0] & 0xFF;
+    if (((BLOCK_HASH.hash(descriptor, 0, descriptor.length, 0) >> 8) & 0xFF) != headerChecksum) {
+      throw new IOException("LZ4 frame header checksum mismatch");
+    }
+
+    if (!blockIndependence || dictionaryId) {
+      // Hand the frame, header included, and everything after it to the sequential decoder
+      byte[] header = new byte[magicBytes.length + descriptor.length + 1];
+      System.arraycopy(magicBytes, 0, header, 0, magicBytes.length);
+      System.arraycopy(descriptor, 0, header, magicBytes.length, descriptor.length);
+      header[header.length - 1] = (byte) headerChecksum;
+      sequentialStream =
+          new LZ4FrameInputStream(
+              new SequenceInputStream(new ByteArrayInputStream(header), source));
+      return true;
+    }
+    currentFrame = new Frame(1 << (2 * blockSizeId + 8), blockChecksum, contentChecksum);
+    return true;
+  }
+
+  private static ByteBuffer decodeBlock(
+      byte[] blockData, boolean compressed, int maxBlockSize, boolean hasChecksum, int checksum) {
+    if (hasChecksum && BLOCK_HASH.hash(blockData, 0, blockData.length, 0) != checksum) {
+      throw new CompletionException(new IOException("LZ4 block checksum mismatch"));
+    }
+    if (!compressed) {
+      return ByteBuffer.wrap(blockData);
+    }
+    byte[] decompressed = new byte[maxBlockSize];
+    int length = DECOMPRESSOR.decompress(blockData, 0, blockData.length, decompressed, 0);
+    return ByteBuffer.wrap(decompressed, 0, length);
+  }
+
+  private static void verifyContentChecksum(Frame frame) throws IOException {
+    if (frame.contentHash == null) {
+      return;
+    }
+    int actualChecksum = frame.contentHash.getValue();
+    frame.contentHash.close();
+    if (actualChecksum != frame.expectedContentChecksum) {
+      throw new IOException("LZ4 frame content checksum mismatch");
+    }
+  }
+
+  private static ByteBuffer await(CompletableFuture<ByteBuffer> block) throws IOException {
+    try {
+      return block.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for LZ4 block decompression");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Unable to decompress LZ4 block", e.getCause());
+    }
+  }
+
+  private static void cancel(CompletableFuture<ByteBuffer> block) {
+    if (block != null) {
+      block.cancel(false);
+    }
+  }
+
+  private int readInt() throws IOException {
+    readFully(intBuffer, 0, Integer.BYTES);
+    return toInt(intBuffer);
+  }
+
+  /** Decodes the little-endian integer in the first four bytes. */
+  private static int toInt(byte[] bytes) {
+    return (bytes[0] & 0xFF)
+        | (bytes[1] & 0xFF) << 8
+        | (bytes[2] & 0xFF) << 16
+        | (bytes[3] & 0xFF) << 24;
+  }
+
+  private byte[] readBytes(int length) throws IOException {
+    byte[] bytes = new byte[length];
+    readFully(bytes, 0, length);
+    return bytes;
+  }
+
+  private void readFully(byte[] bytes, int offset, int length) throws IOException {
+    int bytesRead = 0;
+    while (bytesRead < length) {
+      int count = source.read(bytes, offset + bytesRead, length - bytesRead);
+      if (count < 0) {
+        throw new EOFException("Unexpected end of LZ4 frame stream");
+      }
+      bytesRead += count;
+    }
+  }
+
+  private void skipFully(long length) throws IOException {
+    long skipped = 0;
+    while (skipped < length) {
+      long count = source.skip(length - skipped);
+      if (count <= 0) {
+        if (source.read() < 0) {
+          throw new EOFException("Unexpected end of LZ4 skippable frame");
+        }
+        count = 1;
+      }
+      skipped += count;
+    }
+  }
+
+  private static ForkJoinPool createDecompressionPool() {
+    return new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors(),
+        pool -> {
+          ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("LZ4-Decompression-" + thread.getPoolIndex());
+          thread.setDaemon(true);
+          return thread;
+        },
+        null,
+        false);
+  }
+}
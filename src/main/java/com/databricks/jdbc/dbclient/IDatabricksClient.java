@@ -84,6 +84,15 @@ public interface IDatabricksClient {
       IDatabricksStatementInternal parentStatement)
       throws SQLException;
 
+  /**
+   * Checks that the session is still open on the Databricks server, with a lightweight request
+   * where the API offers one
+   *
+   * @param session underlying session
+   * @throws SQLException if the session is no longer valid or the server cannot be reached
+   */
+  void checkSession(IDatabricksSession session) throws SQLException;
+
   /**
    * Closes a statement in Databricks server
    *
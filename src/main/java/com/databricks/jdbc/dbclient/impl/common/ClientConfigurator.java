@@ -143,6 +143,14 @@ public class ClientConfigurator {
     return new WorkspaceClient(databricksConfig);
   }
 
+  /** Releases the shared OAuth token held by the credentials provider of the config, if any. */
+  public void close() {
+    CredentialsProvider credentialsProvider = databricksConfig.getCredentialsProvider();
+    if (credentialsProvider instanceof DatabricksTokenFederationProvider) {
+      ((DatabricksTokenFederationProvider) credentialsProvider).close();
+    }
+  }
+
   /** Setup the workspace authentication settings in the databricks config. */
   public void setupAuthConfig() {
     AuthMech authMech = connectionContext.getAuthMech();
@@ -306,6 +314,7 @@ public class ClientConfigurator {
   }
 
   public void resetAccessTokenInConfig(String newAccessToken) {
+    close();
     this.databricksConfig = initializeConfigWithToken(newAccessToken, databricksConfig);
     this.databricksConfig.resolve();
   }
@@ -0,0 +1,45 @@
+package com.databricks.jdbc.dbclient.impl.common;
+
+/**
+ * Schedule of the delays between status polls of a running statement.
+ *
+ * <p>The first {@link #FAST_POLL_COUNT} polls follow each other quickly, so that short statements
+ * are not delayed by a full poll interval. The delays then start at the configured poll interval
+ * and grow by {@link #GROWTH_FACTOR} after every poll up to the maximum interval, so that long
+ * running statements are polled rarely. Setting the maximum interval to at most the poll interval
+ * gives a fixed schedule after the fast polls.
+ */
+public class PollBackoff {
+
+  static final int FAST_POLL_COUNT = 3;
+  static final long FAST_POLL_INTERVAL_MILLIS = 50;
+  static final double GROWTH_FACTOR = 1.5;
+
+  private final long pollIntervalMillis;
+  private final long maxPollIntervalMillis;
+  private int pollCount;
+  private long currentIntervalMillis;
+
+  /**
+   * @param pollIntervalMillis delay after the fast polls
+   * @param maxPollIntervalMillis upper bound for the delay
+   */
+  public PollBackoff(long pollIntervalMillis, long maxPollIntervalMillis) {
+    this.pollIntervalMillis = Math.max(0, pollIntervalMillis);
+    this.maxPollIntervalMillis = Math.max(this.pollIntervalMillis, maxPollIntervalMillis);
+  }
+
+  /** Returns the delay in milliseconds before the next poll. */
+  public long nextDelayMillis() {
+    pollCount++;
+    if (pollCount <= FAST_POLL_COUNT) {
+      return Math.min(FAST_POLL_INTERVAL_MILLIS, pollIntervalMillis);
+    }
+    currentIntervalMillis =
+        pollCount == FAST_POLL_COUNT + 1
+            ? pollIntervalMillis
+            : Math.min(
+                maxPollIntervalMillis, (long) Math.ceil(currentIntervalMillis * GROWTH_FACTOR));
+    return currentIntervalMillis;
+  }
+}
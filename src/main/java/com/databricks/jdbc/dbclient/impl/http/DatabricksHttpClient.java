@@ -49,15 +49,21 @@ public class DatabricksHttpClient implements IDatabricksHttpClient, Closeable {
   private final PoolingHttpClientConnectionManager connectionManager;
   private final CloseableHttpClient httpClient;
   private IdleConnectionEvictor idleConnectionEvictor;
+  private SharedHttpConnectionPool sharedConnectionPool;
   private CloseableHttpAsyncClient asyncClient;
 
   DatabricksHttpClient(IDatabricksConnectionContext connectionContext, HttpClientType type) {
-    connectionManager = initializeConnectionManager(connectionContext);
+    if (connectionContext.isSharedHttpConnectionPoolEnabled()) {
+      sharedConnectionPool = acquireSharedConnectionPool(connectionContext);
+      connectionManager = sharedConnectionPool.getConnectionManager();
+    } else {
+      connectionManager = initializeConnectionManager(connectionContext);
+      idleConnectionEvictor =
+          new IdleConnectionEvictor(
+              connectionManager, connectionContext.getIdleHttpConnectionExpiry(), TimeUnit.SECONDS);
+      idleConnectionEvictor.start();
+    }
     httpClient = makeClosableHttpClient(connectionContext, type);
-    idleConnectionEvictor =
-        new IdleConnectionEvictor(
-            connectionManager, connectionContext.getIdleHttpConnectionExpiry(), TimeUnit.SECONDS);
-    idleConnectionEvictor.start();
     asyncClient = GlobalAsyncHttpClient.getClient();
   }
 
@@ -118,7 +124,10 @@ public class DatabricksHttpClient implements IDatabricksHttpClient, Closeable {
     if (httpClient != null) {
       httpClient.close();
     }
-    if (connectionManager != null) {
+    if (sharedConnectionPool != null) {
+      sharedConnectionPool.release();
+      sharedConnectionPool = null;
+    } else if (connectionManager != null) {
       connectionManager.shutdown();
     }
     if (asyncClient != null) {
@@ -144,6 +153,18 @@ public class DatabricksHttpClient implements IDatabricksHttpClient, Closeable {
     }
   }
 
+  private SharedHttpConnectionPool acquireSharedConnectionPool(
+      IDatabricksConnectionContext connectionContext) {
+    try {
+      return SharedHttpConnectionPool.acquire(connectionContext, DEFAULT_MAX_HTTP_CONNECTIONS);
+    } catch (DatabricksSSLException e) {
+      LOGGER.error("Failed to initialize shared HTTP connection pool", e);
+      throw new DatabricksDriverException(
+          "Failed to initialize HTTP connection manager",
+          DatabricksDriverErrorCode.SSL_HANDSHAKE_ERROR);
+    }
+  }
+
   private RequestConfig makeRequestConfig(IDatabricksConnectionContext connectionContext) {
     int timeoutMillis = connectionContext.getSocketTimeout() * 1000;
     int requestTimeout =
@@ -166,6 +187,8 @@ public class DatabricksHttpClient implements IDatabricksHttpClient, Closeable {
     HttpClientBuilder builder =
         HttpClientBuilder.create()
             .setConnectionManager(connectionManager)
+            // A shared pool outlives the client and is shut down by its last user
+            .setConnectionManagerShared(sharedConnectionPool != null)
             .setUserAgent(UserAgentManager.getUserAgentString())
             .setDefaultRequestConfig(makeRequestConfig(connectionContext))
             .setRetryHandler(retryHandler)
@@ -73,7 +73,10 @@ public class GlobalAsyncHttpClient {
     static final int MAX_CONNECTIONS_PER_ROUTE = 1000;
     static final int EVICTION_CHECK_INTERVAL_SECONDS = 60;
     static final int IDLE_CONNECTION_TIMEOUT_SECONDS = 180;
-    static final int IO_THREADS_COUNT = Math.max(Runtime.getRuntime().availableProcessors() * 2, 8);
+    // The I/O threads only move bytes between sockets and buffers, the decoding of the responses
+    // runs on other threads, so a handful of them serves every statement of the JVM
+    static final int IO_THREADS_COUNT =
+        Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 4));
 
     private final CloseableHttpAsyncClient client;
     private final PoolingAsyncClientConnectionManager connectionManager;
@@ -0,0 +1,147 @@
+package com.databricks.jdbc.dbclient.impl.http;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.dbclient.impl.common.ConfiguratorUtils;
+import com.databricks.jdbc.exception.DatabricksSSLException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * HTTP connection pool shared by the connections to the same host with the same TLS and proxy
+ * settings, used when {@code EnableSharedHttpConnectionPool} is set.
+ *
+ * <p>Each connection still builds its own HTTP client, with its own retry handler, timeouts and
+ * proxy, on top of the shared {@link PoolingHttpClientConnectionManager}, so that TLS sessions and
+ * open sockets are reused across connections. Like {@link GlobalAsyncHttpClient}, a pool is
+ * reference counted and shut down together with its idle connection evictor when the last
+ * connection using it releases it.
+ */
+final class SharedHttpConnectionPool {
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(SharedHttpConnectionPool.class);
+  private static final Map<List<Object>, SharedHttpConnectionPool> POOLS = new HashMap<>();
+
+  private final List<Object> key;
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final IdleConnectionEvictor idleConnectionEvictor;
+  private int referenceCount;
+
+  private SharedHttpConnectionPool(
+      List<Object> key,
+      PoolingHttpClientConnectionManager connectionManager,
+      int idleConnectionExpirySeconds) {
+    this.key = key;
+    this.connectionManager = connectionManager;
+    this.idleConnectionEvictor =
+        new IdleConnectionEvictor(connectionManager, idleConnectionExpirySeconds, TimeUnit.SECONDS);
+    this.idleConnectionEvictor.start();
+  }
+
+  /**
+   * Returns the pool matching the settings of the connection, creating it if necessary, and
+   * increments its reference count.
+   *
+   * @param maxTotalConnections the maximum number of connections of a newly created pool
+   */
+  static SharedHttpConnectionPool acquire(
+      IDatabricksConnectionContext connectionContext, int maxTotalConnections)
+      throws DatabricksSSLException {
+    List<Object> key = getPoolKey(connectionContext);
+    synchronized (POOLS) {
+      SharedHttpConnectionPool pool = POOLS.get(key);
+      if (pool == null) {
+        LOGGER.debug("Creating shared HTTP connection pool for host {}", key.get(0));
+        PoolingHttpClientConnectionManager connectionManager =
+            ConfiguratorUtils.getBaseConnectionManager(connectionContext);
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(connectionContext.getHttpMaxConnectionsPerRoute());
+        pool =
+            new SharedHttpConnectionPool(
+                key, connectionManager, connectionContext.getIdleHttpConnectionExpiry());
+        POOLS.put(key, pool);
+      }
+      pool.referenceCount++;
+      return pool;
+    }
+  }
+
+  PoolingHttpClientConnectionManager getConnectionManager() {
+    return connectionManager;
+  }
+
+  /**
+   * Decrements the reference count of the pool, and shuts the pool down once no connection uses it.
+   */
+  void release() {
+    synchronized (POOLS) {
+      if (referenceCount == 0 || --referenceCount > 0) {
+        return;
+      }
+      POOLS.remove(key);
+    }
+    LOGGER.debug("Shutting down shared HTTP connection pool for host {}", key.get(0));
+    idleConnectionEvictor.shutdown();
+    connectionManager.shutdown();
+  }
+
+  @VisibleForTesting
+  static int getPoolCount() {
+    synchronized (POOLS) {
+      return POOLS.size();
+    }
+  }
+
+  /**
+   * Returns the settings that determine the connections of a pool: the workspace host, everything
+   * used to build the TLS socket factories, the pool limits and the proxy in use.
+   */
+  private static List<Object> getPoolKey(IDatabricksConnectionContext connectionContext) {
+    List<Object> key =
+        new ArrayList<>(
+            Arrays.asList(
+                connectionContext.getHostForOAuth(),
+                connectionContext.getSSLTrustStore(),
+                connectionContext.getSSLTrustStorePassword(),
+                connectionContext.getSSLTrustStoreType(),
+                connectionContext.getSSLTrustStoreProvider(),
+                connectionContext.getSSLKeyStore(),
+                connectionContext.getSSLKeyStorePassword(),
+                connectionContext.getSSLKeyStoreType(),
+                connectionContext.getSSLKeyStoreProvider(),
+                connectionContext.useSystemTrustStore(),
+                connectionContext.allowSelfSignedCerts(),
+                connectionContext.checkCertificateRevocation(),
+                connectionContext.acceptUndeterminedCertificateRevocation(),
+                connectionContext.getHttpMaxConnectionsPerRoute(),
+                connectionContext.getIdleHttpConnectionExpiry(),
+                connectionContext.getUseSystemProxy(),
+                connectionContext.getNonProxyHosts()));
+    // Same precedence as DatabricksHttpClient#setupProxy, whose proxy settings are only read when
+    // the proxy is enabled
+    if (connectionContext.getUseCloudFetchProxy()) {
+      key.addAll(
+          Arrays.asList(
+              connectionContext.getCloudFetchProxyHost(),
+              connectionContext.getCloudFetchProxyPort(),
+              connectionContext.getCloudFetchProxyUser(),
+              connectionContext.getCloudFetchProxyPassword()));
+    } else if (connectionContext.getUseProxy()) {
+      key.addAll(
+          Arrays.asList(
+              connectionContext.getProxyHost(),
+              connectionContext.getProxyPort(),
+              connectionContext.getProxyUser(),
+              connectionContext.getProxyPassword()));
+    }
+    return key;
+  }
+}
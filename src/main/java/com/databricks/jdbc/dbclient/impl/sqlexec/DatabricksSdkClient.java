@@ -18,6 +18,7 @@ import com.databricks.jdbc.common.IDatabricksComputeResource;
 import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.impl.common.ClientConfigurator;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.dbclient.impl.common.TimeoutHandler;
 import com.databricks.jdbc.dbclient.impl.common.TracingUtil;
@@ -54,7 +55,8 @@ import javax.net.ssl.SSLHandshakeException;
 public class DatabricksSdkClient implements IDatabricksClient {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DatabricksSdkClient.class);
-  private static final String SYNC_TIMEOUT_VALUE = "10s";
+  private static final int MIN_WAIT_TIMEOUT_SECONDS = 5;
+  private static final int MAX_WAIT_TIMEOUT_SECONDS = 50;
   private static final String ASYNC_TIMEOUT_VALUE = "0s";
   private final IDatabricksConnectionContext connectionContext;
   private final ClientConfigurator clientConfigurator;
@@ -227,6 +229,10 @@ public class DatabricksSdkClient implements IDatabricksClient {
     TimeoutHandler timeoutHandler =
         TimeoutHandler.forStatement(timeoutInSeconds, typedStatementId, this);
 
+    PollBackoff pollBackoff =
+        new PollBackoff(
+            connectionContext.getAsyncExecPollInterval(),
+            connectionContext.getAsyncExecMaxPollInterval());
     StatementState responseState = response.getStatus().getState();
     while (responseState == StatementState.PENDING || responseState == StatementState.RUNNING) {
       // Check for timeout
@@ -234,7 +240,7 @@ public class DatabricksSdkClient implements IDatabricksClient {
 
       if (pollCount > 0) { // First poll happens without a delay
         try {
-          Thread.sleep(connectionContext.getAsyncExecPollInterval());
+          Thread.sleep(pollBackoff.nextDelayMillis());
         } catch (InterruptedException e) {
           String timeoutErrorMessage =
               String.format(
@@ -366,6 +372,17 @@ public class DatabricksSdkClient implements IDatabricksClient {
         parentStatement);
   }
 
+  @Override
+  public void checkSession(IDatabricksSession session) throws SQLException {
+    LOGGER.debug("public void checkSession(Session session = {})", session.getSessionInfo());
+    // The SQL Execution API cannot check a session without running a statement on the warehouse,
+    // which is too costly for validation, so a session that is open in the driver is valid
+    if (!session.isOpen() || session.getSessionInfo() == null) {
+      throw new DatabricksSQLException(
+          "Session is not open", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+  }
+
   @Override
   public void closeStatement(StatementId typedStatementId) throws DatabricksSQLException {
     String statementId = typedStatementId.toSQLExecStatementId();
@@ -501,9 +518,15 @@ public class DatabricksSdkClient implements IDatabricksClient {
     if (executeAsync) {
       request.setWaitTimeout(ASYNC_TIMEOUT_VALUE);
     } else {
-      request
-          .setWaitTimeout(SYNC_TIMEOUT_VALUE)
-          .setOnWaitTimeout(ExecuteStatementRequestOnWaitTimeout.CONTINUE);
+      int waitTimeoutSeconds = getWaitTimeoutSeconds();
+      if (waitTimeoutSeconds > 0) {
+        // The server holds the request until the statement finishes or the wait timeout elapses
+        request
+            .setWaitTimeout(waitTimeoutSeconds + "s")
+            .setOnWaitTimeout(ExecuteStatementRequestOnWaitTimeout.CONTINUE);
+      } else {
+        request.setWaitTimeout(ASYNC_TIMEOUT_VALUE);
+      }
     }
     if (maxRows > 0) {
       request.setRowLimit(maxRows);
@@ -511,6 +534,16 @@ public class DatabricksSdkClient implements IDatabricksClient {
     return request;
   }
 
+  /** Returns the configured wait timeout within the range accepted by the server, or 0. */
+  private int getWaitTimeoutSeconds() {
+    int waitTimeoutSeconds = connectionContext.getSqlExecWaitTimeout();
+    if (waitTimeoutSeconds <= 0) {
+      return 0;
+    }
+    return Math.max(
+        MIN_WAIT_TIMEOUT_SECONDS, Math.min(MAX_WAIT_TIMEOUT_SECONDS, waitTimeoutSeconds));
+  }
+
   @VisibleForTesting
   StatementParameterListItem mapToParameterListItem(ImmutableSqlParameter parameter) {
     Object value = parameter.value();
@@ -14,6 +14,7 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,6 +27,14 @@ import org.apache.thrift.TConfiguration;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 
+/**
+ * Thrift transport that sends every message as an HTTP POST request.
+ *
+ * <p>By default the whole response is read into memory before it is decoded. With {@link
+ * com.databricks.jdbc.common.DatabricksJdbcUrlParams#ENABLE_STREAMING_THRIFT_TRANSPORT} the
+ * response is decoded directly from the HTTP entity stream, and the response is held open until
+ * {@link #releaseResponse()} is called once the message has been read.
+ */
 public class DatabricksHttpTTransport extends TTransport {
 
   private static final JdbcLogger LOGGER =
@@ -37,8 +46,10 @@ public class DatabricksHttpTTransport extends TTransport {
   private final IDatabricksHttpClient httpClient;
   private final String url;
   private Map<String, String> customHeaders = Collections.emptyMap();
-  private final ByteArrayOutputStream requestBuffer;
-  private ByteArrayInputStream responseBuffer;
+  private final RequestBuffer requestBuffer;
+  private InputStream responseBuffer;
+  private CloseableHttpResponse streamingResponse;
+  private final boolean streamResponses;
   private final IDatabricksConnectionContext connectionContext;
   DatabricksConfig databricksConfig;
 
@@ -49,10 +60,11 @@ public class DatabricksHttpTTransport extends TTransport {
       IDatabricksConnectionContext connectionContext) {
     this.httpClient = httpClient;
     this.url = url;
-    this.requestBuffer = new ByteArrayOutputStream();
+    this.requestBuffer = new RequestBuffer();
     this.responseBuffer = null;
     this.databricksConfig = databricksConfig;
     this.connectionContext = connectionContext;
+    this.streamResponses = connectionContext.isStreamingThriftTransportEnabled();
   }
 
   @Override
@@ -68,7 +80,8 @@ public class DatabricksHttpTTransport extends TTransport {
 
   @Override
   public void close() {
-    // No-op
+    // HTTP Client doesn't maintain an open connection, only a response still being read is released
+    releaseResponse();
   }
 
   @Override
@@ -77,7 +90,14 @@ public class DatabricksHttpTTransport extends TTransport {
       LOGGER.error("Response buffer is empty, no response.");
       throw new TTransportException("Response buffer is empty, no response.");
     }
-    int numBytes = responseBuffer.read(buf, off, len);
+    int numBytes;
+    try {
+      numBytes = responseBuffer.read(buf, off, len);
+    } catch (IOException e) {
+      String errorMessage = "Failed to read response from server: " + e.getMessage();
+      LOGGER.error(e, errorMessage);
+      throw new TTransportException(TTransportException.UNKNOWN, errorMessage, e);
+    }
     if (numBytes == -1) {
       LOGGER.error("No data available to read.");
       throw new TTransportException("No more data available.");
@@ -92,16 +112,16 @@ public class DatabricksHttpTTransport extends TTransport {
 
   @Override
   public void flush() throws TTransportException {
+    // A new request starts, so the response to the previous one is no longer read
+    releaseResponse();
     long refreshHeadersStartTime = System.currentTimeMillis();
     refreshHeadersIfRequired();
     long refreshHeadersEndTime = System.currentTimeMillis();
     long refreshHeadersLatency = refreshHeadersEndTime - refreshHeadersStartTime;
     LOGGER.trace(
-        "Connection ["
-            + connectionContext.getConnectionUuid()
-            + "] Header refresh latency: "
-            + refreshHeadersLatency
-            + "ms");
+        "Connection [{}] Header refresh latency: {}ms",
+        connectionContext.getConnectionUuid(),
+        refreshHeadersLatency);
 
     HttpPost request = new HttpPost(this.url);
     DEFAULT_HEADERS.forEach(request::addHeader);
@@ -112,34 +132,28 @@ public class DatabricksHttpTTransport extends TTransport {
 
     if (connectionContext.isRequestTracingEnabled()) {
       String traceHeader = TracingUtil.getTraceHeader();
-      LOGGER.debug("Thrift tracing header: " + traceHeader);
+      LOGGER.debug("Thrift tracing header: {}", traceHeader);
       request.addHeader(TracingUtil.TRACE_HEADER, traceHeader);
     }
 
-    // Set the request entity
-    request.setEntity(new ByteArrayEntity(requestBuffer.toByteArray()));
+    // Set the request entity, sending the written bytes without copying them
+    request.setEntity(new ByteArrayEntity(requestBuffer.getBuffer(), 0, requestBuffer.size()));
 
     // Execute the request and handle the response
     long httpRequestStartTime = System.currentTimeMillis();
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
-
-      ValidationUtil.checkHTTPError(response);
-
-      // Read the response
-      HttpEntity entity = response.getEntity();
-      if (entity != null) {
-        byte[] responseBytes = EntityUtils.toByteArray(entity);
-        responseBuffer = new ByteArrayInputStream(responseBytes);
+    try {
+      if (streamResponses) {
+        openStreamingResponse(request);
+      } else {
+        readResponse(request);
       }
     } catch (DatabricksHttpException | IOException e) {
       long httpRequestEndTime = System.currentTimeMillis();
       long httpRequestLatency = httpRequestEndTime - httpRequestStartTime;
       LOGGER.debug(
-          "Connection ["
-              + connectionContext.getConnectionUuid()
-              + "] HTTP request latency (with error): "
-              + httpRequestLatency
-              + "ms");
+          "Connection [{}] HTTP request latency (with error): {}ms",
+          connectionContext.getConnectionUuid(),
+          httpRequestLatency);
 
       String errorMessage = "Failed to flush data to server: " + e.getMessage();
       LOGGER.error(e, errorMessage);
@@ -150,6 +164,55 @@ public class DatabricksHttpTTransport extends TTransport {
     requestBuffer.reset();
   }
 
+  /**
+   * Releases the HTTP response of a streamed message once it has been read, returning its
+   * connection to the pool. Does nothing if responses are not streamed.
+   */
+  void releaseResponse() {
+    if (streamingResponse == null) {
+      return;
+    }
+    try {
+      // Consuming the remaining bytes lets the connection be reused instead of being discarded
+      EntityUtils.consumeQuietly(streamingResponse.getEntity());
+      streamingResponse.close();
+    } catch (IOException e) {
+      LOGGER.debug("Failed to release Thrift response: {}", e.getMessage());
+    } finally {
+      streamingResponse = null;
+      responseBuffer = null;
+    }
+  }
+
+  private void readResponse(HttpPost request) throws DatabricksHttpException, IOException {
+    try (CloseableHttpResponse response = httpClient.execute(request)) {
+
+      ValidationUtil.checkHTTPError(response);
+
+      // Read the response
+      HttpEntity entity = response.getEntity();
+      if (entity != null) {
+        byte[] responseBytes = EntityUtils.toByteArray(entity);
+        responseBuffer = new ByteArrayInputStream(responseBytes);
+      }
+    }
+  }
+
+  private void openStreamingResponse(HttpPost request) throws DatabricksHttpException, IOException {
+    CloseableHttpResponse response = httpClient.execute(request);
+    try {
+      ValidationUtil.checkHTTPError(response);
+      HttpEntity entity = response.getEntity();
+      if (entity != null) {
+        responseBuffer = entity.getContent();
+      }
+      streamingResponse = response;
+    } catch (DatabricksHttpException | IOException | RuntimeException e) {
+      response.close();
+      throw e;
+    }
+  }
+
   @Override
   public TConfiguration getConfiguration() {
     return null;
@@ -177,4 +240,11 @@ public class DatabricksHttpTTransport extends TTransport {
   void setResponseBuffer(ByteArrayInputStream responseBuffer) {
     this.responseBuffer = responseBuffer;
   }
+
+  /** Request buffer that exposes its backing array, so that the request is sent without a copy. */
+  private static class RequestBuffer extends ByteArrayOutputStream {
+    byte[] getBuffer() {
+      return buf;
+    }
+  }
 }
@@ -12,6 +12,7 @@ import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.common.util.DriverUtil;
 import com.databricks.jdbc.common.util.ProtocolFeatureUtil;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.dbclient.impl.common.TimeoutHandler;
 import com.databricks.jdbc.dbclient.impl.http.DatabricksHttpClientFactory;
@@ -51,10 +52,12 @@ final class DatabricksThriftAccessor {
       TExecuteStatementResp._Fields.OPERATION_HANDLE.getThriftFieldId();
   private static final short statusFieldId =
       TExecuteStatementResp._Fields.STATUS.getThriftFieldId();
-  private final ThreadLocal<TCLIService.Client> thriftClient;
+  private final ThriftClientPool thriftClients;
+  private volatile String resetAccessToken;
   private final DatabricksConfig databricksConfig;
   private final boolean enableDirectResults;
   private final int asyncPollIntervalMillis;
+  private final int asyncMaxPollIntervalMillis;
   private final int maxRowsPerBlock;
   private final String connectionUuid;
   private TProtocolVersion serverProtocolVersion = JDBC_THRIFT_VERSION;
@@ -68,19 +71,20 @@ final class DatabricksThriftAccessor {
             .getDatabricksConfig();
     String endPointUrl = connectionContext.getEndpointURL();
     this.asyncPollIntervalMillis = connectionContext.getAsyncExecPollInterval();
+    this.asyncMaxPollIntervalMillis = connectionContext.getAsyncExecMaxPollInterval();
     this.maxRowsPerBlock = connectionContext.getRowsFetchedPerBlock();
     this.connectionUuid = connectionContext.getConnectionUuid();
 
     if (!DriverUtil.isRunningAgainstFake()) {
-      // Create a new thrift client for each thread as client state is not thread safe. Note that
-      // the underlying protocol uses the same http client which is thread safe
-      this.thriftClient =
-          ThreadLocal.withInitial(
+      // Every concurrent RPC uses its own thrift client as client state is not thread safe. Note
+      // that the underlying protocol uses the same http client which is thread safe
+      this.thriftClients =
+          new ThriftClientPool(
               () -> createThriftClient(endPointUrl, databricksConfig, connectionContext));
     } else {
       TCLIService.Client client =
           createThriftClient(endPointUrl, databricksConfig, connectionContext);
-      this.thriftClient = ThreadLocal.withInitial(() -> client);
+      this.thriftClients = new ThriftClientPool(() -> client);
     }
   }
 
@@ -88,21 +92,24 @@ final class DatabricksThriftAccessor {
   DatabricksThriftAccessor(
       TCLIService.Client client, IDatabricksConnectionContext connectionContext) {
     this.databricksConfig = null;
-    this.thriftClient = ThreadLocal.withInitial(() -> client);
+    this.thriftClients = new ThriftClientPool(() -> client);
     this.enableDirectResults = connectionContext.getDirectResultMode();
     this.asyncPollIntervalMillis = connectionContext.getAsyncExecPollInterval();
+    this.asyncMaxPollIntervalMillis = connectionContext.getAsyncExecMaxPollInterval();
     this.maxRowsPerBlock = connectionContext.getRowsFetchedPerBlock();
     this.connectionUuid = connectionContext.getConnectionUuid();
   }
 
   @SuppressWarnings("rawtypes")
   TBase getThriftResponse(TBase request) throws DatabricksSQLException {
-    LOGGER.debug("Fetching thrift response for request {}", request.toString());
+    LOGGER.debug("Fetching thrift response for request {}", request);
     try {
       if (request instanceof TOpenSessionReq) {
-        return getThriftClient().OpenSession((TOpenSessionReq) request);
+        return callThrift(client -> client.OpenSession((TOpenSessionReq) request));
       } else if (request instanceof TCloseSessionReq) {
-        return getThriftClient().CloseSession((TCloseSessionReq) request);
+        return callThrift(client -> client.CloseSession((TCloseSessionReq) request));
+      } else if (request instanceof TGetInfoReq) {
+        return callThrift(client -> client.GetInfo((TGetInfoReq) request));
       } else if (request instanceof TGetFunctionsReq) {
         return listFunctions((TGetFunctionsReq) request);
       } else if (request instanceof TGetPrimaryKeysReq) {
@@ -160,7 +167,7 @@ final class DatabricksThriftAccessor {
 
   TCancelOperationResp cancelOperation(TCancelOperationReq req) throws DatabricksHttpException {
     try {
-      return getThriftClient().CancelOperation(req);
+      return callThrift(client -> client.CancelOperation(req));
     } catch (TException e) {
       String errorMessage =
           String.format(
@@ -173,7 +180,7 @@ final class DatabricksThriftAccessor {
 
   TCloseOperationResp closeOperation(TCloseOperationReq req) throws DatabricksHttpException {
     try {
-      return getThriftClient().CloseOperation(req);
+      return callThrift(client -> client.CloseOperation(req));
     } catch (TException e) {
       String errorMessage =
           String.format(
@@ -219,7 +226,7 @@ final class DatabricksThriftAccessor {
       }
       TExecuteStatementResp response;
       TFetchResultsResp resultSet;
-      response = getThriftClient().ExecuteStatement(request);
+      response = callThrift(client -> client.ExecuteStatement(request));
       checkResponseForErrors(response);
 
       StatementId statementId = new StatementId(response.getOperationHandle().operationId);
@@ -260,9 +267,11 @@ final class DatabricksThriftAccessor {
         long fetchLatencyNanos = fetchEndTime - fetchStartTime;
         long fetchLatencyMillis = fetchLatencyNanos / 1_000_000;
         LOGGER.debug(
-            String.format(
-                "Connection [%s] Statement [%s] Session [%s] Thrift fetch latency: %dms",
-                connectionUuid, statementId, sessionDebugInfo, fetchLatencyMillis));
+            "Connection [{}] Statement [{}] Session [{}] Thrift fetch latency: {}ms",
+            connectionUuid,
+            statementId,
+            sessionDebugInfo,
+            fetchLatencyMillis);
       }
       return new DatabricksResultSet(
           getStatementStatus(statusResp),
@@ -301,6 +310,7 @@ final class DatabricksThriftAccessor {
     }
 
     TimeoutHandler timeoutHandler = getTimeoutHandler(response, timeoutInSeconds);
+    PollBackoff pollBackoff = new PollBackoff(asyncPollIntervalMillis, asyncMaxPollIntervalMillis);
 
     // Polling until query operation state is finished
     long pollingStartTime = System.nanoTime();
@@ -320,7 +330,7 @@ final class DatabricksThriftAccessor {
         break;
       }
       try {
-        TimeUnit.MILLISECONDS.sleep(asyncPollIntervalMillis);
+        TimeUnit.MILLISECONDS.sleep(pollBackoff.nextDelayMillis());
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt(); // Restore interrupt flag
         cancelOperation(
@@ -333,9 +343,11 @@ final class DatabricksThriftAccessor {
     long pollingLatencyNanos = pollingEndTime - pollingStartTime;
     long pollingLatencyMillis = pollingLatencyNanos / 1_000_000;
     LOGGER.debug(
-        String.format(
-            "Connection [%s] Statement [%s] Session [%s] Thrift polling latency: %dms",
-            connectionUuid, statementId, sessionDebugInfo, pollingLatencyMillis));
+        "Connection [{}] Statement [{}] Session [{}] Thrift polling latency: {}ms",
+        connectionUuid,
+        statementId,
+        sessionDebugInfo,
+        pollingLatencyMillis);
     return statusResp;
   }
 
@@ -348,7 +360,7 @@ final class DatabricksThriftAccessor {
 
     TExecuteStatementResp response;
     try {
-      response = getThriftClient().ExecuteStatement(request);
+      response = callThrift(client -> client.ExecuteStatement(request));
       if (Arrays.asList(TStatusCode.ERROR_STATUS, TStatusCode.INVALID_HANDLE_STATUS)
           .contains(response.status.statusCode)) {
         LOGGER.error(
@@ -372,9 +384,9 @@ final class DatabricksThriftAccessor {
     }
     StatementId statementId = new StatementId(response.getOperationHandle().operationId);
     LOGGER.debug(
-        String.format(
-            "Executed statement in async for statementId [%s] in session [%s]",
-            statementId.toSQLExecStatementId(), session.getSessionId()));
+        "Executed statement in async for statementId [{}] in session [{}]",
+        statementId.toSQLExecStatementId(),
+        session.getSessionId());
     DatabricksThreadContextHolder.setStatementId(statementId);
     if (parentStatement != null) {
       parentStatement.setStatementId(statementId);
@@ -414,30 +426,23 @@ final class DatabricksThriftAccessor {
         long fetchLatencyNanos = fetchEndTime - fetchStartTime;
         long fetchLatencyMillis = fetchLatencyNanos / 1_000_000;
         LOGGER.debug(
-            "Connection ["
-                + connectionUuid
-                + "] Statement ["
-                + statementId
-                + "] Session ["
-                + sessionInfo
-                + "] Thrift getStatementResult fetch latency: "
-                + fetchLatencyMillis
-                + "ms");
+            "Connection [{}] Statement [{}] Session [{}] "
+                + "Thrift getStatementResult fetch latency: {}ms",
+            connectionUuid,
+            statementId,
+            sessionInfo,
+            fetchLatencyMillis);
 
         long getStatementResultEndTime = System.nanoTime();
         long getStatementResultLatencyNanos =
             getStatementResultEndTime - getStatementResultStartTime;
         long getStatementResultLatencyMillis = getStatementResultLatencyNanos / 1_000_000;
         LOGGER.debug(
-            "Connection ["
-                + connectionUuid
-                + "] Statement ["
-                + statementId
-                + "] Session ["
-                + sessionInfo
-                + "] Thrift getStatementResult latency: "
-                + getStatementResultLatencyMillis
-                + "ms");
+            "Connection [{}] Statement [{}] Session [{}] Thrift getStatementResult latency: {}ms",
+            connectionUuid,
+            statementId,
+            sessionInfo,
+            getStatementResultLatencyMillis);
 
         return new DatabricksResultSet(
             new StatementStatus().setState(StatementState.SUCCEEDED),
@@ -452,15 +457,12 @@ final class DatabricksThriftAccessor {
       long getStatementResultLatencyNanos = getStatementResultEndTime - getStatementResultStartTime;
       long getStatementResultLatencyMillis = getStatementResultLatencyNanos / 1_000_000;
       LOGGER.debug(
-          "Connection ["
-              + connectionUuid
-              + "] Statement ["
-              + statementId
-              + "] Session ["
-              + sessionInfo
-              + "] Thrift getStatementResult latency (with error): "
-              + getStatementResultLatencyMillis
-              + "ms");
+          "Connection [{}] Statement [{}] Session [{}] "
+              + "Thrift getStatementResult latency (with error): {}ms",
+          connectionUuid,
+          statementId,
+          sessionInfo,
+          getStatementResultLatencyMillis);
 
       String errorMessage =
           String.format(
@@ -475,22 +477,36 @@ final class DatabricksThriftAccessor {
     long getStatementResultLatencyNanos = getStatementResultEndTime - getStatementResultStartTime;
     long getStatementResultLatencyMillis = getStatementResultLatencyNanos / 1_000_000;
     LOGGER.debug(
-        "Connection ["
-            + connectionUuid
-            + "] Statement ["
-            + statementId
-            + "] Session ["
-            + sessionInfo
-            + "] Thrift getStatementResult latency: "
-            + getStatementResultLatencyMillis
-            + "ms");
+        "Connection [{}] Statement [{}] Session [{}] Thrift getStatementResult latency: {}ms",
+        connectionUuid,
+        statementId,
+        sessionInfo,
+        getStatementResultLatencyMillis);
 
     return new DatabricksResultSet(
         executionStatus, statementId, resultSet, StatementType.SQL, parentStatement, session);
   }
 
-  TCLIService.Client getThriftClient() {
-    return thriftClient.get();
+  /**
+   * Runs an RPC on a client borrowed from the pool of this connection, so that RPCs of different
+   * statements do not share the state of a client.
+   */
+  <R> R callThrift(ThriftCall<R> call) throws TException {
+    TCLIService.Client client = thriftClients.borrow();
+    try {
+      return call.call(client);
+    } finally {
+      thriftClients.release(client);
+    }
+  }
+
+  /** Sets the access token used by all thrift clients of this connection, including new ones. */
+  void resetAccessToken(String newAccessToken) {
+    this.resetAccessToken = newAccessToken;
+    for (TCLIService.Client client : thriftClients.getClients()) {
+      ((DatabricksHttpTTransport) client.getInputProtocol().getTransport())
+          .resetAccessToken(newAccessToken);
+    }
   }
 
   DatabricksConfig getDatabricksConfig() {
@@ -519,7 +535,7 @@ final class DatabricksThriftAccessor {
     }
     TFetchResultsResp response;
     try {
-      response = getThriftClient().FetchResults(request);
+      response = callThrift(client -> client.FetchResults(request));
     } catch (TException e) {
       String errorMessage =
           String.format(
@@ -530,9 +546,10 @@ final class DatabricksThriftAccessor {
     }
     verifySuccessStatus(
         response.getStatus(),
-        String.format(
-            "Error while fetching results Request {%s}. TFetchResultsResp {%s}. ",
-            request, response),
+        () ->
+            String.format(
+                "Error while fetching results Request {%s}. TFetchResultsResp {%s}. ",
+                request, response),
         statementId);
     return response;
   }
@@ -540,63 +557,63 @@ final class DatabricksThriftAccessor {
   private TFetchResultsResp listFunctions(TGetFunctionsReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetFunctionsResp response = getThriftClient().GetFunctions(request);
+    TGetFunctionsResp response = callThrift(client -> client.GetFunctions(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp listPrimaryKeys(TGetPrimaryKeysReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetPrimaryKeysResp response = getThriftClient().GetPrimaryKeys(request);
+    TGetPrimaryKeysResp response = callThrift(client -> client.GetPrimaryKeys(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp listCrossReferences(TGetCrossReferenceReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetCrossReferenceResp response = getThriftClient().GetCrossReference(request);
+    TGetCrossReferenceResp response = callThrift(client -> client.GetCrossReference(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp getTables(TGetTablesReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetTablesResp response = getThriftClient().GetTables(request);
+    TGetTablesResp response = callThrift(client -> client.GetTables(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp getTableTypes(TGetTableTypesReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetTableTypesResp response = getThriftClient().GetTableTypes(request);
+    TGetTableTypesResp response = callThrift(client -> client.GetTableTypes(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp getCatalogs(TGetCatalogsReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetCatalogsResp response = getThriftClient().GetCatalogs(request);
+    TGetCatalogsResp response = callThrift(client -> client.GetCatalogs(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp listSchemas(TGetSchemasReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetSchemasResp response = getThriftClient().GetSchemas(request);
+    TGetSchemasResp response = callThrift(client -> client.GetSchemas(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp getTypeInfo(TGetTypeInfoReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetTypeInfoResp response = getThriftClient().GetTypeInfo(request);
+    TGetTypeInfoResp response = callThrift(client -> client.GetTypeInfo(request));
     return fetchMetadataResults(response, response.toString());
   }
 
   private TFetchResultsResp listColumns(TGetColumnsReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
-    TGetColumnsResp response = getThriftClient().GetColumns(request);
+    TGetColumnsResp response = callThrift(client -> client.GetColumns(request));
     return fetchMetadataResults(response, response.toString());
   }
 
@@ -616,9 +633,22 @@ final class DatabricksThriftAccessor {
             endPointUrl,
             databricksConfig,
             connectionContext);
+    if (resetAccessToken != null) {
+      transport.resetAccessToken(resetAccessToken);
+    }
     TBinaryProtocol protocol = new TBinaryProtocol(transport);
 
-    return new TCLIService.Client(protocol);
+    return new TCLIService.Client(protocol) {
+      @Override
+      protected void receiveBase(TBase<?, ?> result, String methodName) throws TException {
+        try {
+          super.receiveBase(result, methodName);
+        } finally {
+          // The response is fully decoded, so a streamed HTTP response can be released
+          transport.releaseResponse();
+        }
+      }
+    };
   }
 
   /**
@@ -667,8 +697,20 @@ final class DatabricksThriftAccessor {
         new TGetOperationStatusReq()
             .setOperationHandle(operationHandle)
             .setGetProgressUpdate(false);
+    PollBackoff pollBackoff = new PollBackoff(asyncPollIntervalMillis, asyncMaxPollIntervalMillis);
     while (shouldContinuePolling(statusResp)) {
-      statusResp = getThriftClient().GetOperationStatus(statusReq);
+      if (statusResp != null) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(pollBackoff.nextDelayMillis());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt(); // Restore interrupt flag
+          throw new DatabricksSQLException(
+              "Metadata operation interrupted",
+              e,
+              DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+        }
+      }
+      statusResp = callThrift(client -> client.GetOperationStatus(statusReq));
       checkOperationStatusForErrors(statusResp, statementId);
     }
 
@@ -780,7 +822,8 @@ final class DatabricksThriftAccessor {
   private TGetOperationStatusResp getOperationStatus(
       TGetOperationStatusReq statusReq, StatementId statementId) throws TException {
     long operationStatusStartTime = System.nanoTime();
-    TGetOperationStatusResp operationStatus = getThriftClient().GetOperationStatus(statusReq);
+    TGetOperationStatusResp operationStatus =
+        callThrift(client -> client.GetOperationStatus(statusReq));
     long operationStatusEndTime = System.nanoTime();
     long operationStatusLatencyMillis =
         (operationStatusEndTime - operationStatusStartTime) / 1_000_000;
@@ -792,4 +835,10 @@ final class DatabricksThriftAccessor {
         .recordGetOperationStatus(statementId.toSQLExecStatementId(), operationStatusLatencyMillis);
     return operationStatus;
   }
+
+  /** An RPC on a thrift client. */
+  @FunctionalInterface
+  interface ThriftCall<R> {
+    R call(TCLIService.Client client) throws TException;
+  }
 }
@@ -71,8 +71,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
 
   @Override
   public void resetAccessToken(String newAccessToken) {
-    ((DatabricksHttpTTransport) thriftAccessor.getThriftClient().getInputProtocol().getTransport())
-        .resetAccessToken(newAccessToken);
+    thriftAccessor.resetAccessToken(newAccessToken);
   }
 
   @Override
@@ -131,6 +130,17 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
     verifySuccessStatus(response.status, response.toString());
   }
 
+  @Override
+  public void checkSession(IDatabricksSession session) throws DatabricksSQLException {
+    LOGGER.debug("public void checkSession(Session session = {})", session.getSessionInfo());
+    TGetInfoReq request =
+        new TGetInfoReq()
+            .setSessionHandle(session.getSessionInfo().sessionHandle())
+            .setInfoType(TGetInfoType.CLI_SERVER_NAME);
+    TGetInfoResp response = (TGetInfoResp) thriftAccessor.getThriftResponse(request);
+    verifySuccessStatus(response.getStatus(), response.toString());
+  }
+
   @Override
   public DatabricksResultSet executeStatement(
       String sql,
@@ -0,0 +1,67 @@
+package com.databricks.jdbc.dbclient.impl.thrift;
+
+import com.databricks.jdbc.model.client.thrift.generated.TCLIService;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Pool of the Thrift clients of a connection.
+ *
+ * <p>A Thrift client and its {@link DatabricksHttpTTransport} hold the state of one RPC at a time,
+ * so every RPC borrows a client for its duration. RPCs of different statements on the same
+ * connection therefore run concurrently, each on its own client, while the HTTP connections are
+ * shared through the HTTP client. Clients are created on demand and up to {@link #MAX_IDLE_CLIENTS}
+ * of them are kept for reuse.
+ */
+final class ThriftClientPool {
+  static final int MAX_IDLE_CLIENTS = 8;
+
+  private final Supplier<TCLIService.Client> clientFactory;
+  private final Deque<TCLIService.Client> idleClients = new ArrayDeque<>();
+  private final Set<TCLIService.Client> clients =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  ThriftClientPool(Supplier<TCLIService.Client> clientFactory) {
+    this.clientFactory = clientFactory;
+  }
+
+  /** Returns an idle client, or a new one if all clients are in use. */
+  TCLIService.Client borrow() {
+    synchronized (this) {
+      TCLIService.Client client = idleClients.pollFirst();
+      if (client != null) {
+        return client;
+      }
+    }
+    TCLIService.Client client = clientFactory.get();
+    synchronized (this) {
+      clients.add(client);
+    }
+    return client;
+  }
+
+  /** Returns a client after its RPC has completed. */
+  synchronized void release(TCLIService.Client client) {
+    if (idleClients.size() < MAX_IDLE_CLIENTS) {
+      // The most recently used client is reused first
+      idleClients.addFirst(client);
+    } else {
+      clients.remove(client);
+    }
+  }
+
+  /** Returns the clients of the pool, both idle and in use. */
+  synchronized List<TCLIService.Client> getClients() {
+    return new ArrayList<>(clients);
+  }
+
+  synchronized int getIdleCount() {
+    return idleClients.size();
+  }
+}
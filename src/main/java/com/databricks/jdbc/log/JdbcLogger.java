@@ -1,18 +1,34 @@
 package com.databricks.jdbc.log;
 
+import java.util.function.Supplier;
+
 /**
  * The interface defines logging methods for various levels of importance. Implementations of this
  * interface can be used to integrate with different logging frameworks.
+ *
+ * <p>Implementations check whether a level is enabled before formatting a message, so logging at a
+ * disabled level does not allocate. Messages that are expensive to build can be passed as a {@link
+ * Supplier}, which is only called if the message is logged.
  */
 public interface JdbcLogger {
+  boolean isTraceEnabled();
+
+  boolean isDebugEnabled();
+
+  boolean isInfoEnabled();
+
   void trace(String message);
 
   void trace(String format, Object... arguments);
 
+  void trace(Supplier<String> messageSupplier);
+
   void debug(String message);
 
   void debug(String format, Object... arguments);
 
+  void debug(Supplier<String> messageSupplier);
+
   void info(String message);
 
   void info(String format, Object... arguments);
@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.*;
 import java.util.stream.Stream;
 
@@ -46,6 +47,24 @@ public class JulLogger implements JdbcLogger {
     this.logger = Logger.getLogger(name);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public boolean isTraceEnabled() {
+    return logger.isLoggable(Level.FINEST);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isDebugEnabled() {
+    return logger.isLoggable(Level.FINE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isInfoEnabled() {
+    return logger.isLoggable(Level.INFO);
+  }
+
   /** {@inheritDoc} */
   @Override
   public void trace(String message) {
@@ -54,7 +73,12 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void trace(String format, Object... arguments) {
-    trace(String.format(slf4jToJavaFormat(format), arguments));
+    logFormatted(Level.FINEST, format, arguments, null);
+  }
+
+  @Override
+  public void trace(Supplier<String> messageSupplier) {
+    logSupplied(Level.FINEST, messageSupplier);
   }
 
   /** {@inheritDoc} */
@@ -65,7 +89,12 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void debug(String format, Object... arguments) {
-    debug(String.format(slf4jToJavaFormat(format), arguments));
+    logFormatted(Level.FINE, format, arguments, null);
+  }
+
+  @Override
+  public void debug(Supplier<String> messageSupplier) {
+    logSupplied(Level.FINE, messageSupplier);
   }
 
   /** {@inheritDoc} */
@@ -76,7 +105,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void info(String format, Object... arguments) {
-    info(String.format(slf4jToJavaFormat(format), arguments));
+    logFormatted(Level.INFO, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -87,7 +116,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void warn(String format, Object... arguments) {
-    warn(String.format(slf4jToJavaFormat(format), arguments));
+    logFormatted(Level.WARNING, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -98,7 +127,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void error(String format, Object... arguments) {
-    error(String.format(slf4jToJavaFormat(format), arguments));
+    logFormatted(Level.SEVERE, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -109,7 +138,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void error(Throwable throwable, String format, Object... arguments) {
-    error(String.format(slf4jToJavaFormat(format), arguments), throwable);
+    logFormatted(Level.SEVERE, format, arguments, throwable);
   }
 
   /**
@@ -155,7 +184,27 @@ public class JulLogger implements JdbcLogger {
     }
   }
 
+  /** Formats the message only if the level is enabled, since formatting dominates the cost. */
+  private void logFormatted(Level level, String format, Object[] arguments, Throwable throwable) {
+    if (logger.isLoggable(level)) {
+      logEnabled(level, String.format(slf4jToJavaFormat(format), arguments), throwable);
+    }
+  }
+
+  private void logSupplied(Level level, Supplier<String> messageSupplier) {
+    if (logger.isLoggable(level)) {
+      logEnabled(level, messageSupplier.get(), null);
+    }
+  }
+
   private void log(Level level, String message, Throwable throwable) {
+    // Looking up the caller walks the stack, so it is skipped for disabled levels
+    if (logger.isLoggable(level)) {
+      logEnabled(level, message, throwable);
+    }
+  }
+
+  private void logEnabled(Level level, String message, Throwable throwable) {
     String[] callerClassMethod = getCaller();
     if (throwable == null) {
       logger.logp(level, callerClassMethod[0], callerClassMethod[1], message);
@@ -1,5 +1,6 @@
 package com.databricks.jdbc.log;
 
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,6 +22,24 @@ public class Slf4jLogger implements JdbcLogger {
     this.logger = LoggerFactory.getLogger(name);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public boolean isTraceEnabled() {
+    return logger.isTraceEnabled();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isDebugEnabled() {
+    return logger.isDebugEnabled();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isInfoEnabled() {
+    return logger.isInfoEnabled();
+  }
+
   /** {@inheritDoc} */
   @Override
   public void trace(String message) {
@@ -32,6 +51,13 @@ public class Slf4jLogger implements JdbcLogger {
     logger.trace(format, arguments);
   }
 
+  @Override
+  public void trace(Supplier<String> messageSupplier) {
+    if (logger.isTraceEnabled()) {
+      logger.trace(messageSupplier.get());
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void debug(String message) {
@@ -43,6 +69,13 @@ public class Slf4jLogger implements JdbcLogger {
     logger.debug(format, arguments);
   }
 
+  @Override
+  public void debug(Supplier<String> messageSupplier) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(messageSupplier.get());
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void info(String message) {
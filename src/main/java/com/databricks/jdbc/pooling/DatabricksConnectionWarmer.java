@@ -0,0 +1,214 @@
+package com.databricks.jdbc.pooling;
+
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps connections opened ahead of time for a data source, so that a connection pool growing under
+ * load does not open a session on the request path.
+ *
+ * <p>{@link #warmUp} opens connections in the background. Opening a connection resolves the
+ * credentials, establishes the TLS connections to the workspace and opens the session, so a warm
+ * connection is ready for use. {@link #take} hands out a warm connection once it is validated, and
+ * opens replacements in the background to keep the requested number of warm connections.
+ *
+ * <p>Connections are kept warm for the URL and properties of the last warm-up only. When the data
+ * source is used with other settings, the warm connections could never be handed out, so they are
+ * closed and no more connections are kept warm until the next warm-up.
+ */
+public class DatabricksConnectionWarmer {
+
+  /** Opens a physical connection, usually {@code Driver#connect}. */
+  @FunctionalInterface
+  public interface ConnectionOpener {
+    Connection open(String url, Properties properties) throws SQLException;
+  }
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(DatabricksConnectionWarmer.class);
+  private static final ExecutorService WARM_UP_EXECUTOR =
+      Executors.newCachedThreadPool(createThreadFactory());
+  static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final ConnectionOpener opener;
+  private final Deque<Connection> warmConnections = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger pendingOpens = new AtomicInteger();
+  private int targetSize;
+  private String warmUpUrl;
+  private Properties warmUpProperties;
+
+  public DatabricksConnectionWarmer(ConnectionOpener opener) {
+    this.opener = opener;
+  }
+
+  /**
+   * Keeps {@code count} warm connections for the given URL and properties from now on, opening in
+   * the background the connections that are neither warm nor being opened yet. Warm connections
+   * opened with other settings are closed.
+   *
+   * @return a future completed once the connections opened by this call are open, or completed
+   *     exceptionally with the first failure
+   */
+  public CompletableFuture<Void> warmUp(String url, Properties properties, int count) {
+    LOGGER.debug("Warming up {} connections", count);
+    Properties propertiesCopy = copy(properties);
+    List<CompletableFuture<Void>> opens = new ArrayList<>();
+    synchronized (this) {
+      if (!matchesWarmUpSettings(url, propertiesCopy)) {
+        closeWarmConnections();
+        warmUpUrl = url;
+        warmUpProperties = propertiesCopy;
+      }
+      targetSize = Math.max(0, count);
+      int missing = targetSize - (warmConnections.size() + pendingOpens.get());
+      for (int i = 0; i < missing; i++) {
+        opens.add(openInBackground(url, propertiesCopy));
+      }
+    }
+    return CompletableFuture.allOf(opens.toArray(new CompletableFuture[0]));
+  }
+
+  /**
+   * Returns a valid warm connection opened with the given URL and properties, or {@code null} if
+   * there is none. Replacements are opened in the background. If the settings differ from those of
+   * the last warm-up, the warm connections are closed.
+   */
+  public Connection take(String url, Properties properties) {
+    synchronized (this) {
+      if (!matchesWarmUpSettings(url, properties)) {
+        if (targetSize > 0 || !warmConnections.isEmpty()) {
+          LOGGER.debug("Data source settings changed, closing the warm connections");
+          close();
+        }
+        return null;
+      }
+    }
+    Connection connection;
+    while ((connection = warmConnections.poll()) != null) {
+      if (isValid(connection)) {
+        refill(url, properties);
+        return connection;
+      }
+      LOGGER.debug("Discarding warm connection that is no longer valid");
+      closeQuietly(connection);
+    }
+    refill(url, properties);
+    return null;
+  }
+
+  /** Returns the number of warm connections that have not been handed out. */
+  public int getWarmConnectionCount() {
+    return warmConnections.size();
+  }
+
+  /** Stops keeping connections warm and closes the warm connections. */
+  public synchronized void close() {
+    targetSize = 0;
+    warmUpUrl = null;
+    warmUpProperties = null;
+    closeWarmConnections();
+  }
+
+  private void closeWarmConnections() {
+    Connection connection;
+    while ((connection = warmConnections.poll()) != null) {
+      closeQuietly(connection);
+    }
+  }
+
+  private synchronized boolean matchesWarmUpSettings(String url, Properties properties) {
+    return warmUpProperties != null
+        && Objects.equals(warmUpUrl, url)
+        && warmUpProperties.equals(properties);
+  }
+
+  private void refill(String url, Properties properties) {
+    Properties propertiesCopy = copy(properties);
+    while (true) {
+      synchronized (this) {
+        if (warmConnections.size() + pendingOpens.get() >= targetSize) {
+          return;
+        }
+      }
+      openInBackground(url, propertiesCopy)
+          .exceptionally(
+              e -> {
+                LOGGER.warn("Failed to open replacement warm connection: {}", e.getMessage());
+                return null;
+              });
+    }
+  }
+
+  private CompletableFuture<Void> openInBackground(String url, Properties properties) {
+    pendingOpens.incrementAndGet();
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            Connection connection = opener.open(url, properties);
+            synchronized (this) {
+              if (targetSize > 0 && matchesWarmUpSettings(url, properties)) {
+                warmConnections.add(connection);
+                return;
+              }
+            }
+            // The warmer was closed or its settings changed while the connection was being opened
+            closeQuietly(connection);
+          } catch (SQLException e) {
+            throw new CompletionException(e);
+          } finally {
+            pendingOpens.decrementAndGet();
+          }
+        },
+        WARM_UP_EXECUTOR);
+  }
+
+  private static boolean isValid(Connection connection) {
+    try {
+      return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      LOGGER.debug("Failed to close warm connection: {}", e.getMessage());
+    }
+  }
+
+  private static Properties copy(Properties properties) {
+    Properties copy = new Properties();
+    copy.putAll(properties);
+    return copy;
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    return new ThreadFactory() {
+      private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread =
+            new Thread(r, "Connection-Warm-Up-Thread-" + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+}
@@ -1,94 +1,74 @@
 package com.databricks.jdbc.telemetry.latency;
 
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.dbclient.IDatabricksMetadataClient;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
+/**
+ * Records the latency of the client methods annotated with {@link DatabricksMetricsTimed}.
+ *
+ * <p>The clients are wrapped in {@link TimedDatabricksClient} and {@link
+ * TimedDatabricksMetadataClient}, which call the wrapped client directly and time the annotated
+ * methods explicitly. Other methods, such as fetching results and polling the statement status, are
+ * plain delegating calls.
+ */
 public class DatabricksMetricsTimedProcessor {
 
   private static final JdbcLogger LOGGER =
       JdbcLoggerFactory.getLogger(DatabricksMetricsTimedProcessor.class);
 
-  @SuppressWarnings("unchecked")
-  public static <T> T createProxy(T obj) {
-    if (obj == null) {
-      return null;
-    }
+  /** Returns a client recording the latency of the timed methods of the given client. */
+  public static IDatabricksClient createTimedClient(IDatabricksClient client) {
+    return client != null ? new TimedDatabricksClient(client) : null;
+  }
 
-    Class<?> clazz = obj.getClass();
-    if (clazz == null) {
-      LOGGER.trace("Cannot create proxy for null object, skipping latency processing.");
-      return obj;
-    }
+  /** Returns a metadata client recording the latency of the methods of the given client. */
+  public static IDatabricksMetadataClient createTimedMetadataClient(
+      IDatabricksMetadataClient client) {
+    return client != null ? new TimedDatabricksMetadataClient(client) : null;
+  }
 
-    Class<?>[] interfaces = clazz.getInterfaces();
-    if (interfaces == null || interfaces.length == 0) {
+  /**
+   * Records the latency of a method call that started at {@code startTimeNanos}. The arguments are
+   * only rendered if the debug message is logged.
+   */
+  static void recordLatency(String methodName, long startTimeNanos, Object... args) {
+    long executionTimeMillis = (System.nanoTime() - startTimeNanos) / 1_000_000;
+    LOGGER.debug(
+        "Method [{}] with args [{}] execution time: {}ms",
+        methodName,
+        new LazyArguments(args),
+        executionTimeMillis);
+    try {
+      TelemetryCollector.getInstance().recordOperationLatency(executionTimeMillis, methodName);
+    } catch (Exception e) {
       LOGGER.trace(
-          "Proxy creation skipped — target class {} does not implement any interfaces, skipping latency processing.",
-          obj.getClass().getName());
-      return obj;
+          "Failed to export latency metrics for method {}: {}", methodName, e.getMessage());
     }
-
-    return (T)
-        Proxy.newProxyInstance(
-            clazz.getClassLoader(), interfaces, new TimedInvocationHandler<>(obj));
   }
 
-  private static class TimedInvocationHandler<T> implements InvocationHandler {
-    private final T target;
+  /** Renders the arguments of a call when it is formatted into a log message. */
+  private static class LazyArguments {
+    private final Object[] args;
 
-    public TimedInvocationHandler(T target) {
-      this.target = target;
+    LazyArguments(Object[] args) {
+      this.args = args;
     }
 
     @Override
-    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-      if (proxy == null || method == null) {
-        return method != null ? method.invoke(target, args) : null;
+    public String toString() {
+      if (args == null || args.length == 0) {
+        return "none";
       }
-      try {
-        if (method.isAnnotationPresent(DatabricksMetricsTimed.class)) {
-          String methodName = method.getName() != null ? method.getName() : "unknown";
-          long startTime = System.nanoTime();
-          // Invoke the actual method
-          Object result = method.invoke(target, args);
-          // Calculate execution time in nanoseconds
-          long executionTimeNanos = System.nanoTime() - startTime;
-          // Convert to milliseconds for consistency with existing logging
-          long executionTimeMillis = executionTimeNanos / 1_000_000;
-          // Log method name, arguments and execution time
-          String argsStr =
-              (args != null)
-                  ? String.join(
-                      ", ",
-                      java.util.Arrays.stream(args)
-                          .map(arg -> arg != null ? arg.toString() : "null")
-                          .toArray(String[]::new))
-                  : "none";
-          LOGGER.debug(
-              "Method [{}] with args [{}] execution time: {}ms",
-              methodName,
-              argsStr,
-              executionTimeMillis);
-          try {
-            TelemetryCollector.getInstance()
-                .recordOperationLatency(executionTimeMillis, methodName);
-          } catch (Exception e) {
-            LOGGER.trace(
-                "Failed to export latency metrics for method {}: {}", methodName, e.getMessage());
-          }
-          return result;
-        } else {
-          return method.invoke(target, args);
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < args.length; i++) {
+        if (i > 0) {
+          builder.append(", ");
         }
-      } catch (InvocationTargetException e) {
-        // catch the exception from either path, unwraps it, and
-        // throws the real cause. It does not log latency.
-        throw e.getCause();
+        builder.append(args[i]);
       }
+      return builder.toString();
     }
   }
 }
@@ -0,0 +1,156 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import static com.databricks.jdbc.telemetry.latency.DatabricksMetricsTimedProcessor.recordLatency;
+
+import com.databricks.jdbc.api.impl.DatabricksResultSet;
+import com.databricks.jdbc.api.impl.ImmutableSessionInfo;
+import com.databricks.jdbc.api.impl.ImmutableSqlParameter;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.IDatabricksComputeResource;
+import com.databricks.jdbc.common.StatementType;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.sdk.core.DatabricksConfig;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link IDatabricksClient} recording the latency of the methods annotated with {@link
+ * DatabricksMetricsTimed} and delegating the other methods to the wrapped client.
+ */
+final class TimedDatabricksClient implements IDatabricksClient {
+  private final IDatabricksClient client;
+
+  TimedDatabricksClient(IDatabricksClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public ImmutableSessionInfo createSession(
+      IDatabricksComputeResource computeResource,
+      String catalog,
+      String schema,
+      Map<String, String> sessionConf)
+      throws DatabricksSQLException {
+    long startTime = System.nanoTime();
+    ImmutableSessionInfo sessionInfo =
+        client.createSession(computeResource, catalog, schema, sessionConf);
+    recordLatency("createSession", startTime, computeResource, catalog, schema, sessionConf);
+    return sessionInfo;
+  }
+
+  @Override
+  public void deleteSession(ImmutableSessionInfo sessionInfo) throws DatabricksSQLException {
+    long startTime = System.nanoTime();
+    client.deleteSession(sessionInfo);
+    recordLatency("deleteSession", startTime, sessionInfo);
+  }
+
+  @Override
+  public DatabricksResultSet executeStatement(
+      String sql,
+      IDatabricksComputeResource computeResource,
+      Map<Integer, ImmutableSqlParameter> parameters,
+      StatementType statementType,
+      IDatabricksSession session,
+      IDatabricksStatementInternal parentStatement)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.executeStatement(
+            sql, computeResource, parameters, statementType, session, parentStatement);
+    recordLatency(
+        "executeStatement",
+        startTime,
+        sql,
+        computeResource,
+        parameters,
+        statementType,
+        session,
+        parentStatement);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet executeStatementAsync(
+      String sql,
+      IDatabricksComputeResource computeResource,
+      Map<Integer, ImmutableSqlParameter> parameters,
+      IDatabricksSession session,
+      IDatabricksStatementInternal parentStatement)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.executeStatementAsync(sql, computeResource, parameters, session, parentStatement);
+    recordLatency(
+        "executeStatementAsync",
+        startTime,
+        sql,
+        computeResource,
+        parameters,
+        session,
+        parentStatement);
+    return resultSet;
+  }
+
+  @Override
+  public void checkSession(IDatabricksSession session) throws SQLException {
+    client.checkSession(session);
+  }
+
+  @Override
+  public void closeStatement(StatementId statementId) throws DatabricksSQLException {
+    long startTime = System.nanoTime();
+    client.closeStatement(statementId);
+    recordLatency("closeStatement", startTime, statementId);
+  }
+
+  @Override
+  public void cancelStatement(StatementId statementId) throws DatabricksSQLException {
+    long startTime = System.nanoTime();
+    client.cancelStatement(statementId);
+    recordLatency("cancelStatement", startTime, statementId);
+  }
+
+  @Override
+  public DatabricksResultSet getStatementResult(
+      StatementId statementId,
+      IDatabricksSession session,
+      IDatabricksStatementInternal parentStatement)
+      throws SQLException {
+    return client.getStatementResult(statementId, session, parentStatement);
+  }
+
+  @Override
+  public Collection<ExternalLink> getResultChunks(StatementId statementId, long chunkIndex)
+      throws DatabricksSQLException {
+    return client.getResultChunks(statementId, chunkIndex);
+  }
+
+  @Override
+  public IDatabricksConnectionContext getConnectionContext() {
+    return client.getConnectionContext();
+  }
+
+  @Override
+  public void resetAccessToken(String newAccessToken) {
+    client.resetAccessToken(newAccessToken);
+  }
+
+  @Override
+  public TFetchResultsResp getMoreResults(IDatabricksStatementInternal parentStatement)
+      throws DatabricksSQLException {
+    return client.getMoreResults(parentStatement);
+  }
+
+  @Override
+  public DatabricksConfig getDatabricksConfig() {
+    return client.getDatabricksConfig();
+  }
+}
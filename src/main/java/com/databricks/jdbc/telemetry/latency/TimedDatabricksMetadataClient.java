@@ -0,0 +1,164 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import static com.databricks.jdbc.telemetry.latency.DatabricksMetricsTimedProcessor.recordLatency;
+
+import com.databricks.jdbc.api.impl.DatabricksResultSet;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.dbclient.IDatabricksMetadataClient;
+import java.sql.SQLException;
+
+/** {@link IDatabricksMetadataClient} recording the latency of every metadata request. */
+final class TimedDatabricksMetadataClient implements IDatabricksMetadataClient {
+  private final IDatabricksMetadataClient client;
+
+  TimedDatabricksMetadataClient(IDatabricksMetadataClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public DatabricksResultSet listTypeInfo(IDatabricksSession session) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listTypeInfo(session);
+    recordLatency("listTypeInfo", startTime, session);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listCatalogs(IDatabricksSession session) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listCatalogs(session);
+    recordLatency("listCatalogs", startTime, session);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listSchemas(
+      IDatabricksSession session, String catalog, String schemaNamePattern) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listSchemas(session, catalog, schemaNamePattern);
+    recordLatency("listSchemas", startTime, session, catalog, schemaNamePattern);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listTables(
+      IDatabricksSession session,
+      String catalog,
+      String schemaNamePattern,
+      String tableNamePattern,
+      String[] tableTypes)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.listTables(session, catalog, schemaNamePattern, tableNamePattern, tableTypes);
+    recordLatency(
+        "listTables", startTime, session, catalog, schemaNamePattern, tableNamePattern, tableTypes);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listTableTypes(IDatabricksSession session) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listTableTypes(session);
+    recordLatency("listTableTypes", startTime, session);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listColumns(
+      IDatabricksSession session,
+      String catalog,
+      String schemaNamePattern,
+      String tableNamePattern,
+      String columnNamePattern)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.listColumns(
+            session, catalog, schemaNamePattern, tableNamePattern, columnNamePattern);
+    recordLatency(
+        "listColumns",
+        startTime,
+        session,
+        catalog,
+        schemaNamePattern,
+        tableNamePattern,
+        columnNamePattern);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listFunctions(
+      IDatabricksSession session,
+      String catalog,
+      String schemaNamePattern,
+      String functionNamePattern)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.listFunctions(session, catalog, schemaNamePattern, functionNamePattern);
+    recordLatency(
+        "listFunctions", startTime, session, catalog, schemaNamePattern, functionNamePattern);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listPrimaryKeys(
+      IDatabricksSession session, String catalog, String schema, String table) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listPrimaryKeys(session, catalog, schema, table);
+    recordLatency("listPrimaryKeys", startTime, session, catalog, schema, table);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listImportedKeys(
+      IDatabricksSession session, String catalog, String schema, String table) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listImportedKeys(session, catalog, schema, table);
+    recordLatency("listImportedKeys", startTime, session, catalog, schema, table);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listExportedKeys(
+      IDatabricksSession session, String catalog, String schema, String table) throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet = client.listExportedKeys(session, catalog, schema, table);
+    recordLatency("listExportedKeys", startTime, session, catalog, schema, table);
+    return resultSet;
+  }
+
+  @Override
+  public DatabricksResultSet listCrossReferences(
+      IDatabricksSession session,
+      String parentCatalog,
+      String parentSchema,
+      String parentTable,
+      String foreignCatalog,
+      String foreignSchema,
+      String foreignTable)
+      throws SQLException {
+    long startTime = System.nanoTime();
+    DatabricksResultSet resultSet =
+        client.listCrossReferences(
+            session,
+            parentCatalog,
+            parentSchema,
+            parentTable,
+            foreignCatalog,
+            foreignSchema,
+            foreignTable);
+    recordLatency(
+        "listCrossReferences",
+        startTime,
+        session,
+        parentCatalog,
+        parentSchema,
+        parentTable,
+        foreignCatalog,
+        foreignSchema,
+        foreignTable);
+    return resultSet;
+  }
+}
@@ -9,6 +9,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -53,6 +54,24 @@ public class DataSourceTest {
     assertNotNull(connection);
   }
 
+  @Test
+  public void testGetConnectionReturnsWarmConnection() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(AUTH_MECH.getParamName(), "3");
+    DataSource dataSource = new DataSource(driverMock);
+    dataSource.setHost("sample-host.cloud.databricks.com");
+    dataSource.setHttpPath("/sql/1.0/warehouses/9999999999999999");
+    dataSource.setProperties(properties);
+    Mockito.when(driverMock.connect(dataSource.getUrl(), properties))
+        .thenReturn(databricksConnection);
+
+    dataSource.warmUp(1).get(5, TimeUnit.SECONDS);
+    Mockito.verify(driverMock).connect(dataSource.getUrl(), properties);
+
+    assertSame(databricksConnection, dataSource.getConnection());
+    dataSource.closeWarmConnections();
+  }
+
   @Test
   public void testUnsupportedMethods() {
     DataSource dataSource = new DataSource();
@@ -0,0 +1,143 @@
+package com.databricks.jdbc.api.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.databricks.jdbc.api.ExecutionState;
+import com.databricks.jdbc.api.IDatabricksResultSet;
+import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.api.IExecutionStatus;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.impl.common.PollBackoff;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksTimeoutException;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncStatementPollerTest {
+
+  @Mock IDatabricksStatement statement;
+
+  private ScheduledExecutorService scheduler;
+  private AsyncStatementPoller poller;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    poller = new AsyncStatementPoller(scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void testFutureCompletesWhenStatementSucceeds() throws Exception {
+    IDatabricksResultSet running = resultSet(ExecutionState.RUNNING, null);
+    IDatabricksResultSet succeeded = resultSet(ExecutionState.SUCCEEDED, null);
+    when(statement.getExecutionResult()).thenReturn(running, running, succeeded);
+
+    CompletableFuture<ResultSet> future = poller.poll(statement, new PollBackoff(0, 0), 0);
+
+    assertSame(succeeded, future.get(5, TimeUnit.SECONDS));
+    verify(statement, times(3)).getExecutionResult();
+  }
+
+  @Test
+  void testFutureFailsWhenStatementFails() throws Exception {
+    IDatabricksResultSet failed = resultSet(ExecutionState.FAILED, "syntax error");
+    when(statement.getExecutionResult()).thenReturn(failed);
+
+    CompletableFuture<ResultSet> future = poller.poll(statement, new PollBackoff(0, 0), 0);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DatabricksSQLException.class, e.getCause());
+    assertEquals("syntax error", e.getCause().getMessage());
+  }
+
+  @Test
+  void testStatementIsCancelledOnTimeout() throws Exception {
+    IDatabricksResultSet running = resultSet(ExecutionState.RUNNING, null);
+    when(statement.getExecutionResult()).thenReturn(running);
+
+    CompletableFuture<ResultSet> future = poller.poll(statement, new PollBackoff(100, 100), 1);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DatabricksTimeoutException.class, e.getCause());
+    verify(statement).cancel();
+  }
+
+  @Test
+  void testCancellingFutureCancelsStatement() throws Exception {
+    IDatabricksResultSet running = resultSet(ExecutionState.RUNNING, null);
+    lenient().when(statement.getExecutionResult()).thenReturn(running);
+    CompletableFuture<ResultSet> future =
+        poller.poll(statement, new PollBackoff(60_000, 60_000), 0);
+
+    assertTrue(future.cancel(true));
+
+    verify(statement).cancel();
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  void testStatementIsCancelledWhenPollingFails() throws Exception {
+    when(statement.getExecutionResult()).thenThrow(new DatabricksSQLException("lost", "08000"));
+
+    CompletableFuture<ResultSet> future = poller.poll(statement, new PollBackoff(0, 0), 0);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertEquals("lost", e.getCause().getMessage());
+    verify(statement).cancel();
+  }
+
+  @Test
+  void testPollRunsWithCallerContext() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    AtomicReference<IDatabricksConnectionContext> pollContext = new AtomicReference<>();
+    IDatabricksResultSet succeeded = resultSet(ExecutionState.SUCCEEDED, null);
+    when(statement.getExecutionResult())
+        .thenAnswer(
+            invocation -> {
+              pollContext.set(DatabricksThreadContextHolder.getConnectionContext());
+              return succeeded;
+            });
+
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    CompletableFuture<ResultSet> future;
+    try {
+      future = poller.poll(statement, new PollBackoff(0, 0), 0);
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+
+    assertSame(succeeded, future.get(5, TimeUnit.SECONDS));
+    assertSame(connectionContext, pollContext.get());
+  }
+
+  private static IDatabricksResultSet resultSet(ExecutionState state, String errorMessage) {
+    IDatabricksResultSet resultSet = mock(IDatabricksResultSet.class);
+    IExecutionStatus status = mock(IExecutionStatus.class);
+    lenient().when(resultSet.getExecutionStatus()).thenReturn(status);
+    lenient().when(status.getExecutionState()).thenReturn(state);
+    lenient().when(status.getErrorMessage()).thenReturn(errorMessage);
+    return resultSet;
+  }
+}
@@ -0,0 +1,101 @@
+package com.databricks.jdbc.api.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionValidatorTest {
+
+  @Mock IDatabricksSession session;
+  @Mock IDatabricksClient databricksClient;
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @BeforeEach
+  void setUp() {
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+  }
+
+  @Test
+  void testCheckRunsWithCallerContext() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    AtomicReference<IDatabricksConnectionContext> checkContext = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              checkContext.set(DatabricksThreadContextHolder.getConnectionContext());
+              return null;
+            })
+        .when(databricksClient)
+        .checkSession(session);
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    try {
+      assertTrue(new ConnectionValidator(session, 0, nanoTime::get).isValid(5));
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+    assertSame(connectionContext, checkContext.get());
+  }
+
+  @Test
+  void testSuccessfulCheckIsReusedWithinCacheInterval() throws Exception {
+    ConnectionValidator validator = new ConnectionValidator(session, 1000, nanoTime::get);
+
+    assertTrue(validator.isValid(5));
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    assertTrue(validator.isValid(5));
+    verify(databricksClient, times(1)).checkSession(session);
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    assertTrue(validator.isValid(5));
+    verify(databricksClient, times(2)).checkSession(session);
+  }
+
+  @Test
+  void testFailedCheckIsNotReused() throws Exception {
+    ConnectionValidator validator = new ConnectionValidator(session, 1000, nanoTime::get);
+    doNothing()
+        .doThrow(new DatabricksSQLException("Invalid SessionHandle", "HY000"))
+        .doNothing()
+        .when(databricksClient)
+        .checkSession(session);
+
+    assertTrue(validator.isValid(5));
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertFalse(validator.isValid(5));
+    assertTrue(validator.isValid(5));
+    verify(databricksClient, times(3)).checkSession(session);
+  }
+
+  @Test
+  void testTimeoutIsHonoured() throws Exception {
+    ConnectionValidator validator = new ConnectionValidator(session, 1000, nanoTime::get);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              release.await(10, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(databricksClient)
+        .checkSession(session);
+
+    long start = System.nanoTime();
+    assertFalse(validator.isValid(1));
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    release.countDown();
+  }
+}
@@ -208,6 +208,21 @@ public class DatabricksConnectionTest {
     assertThrows(DatabricksSQLException.class, connection::isReadOnly);
   }
 
+  @Test
+  public void testIsValidChecksSession() throws SQLException {
+    when(databricksClient.createSession(
+            new Warehouse(WAREHOUSE_ID), CATALOG, SCHEMA, new HashMap<>()))
+        .thenReturn(IMMUTABLE_SESSION_INFO);
+    connection = new DatabricksConnection(connectionContext, databricksClient);
+    connection.open();
+    doThrow(new DatabricksSQLException("Invalid SessionHandle", "HY000"))
+        .when(databricksClient)
+        .checkSession(connection.getSession());
+
+    assertFalse(connection.isValid(1));
+    assertFalse(connection.isClosed());
+  }
+
   @Test
   public void testConfInConnection() throws SQLException {
     Map<String, String> lowercaseSessionConfigs =
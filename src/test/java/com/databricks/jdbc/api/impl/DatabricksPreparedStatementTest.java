@@ -5,14 +5,21 @@ import static java.sql.JDBCType.DECIMAL;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.databricks.jdbc.api.ExecutionState;
+import com.databricks.jdbc.api.IExecutionStatus;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.Warehouse;
 import com.databricks.jdbc.common.util.DatabricksTypeUtil;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.dbclient.impl.sqlexec.DatabricksSdkClient;
 import com.databricks.jdbc.dbclient.impl.thrift.DatabricksThriftServiceClient;
 import com.databricks.jdbc.exception.DatabricksBatchUpdateException;
@@ -27,7 +34,13 @@ import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -693,6 +706,232 @@ public class DatabricksPreparedStatementTest {
     assertTrue(statement.isClosed());
   }
 
+  @Test
+  public void testExecuteLargeBatchReportsSucceededChunksOnFailure() throws Exception {
+    // 2 columns allow 128 rows per chunk, so 200 rows are split into 128 + 72
+    String simpleStatement = "INSERT INTO users (id, name) VALUES (?, ?)";
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL, new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, simpleStatement);
+    int totalBatches = 200;
+    for (int i = 1; i <= totalBatches; i++) {
+      statement.setInt(1, i);
+      statement.setString(2, "User " + i);
+      statement.addBatch();
+    }
+
+    when(client.executeStatement(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            eq(StatementType.UPDATE),
+            any(IDatabricksSession.class),
+            eq(statement)))
+        .thenReturn(resultSet)
+        .thenThrow(new DatabricksSQLException("chunk failed", "42000"));
+
+    DatabricksBatchUpdateException exception =
+        assertThrows(DatabricksBatchUpdateException.class, statement::executeLargeBatch);
+    long[] updateCounts = exception.getLargeUpdateCounts();
+    assertEquals(totalBatches, updateCounts.length);
+    for (int i = 0; i < totalBatches; i++) {
+      assertEquals(i < 128 ? 1 : Statement.EXECUTE_FAILED, updateCounts[i]);
+    }
+  }
+
+  @Test
+  public void testExecuteLargeBatchWithPipelinedChunks() throws Exception {
+    // 2 columns allow 128 rows per chunk, so 300 rows are split into 128 + 128 + 44
+    String simpleStatement = "INSERT INTO users (id, name) VALUES (?, ?)";
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL + "BatchInsertConcurrency=2;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, simpleStatement);
+    int totalBatches = 300;
+    for (int i = 1; i <= totalBatches; i++) {
+      statement.setInt(1, i);
+      statement.setString(2, "User " + i);
+      statement.addBatch();
+    }
+
+    when(client.executeStatementAsync(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class)))
+        .thenAnswer(
+            invocation -> {
+              IDatabricksStatementInternal chunkStatement = invocation.getArgument(4);
+              assertNotSame(statement, chunkStatement);
+              chunkStatement.setStatementId(new StatementId("chunk"));
+              return resultSet;
+            });
+    when(client.getStatementResult(
+            any(StatementId.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class)))
+        .thenReturn(resultSet);
+
+    long[] updateCounts = statement.executeLargeBatch();
+
+    assertEquals(totalBatches, updateCounts.length);
+    for (int i = 0; i < totalBatches; i++) {
+      assertEquals(1, updateCounts[i], "Update count for batch " + i + " should be 1");
+    }
+    verify(client, times(3))
+        .executeStatementAsync(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class));
+    verify(client, times(3)).closeStatement(any(StatementId.class));
+  }
+
+  @Test
+  public void testExecuteLargeBatchWithPipelinedChunksReportsPartialFailure() throws Exception {
+    String simpleStatement = "INSERT INTO users (id, name) VALUES (?, ?)";
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL + "BatchInsertConcurrency=2;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, simpleStatement);
+    int totalBatches = 300;
+    for (int i = 1; i <= totalBatches; i++) {
+      statement.setInt(1, i);
+      statement.setString(2, "User " + i);
+      statement.addBatch();
+    }
+
+    // The last chunk has 44 rows and is the only one whose submission fails
+    when(client.executeStatementAsync(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class)))
+        .thenAnswer(
+            invocation -> {
+              Map<Integer, ImmutableSqlParameter> parameters = invocation.getArgument(2);
+              if (parameters.size() == 88) {
+                throw new DatabricksSQLException("chunk failed", "42000");
+              }
+              IDatabricksStatementInternal chunkStatement = invocation.getArgument(4);
+              chunkStatement.setStatementId(new StatementId("chunk"));
+              return resultSet;
+            });
+    when(client.getStatementResult(
+            any(StatementId.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class)))
+        .thenReturn(resultSet);
+
+    DatabricksBatchUpdateException exception =
+        assertThrows(DatabricksBatchUpdateException.class, statement::executeLargeBatch);
+    assertEquals("42000", exception.getSQLState());
+    long[] updateCounts = exception.getLargeUpdateCounts();
+    assertEquals(totalBatches, updateCounts.length);
+    for (int i = 0; i < totalBatches; i++) {
+      assertEquals(i < 256 ? 1 : Statement.EXECUTE_FAILED, updateCounts[i]);
+    }
+  }
+
+  @Test
+  public void testCancelStopsPipelinedChunks() throws Exception {
+    DatabricksPreparedStatement statement = createPipelinedBatch();
+    CountDownLatch submitted = new CountDownLatch(2);
+    stubRunningChunks(submitted);
+
+    CompletableFuture<long[]> batch = executeLargeBatchAsync(statement);
+    assertTrue(submitted.await(5, TimeUnit.SECONDS));
+    statement.cancel();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> batch.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DatabricksBatchUpdateException.class, exception.getCause());
+    verify(client, times(2)).cancelStatement(any(StatementId.class));
+    verify(client, times(2))
+        .executeStatementAsync(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class));
+  }
+
+  @Test
+  public void testQueryTimeoutAppliesToWholePipelinedBatch() throws Exception {
+    DatabricksPreparedStatement statement = createPipelinedBatch();
+    statement.setQueryTimeout(1);
+    stubRunningChunks(new CountDownLatch(2));
+
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> executeLargeBatchAsync(statement).get(10, TimeUnit.SECONDS));
+    DatabricksBatchUpdateException batchException =
+        assertInstanceOf(DatabricksBatchUpdateException.class, exception.getCause());
+    assertInstanceOf(SQLTimeoutException.class, batchException.getCause());
+  }
+
+  private DatabricksPreparedStatement createPipelinedBatch() throws SQLException {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL + "BatchInsertConcurrency=2;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, "INSERT INTO users (id, name) VALUES (?, ?)");
+    for (int i = 1; i <= 300; i++) {
+      statement.setInt(1, i);
+      statement.setString(2, "User " + i);
+      statement.addBatch();
+    }
+    return statement;
+  }
+
+  /** Stubs the client so that submitted chunks keep running. */
+  private void stubRunningChunks(CountDownLatch submitted) throws SQLException {
+    IExecutionStatus runningStatus = mock(IExecutionStatus.class);
+    // Not polled if the batch is cancelled before the first poll
+    lenient().when(runningStatus.getExecutionState()).thenReturn(ExecutionState.RUNNING);
+    lenient().when(resultSet.getExecutionStatus()).thenReturn(runningStatus);
+    when(client.executeStatementAsync(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            any(IDatabricksSession.class),
+            any(IDatabricksStatementInternal.class)))
+        .thenAnswer(
+            invocation -> {
+              IDatabricksStatementInternal chunkStatement = invocation.getArgument(4);
+              chunkStatement.setStatementId(new StatementId("chunk"));
+              submitted.countDown();
+              return resultSet;
+            });
+    lenient()
+        .when(
+            client.getStatementResult(
+                any(StatementId.class),
+                any(IDatabricksSession.class),
+                any(IDatabricksStatementInternal.class)))
+        .thenReturn(resultSet);
+  }
+
+  private static CompletableFuture<long[]> executeLargeBatchAsync(
+      DatabricksPreparedStatement statement) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return statement.executeLargeBatch();
+          } catch (SQLException e) {
+            throw new CompletionException(e);
+          }
+        });
+  }
+
   @Test
   public void testExecuteLargeBatchWithManyColumnsChunking() throws Exception {
     // Test edge case with very wide table that forces 1 row per chunk
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.ExecutionState;
@@ -283,6 +285,27 @@ public class DatabricksResultSetTest {
     assertEquals(100, resultSet.getLong("columnLabel"));
   }
 
+  @Test
+  void testPrimitiveGettersBypassObjectConversion() throws SQLException {
+    DatabricksResultSet resultSet = getResultSet(StatementState.SUCCEEDED, null);
+    when(mockedExecutionResult.supportsPrimitiveAccess(0)).thenReturn(true);
+    when(mockedExecutionResult.isNull(0)).thenReturn(false);
+    when(mockedExecutionResult.getLong(0)).thenReturn(100L);
+    when(mockedResultSetMetadata.getColumnType(1)).thenReturn(Types.INTEGER);
+    assertEquals(100, resultSet.getInt(1));
+    assertEquals(100L, resultSet.getLong(1));
+    assertEquals(100.0, resultSet.getDouble(1));
+    assertFalse(resultSet.wasNull());
+    // null value
+    when(mockedExecutionResult.isNull(0)).thenReturn(true);
+    assertEquals(0, resultSet.getInt(1));
+    assertTrue(resultSet.wasNull());
+    verify(mockedExecutionResult, never()).getObject(anyInt());
+    // narrowing conversions go through the converter
+    when(mockedExecutionResult.getObject(0)).thenReturn(100);
+    assertEquals((short) 100, resultSet.getShort(1));
+  }
+
   @Test
   void testGetFloat() throws SQLException {
     DatabricksResultSet resultSet = getResultSet(StatementState.SUCCEEDED, null);
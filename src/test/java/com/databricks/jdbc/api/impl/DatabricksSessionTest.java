@@ -95,7 +95,10 @@ public class DatabricksSessionTest {
     try (MockedStatic<DatabricksMetricsTimedProcessor> proxyMock =
         Mockito.mockStatic(DatabricksMetricsTimedProcessor.class)) {
       proxyMock
-          .when(() -> DatabricksMetricsTimedProcessor.createProxy(any()))
+          .when(() -> DatabricksMetricsTimedProcessor.createTimedClient(any()))
+          .thenReturn(thriftClient);
+      proxyMock
+          .when(() -> DatabricksMetricsTimedProcessor.createTimedMetadataClient(any()))
           .thenReturn(thriftClient);
 
       DatabricksSession session = new DatabricksSession(connectionContext, sdkClient);
@@ -6,7 +6,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.databricks.jdbc.api.ExecutionState;
 import com.databricks.jdbc.api.IDatabricksResultSet;
+import com.databricks.jdbc.api.IExecutionStatus;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.common.IDatabricksComputeResource;
@@ -353,6 +355,33 @@ public class DatabricksStatementTest {
         ((IDatabricksResultSet) newResultSet).getStatementStatus().getState());
   }
 
+  @Test
+  public void testExecuteQueryAsync() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL, new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksStatement statement = new DatabricksStatement(connection, STATEMENT_ID);
+    when(client.executeStatementAsync(
+            eq(STATEMENT),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            eq(new HashMap<>()),
+            any(IDatabricksSession.class),
+            eq(statement)))
+        .thenReturn(resultSet);
+    when(client.getStatementResult(eq(STATEMENT_ID), any(IDatabricksSession.class), eq(statement)))
+        .thenReturn(resultSet);
+    IExecutionStatus executionStatus = mock(IExecutionStatus.class);
+    when(resultSet.getExecutionStatus()).thenReturn(executionStatus);
+    when(executionStatus.getExecutionState())
+        .thenReturn(ExecutionState.RUNNING, ExecutionState.SUCCEEDED);
+
+    CompletableFuture<ResultSet> future = statement.executeQueryAsync(STATEMENT);
+
+    assertEquals(resultSet, future.get(5, TimeUnit.SECONDS));
+    verify(client, times(2))
+        .getStatementResult(eq(STATEMENT_ID), any(IDatabricksSession.class), eq(statement));
+  }
+
   @Test
   public void testGetExecutionResult() throws Exception {
     IDatabricksConnectionContext connectionContext =
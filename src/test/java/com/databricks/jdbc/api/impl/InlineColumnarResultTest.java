@@ -0,0 +1,138 @@
+package com.databricks.jdbc.api.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.client.thrift.generated.TColumn;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TI64Column;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.client.thrift.generated.TStringColumn;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class InlineColumnarResultTest {
+
+  @Mock IDatabricksStatementInternal parentStatement;
+  @Mock IDatabricksSession session;
+  @Mock IDatabricksConnectionContext connectionContext;
+  @Mock IDatabricksClient databricksClient;
+
+  private TFetchResultsResp firstPage;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // First page holds rows 1 and 2, the second page holds row 3 with a null name
+    firstPage = createPage(List.of(1L, 2L), List.of("a", "b"), null, true);
+    when(session.getConnectionContext()).thenReturn(connectionContext);
+  }
+
+  @Test
+  void testValuesAreReadFromColumns() throws Exception {
+    stubSecondPage();
+    InlineColumnarResult result = new InlineColumnarResult(firstPage, parentStatement, session);
+
+    verify(databricksClient).getMoreResults(parentStatement);
+    assertEquals(3, result.getRowCount());
+    assertEquals(2, result.getChunkCount());
+    assertTrue(result.next());
+    assertEquals(1L, result.getObject(0));
+    assertEquals("a", result.getObject(1));
+    assertTrue(result.supportsPrimitiveAccess(0));
+    assertFalse(result.supportsPrimitiveAccess(1));
+    assertEquals(1L, result.getLong(0));
+    assertEquals(1.0, result.getDouble(0));
+    assertTrue(result.next());
+    assertTrue(result.next());
+    assertEquals(2, result.getCurrentRow());
+    assertEquals(3L, result.getObject(0));
+    assertTrue(result.isNull(1));
+    assertFalse(result.hasNext());
+    assertFalse(result.next());
+    assertThrows(DatabricksSQLException.class, () -> result.getObject(2));
+  }
+
+  @Test
+  void testPagesAreFetchedLazily() throws Exception {
+    stubSecondPage();
+    when(connectionContext.isLazyInlineResultFetchEnabled()).thenReturn(true);
+    InlineColumnarResult result = new InlineColumnarResult(firstPage, parentStatement, session);
+
+    verify(databricksClient, never()).getMoreResults(parentStatement);
+    // The counts grow as the pages are fetched while the rows are read
+    assertEquals(2, result.getRowCount());
+    assertEquals(1, result.getChunkCount());
+    assertEquals(List.of(1L, 2L, 3L), readIds(result));
+    verify(databricksClient).getMoreResults(parentStatement);
+    assertEquals(3, result.getRowCount());
+    assertEquals(2, result.getChunkCount());
+  }
+
+  @Test
+  void testMaxRowsLimitsRowsAndPages() throws Exception {
+    when(parentStatement.getMaxRows()).thenReturn(2);
+    InlineColumnarResult result = new InlineColumnarResult(firstPage, parentStatement, session);
+
+    assertEquals(2, result.getRowCount());
+    assertEquals(List.of(1L, 2L), readIds(result));
+    verify(session, never()).getDatabricksClient();
+  }
+
+  @Test
+  void testPageFetchFailureIsReportedByNext() throws Exception {
+    when(connectionContext.isLazyInlineResultFetchEnabled()).thenReturn(true);
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenThrow(new DatabricksSQLException("fetch failed", "HY000"));
+    InlineColumnarResult result = new InlineColumnarResult(firstPage, parentStatement, session);
+
+    assertTrue(result.next());
+    assertTrue(result.next());
+    assertTrue(result.hasNext());
+    assertThrows(DatabricksSQLException.class, result::next);
+    assertFalse(result.hasNext());
+  }
+
+  private void stubSecondPage() throws DatabricksSQLException {
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenReturn(createPage(List.of(3L), List.of(""), new byte[] {1}, false));
+  }
+
+  private static TFetchResultsResp createPage(
+      List<Long> ids, List<String> names, byte[] nameNulls, boolean hasMoreRows) {
+    TRowSet rowSet =
+        new TRowSet()
+            .setColumns(
+                List.of(
+                    TColumn.i64Val(new TI64Column(ids, ByteBuffer.allocate(0))),
+                    TColumn.stringVal(
+                        new TStringColumn(
+                            names, ByteBuffer.wrap(nameNulls == null ? new byte[0] : nameNulls)))));
+    TFetchResultsResp resp = new TFetchResultsResp().setResults(rowSet);
+    resp.hasMoreRows = hasMoreRows;
+    return resp;
+  }
+
+  private static List<Long> readIds(InlineColumnarResult result) throws DatabricksSQLException {
+    List<Long> ids = new ArrayList<>();
+    while (result.next()) {
+      ids.add(result.getLong(0));
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,102 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ArrowMemoryManagerTest {
+  private static final long MB = 1024L * 1024L;
+
+  @AfterEach
+  public void tearDown() {
+    ArrowMemoryManager.getRootAllocator().setLimit(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testChunkAllocationsAreAccountedOnDriverAllocator() {
+    long allocatedBefore = ArrowMemoryManager.getAllocatedMemory();
+    try (BufferAllocator statementAllocator = ArrowMemoryManager.newStatementAllocator("stmt");
+        BufferAllocator chunkAllocator =
+            statementAllocator.newChildAllocator("chunk-0", 0, Long.MAX_VALUE)) {
+      try (ArrowBuf buffer = chunkAllocator.buffer(4096)) {
+        assertEquals(4096, statementAllocator.getAllocatedMemory());
+        assertEquals(allocatedBefore + 4096, ArrowMemoryManager.getAllocatedMemory());
+        assertTrue(ArrowMemoryManager.getPeakMemoryAllocation() >= allocatedBefore + 4096);
+      }
+    }
+    assertEquals(allocatedBefore, ArrowMemoryManager.getAllocatedMemory());
+  }
+
+  @Test
+  public void testLimitIsNotSetBelowAllocatedMemory() {
+    try (BufferAllocator statementAllocator = ArrowMemoryManager.newStatementAllocator("stmt");
+        ArrowBuf buffer = statementAllocator.buffer(2 * MB)) {
+      ArrowMemoryManager.applyLimit(1);
+      assertEquals(ArrowMemoryManager.getAllocatedMemory(), ArrowMemoryManager.getMemoryLimit());
+    }
+    ArrowMemoryManager.applyLimit(0);
+    assertEquals(Long.MAX_VALUE, ArrowMemoryManager.getMemoryLimit());
+  }
+
+  @Test
+  public void testReserveBlocksUntilMemoryIsReleased() throws Exception {
+    ArrowMemoryManager.applyLimit(1);
+    assertEquals(MB, ArrowMemoryManager.getMemoryLimit());
+
+    long reservedBefore = ArrowMemoryManager.getReservedMemory();
+    ArrowMemoryManager.reserve(800 * 1024);
+    CompletableFuture<Void> blockedReservation =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                ArrowMemoryManager.reserve(800 * 1024);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } catch (DatabricksSQLException e) {
+                throw new CompletionException(e);
+              }
+            });
+    assertThrows(TimeoutException.class, () -> blockedReservation.get(300, TimeUnit.MILLISECONDS));
+
+    ArrowMemoryManager.release(800 * 1024);
+    blockedReservation.get(5, TimeUnit.SECONDS);
+    assertEquals(reservedBefore + 800 * 1024, ArrowMemoryManager.getReservedMemory());
+    ArrowMemoryManager.release(800 * 1024);
+    assertEquals(reservedBefore, ArrowMemoryManager.getReservedMemory());
+  }
+
+  @Test
+  public void testTryReserveDoesNotWaitForMemory() {
+    ArrowMemoryManager.applyLimit(1);
+    long reservedBefore = ArrowMemoryManager.getReservedMemory();
+    assumeTrue(reservedBefore == 0, "Other reservations are outstanding");
+    assertTrue(ArrowMemoryManager.tryReserve(800 * 1024));
+    assertFalse(ArrowMemoryManager.tryReserve(800 * 1024));
+    assertEquals(reservedBefore + 800 * 1024, ArrowMemoryManager.getReservedMemory());
+
+    ArrowMemoryManager.release(800 * 1024);
+    assertTrue(ArrowMemoryManager.tryReserve(800 * 1024));
+    ArrowMemoryManager.release(800 * 1024);
+    assertEquals(reservedBefore, ArrowMemoryManager.getReservedMemory());
+  }
+
+  @Test
+  public void testReservationLargerThanLimitIsGrantedWhenNothingElseIsReserved() throws Exception {
+    ArrowMemoryManager.applyLimit(1);
+    long reservedBefore = ArrowMemoryManager.getReservedMemory();
+    assumeTrue(reservedBefore == 0, "Other reservations are outstanding");
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> ArrowMemoryManager.reserve(2 * MB));
+    assertEquals(reservedBefore + 2 * MB, ArrowMemoryManager.getReservedMemory());
+    ArrowMemoryManager.release(2 * MB);
+  }
+}
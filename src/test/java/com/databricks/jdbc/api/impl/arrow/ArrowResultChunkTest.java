@@ -10,14 +10,25 @@ import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
 import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.*;
 import org.apache.arrow.vector.dictionary.DictionaryProvider;
@@ -102,6 +113,241 @@ public class ArrowResultChunkTest {
     assertEquals(arrowResultChunk.getChunkIndex(), 0);
   }
 
+  @Test
+  public void testProgressiveReadPublishesRecordBatchesWhileParsing() throws Exception {
+    int rows =
+        rowsInRecordBatch * (AbstractArrowResultChunk.DEFAULT_MAX_UNREAD_RECORD_BATCHES + 12);
+    ArrowResultChunk arrowResultChunk = createProgressiveChunk(rows);
+    Schema schema = createTestSchema();
+    Object[][] testData = createTestData(schema, rows);
+    File arrowFile =
+        createTestArrowFile(
+            "ProgressiveTestFile", schema, testData, new RootAllocator(Integer.MAX_VALUE));
+
+    CompletableFuture<Void> parsing =
+        parseInBackground(arrowResultChunk, new FileInputStream(arrowFile));
+
+    // Ready with the first record batch, while parsing waits for the unread batches to be consumed
+    arrowResultChunk.getChunkReadyFuture().get(10, TimeUnit.SECONDS);
+    Thread.sleep(200);
+    assertFalse(parsing.isDone());
+    assertNotEquals(ChunkStatus.PROCESSING_SUCCEEDED, arrowResultChunk.getStatus());
+
+    ArrowResultChunkIterator iterator = arrowResultChunk.getChunkIterator();
+    ColumnInfo intColumnInfo = new ColumnInfo();
+    for (int row = 0; row < rows; row++) {
+      assertTrue(iterator.nextRow());
+      assertEquals(
+          testData[0][row],
+          iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    }
+    assertFalse(iterator.hasNextRow());
+    parsing.get(10, TimeUnit.SECONDS);
+    assertEquals(ChunkStatus.PROCESSING_SUCCEEDED, arrowResultChunk.getStatus());
+    assertTrue(arrowResultChunk.releaseChunk());
+  }
+
+  @Test
+  public void testMaxUnreadRecordBatchesIsConfigurable() throws Exception {
+    ArrowResultChunk.Builder builder =
+        ArrowResultChunk.builder()
+            .withStatementId(TEST_STATEMENT_ID)
+            .withChunkInfo(
+                new BaseChunkInfo().setChunkIndex(0L).setRowOffset(0L).setRowCount(totalRows))
+            .withProgressiveRead(true);
+
+    assertMaxUnreadRecordBatches(
+        AbstractArrowResultChunk.DEFAULT_MAX_UNREAD_RECORD_BATCHES, builder.build());
+    assertMaxUnreadRecordBatches(2, builder.withMaxUnreadRecordBatches(2).build());
+    assertMaxUnreadRecordBatches(1, builder.withMaxUnreadRecordBatches(0).build());
+  }
+
+  private static void assertMaxUnreadRecordBatches(int expected, ArrowResultChunk chunk) {
+    assertEquals(expected, chunk.getMaxUnreadRecordBatches());
+    chunk.releaseChunk();
+  }
+
+  @Test
+  public void testReleaseStopsProgressiveRead() throws Exception {
+    int rows =
+        rowsInRecordBatch * (AbstractArrowResultChunk.DEFAULT_MAX_UNREAD_RECORD_BATCHES + 4);
+    ArrowResultChunk arrowResultChunk = createProgressiveChunk(rows);
+    Schema schema = createTestSchema();
+    File arrowFile =
+        createTestArrowFile(
+            "ProgressiveReleaseTestFile",
+            schema,
+            createTestData(schema, rows),
+            new RootAllocator(Integer.MAX_VALUE));
+
+    CompletableFuture<Void> parsing =
+        parseInBackground(arrowResultChunk, new FileInputStream(arrowFile));
+    arrowResultChunk.getChunkReadyFuture().get(10, TimeUnit.SECONDS);
+
+    assertTrue(arrowResultChunk.releaseChunk());
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> parsing.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, exception.getCause());
+    assertEquals(ChunkStatus.CHUNK_RELEASED, arrowResultChunk.getStatus());
+  }
+
+  @Test
+  public void testUnreadRecordBatchTimeoutStopsProgressiveRead() throws Exception {
+    int rows = rowsInRecordBatch * 4;
+    ArrowResultChunk arrowResultChunk =
+        ArrowResultChunk.builder()
+            .withStatementId(TEST_STATEMENT_ID)
+            .withChunkInfo(
+                new BaseChunkInfo()
+                    .setChunkIndex(0L)
+                    .setByteCount(200L)
+                    .setRowOffset(0L)
+                    .setRowCount((long) rows))
+            .withChunkStatus(ChunkStatus.DOWNLOAD_SUCCEEDED)
+            .withProgressiveRead(true)
+            .withMaxUnreadRecordBatches(1)
+            .withUnreadRecordBatchTimeoutSeconds(1)
+            .build();
+    Schema schema = createTestSchema();
+    File arrowFile =
+        createTestArrowFile(
+            "ProgressiveTimeoutTestFile",
+            schema,
+            createTestData(schema, rows),
+            new RootAllocator(Integer.MAX_VALUE));
+
+    // Nothing reads the first record batch, so parsing gives up instead of waiting forever
+    CompletableFuture<Void> parsing =
+        parseInBackground(arrowResultChunk, new FileInputStream(arrowFile));
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> parsing.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, exception.getCause());
+    assertTrue(arrowResultChunk.isUnreadRecordBatchTimedOut());
+    assertTrue(arrowResultChunk.releaseChunk());
+  }
+
+  @Test
+  public void testFailedProgressiveReadFailsIterator() throws Exception {
+    int rows = rowsInRecordBatch * 4;
+    ArrowResultChunk arrowResultChunk = createProgressiveChunk(rows);
+    Schema schema = createTestSchema();
+    File arrowFile =
+        createTestArrowFile(
+            "ProgressiveFailureTestFile",
+            schema,
+            createTestData(schema, rows),
+            new RootAllocator(Integer.MAX_VALUE));
+    byte[] arrowData = Files.readAllBytes(arrowFile.toPath());
+    // Cut into the body of the last record batch
+    InputStream truncatedStream =
+        new ByteArrayInputStream(Arrays.copyOf(arrowData, arrowData.length - 10));
+
+    assertThrows(IOException.class, () -> arrowResultChunk.initializeData(truncatedStream));
+    arrowResultChunk.failRecordBatchRead(new IOException("Download failed"));
+
+    ArrowResultChunkIterator iterator = arrowResultChunk.getChunkIterator();
+    assertThrows(
+        DatabricksSQLException.class,
+        () -> {
+          while (iterator.nextRow()) {
+            // Read the rows of the record batches parsed before the failure
+          }
+        });
+    assertTrue(arrowResultChunk.releaseChunk());
+  }
+
+  @Test
+  public void testReleaseWhileParsingFreesChunkMemory() throws Exception {
+    int rows = rowsInRecordBatch * 4;
+    Schema schema = createTestSchema();
+    File arrowFile =
+        createTestArrowFile(
+            "ReleaseWhileParsingTestFile",
+            schema,
+            createTestData(schema, rows),
+            new RootAllocator(Integer.MAX_VALUE));
+    byte[] arrowData = Files.readAllBytes(arrowFile.toPath());
+    long allocatedMemory = ArrowMemoryManager.getAllocatedMemory();
+    BufferAllocator statementAllocator =
+        ArrowMemoryManager.newStatementAllocator("release-while-parsing");
+    BaseChunkInfo chunkInfo =
+        new BaseChunkInfo()
+            .setChunkIndex(0L)
+            .setByteCount(200L)
+            .setRowOffset(0L)
+            .setRowCount((long) rows);
+    ArrowResultChunk arrowResultChunk =
+        ArrowResultChunk.builder()
+            .withStatementId(TEST_STATEMENT_ID)
+            .withChunkInfo(chunkInfo)
+            .withChunkStatus(ChunkStatus.DOWNLOAD_SUCCEEDED)
+            .withParentAllocator(statementAllocator)
+            .build();
+
+    // Stalls the response halfway, after the first record batches were parsed
+    CountDownLatch halfRead = new CountDownLatch(1);
+    CountDownLatch resumeReading = new CountDownLatch(1);
+    InputStream stalledStream =
+        new InputStream() {
+          private final ByteArrayInputStream delegate = new ByteArrayInputStream(arrowData);
+
+          @Override
+          public int read() throws IOException {
+            if (delegate.available() == arrowData.length / 2) {
+              halfRead.countDown();
+              try {
+                resumeReading.await();
+              } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+              }
+            }
+            return delegate.read();
+          }
+        };
+    CompletableFuture<Void> parsing = parseInBackground(arrowResultChunk, stalledStream);
+    assertTrue(halfRead.await(10, TimeUnit.SECONDS));
+    assertTrue(statementAllocator.getAllocatedMemory() > 0);
+
+    // Closing the result set releases the chunk and then closes the statement allocator
+    assertTrue(arrowResultChunk.releaseChunk());
+    ArrowMemoryManager.closeStatementAllocator(statementAllocator);
+    resumeReading.countDown();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> parsing.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, exception.getCause());
+    assertEquals(allocatedMemory, ArrowMemoryManager.getAllocatedMemory());
+    assertFalse(
+        ArrowMemoryManager.getRootAllocator().getChildAllocators().contains(statementAllocator));
+  }
+
+  private ArrowResultChunk createProgressiveChunk(long rowCount) throws DatabricksParsingException {
+    BaseChunkInfo chunkInfo =
+        new BaseChunkInfo()
+            .setChunkIndex(0L)
+            .setByteCount(200L)
+            .setRowOffset(0L)
+            .setRowCount(rowCount);
+    return ArrowResultChunk.builder()
+        .withStatementId(TEST_STATEMENT_ID)
+        .withChunkInfo(chunkInfo)
+        .withChunkStatus(ChunkStatus.DOWNLOAD_SUCCEEDED)
+        .withProgressiveRead(true)
+        .build();
+  }
+
+  private static CompletableFuture<Void> parseInBackground(
+      ArrowResultChunk arrowResultChunk, InputStream inputStream) {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            arrowResultChunk.initializeData(inputStream);
+          } catch (DatabricksSQLException | IOException e) {
+            throw new CompletionException(e);
+          }
+        });
+  }
+
   private File createTestArrowFile(
       String fileName, Schema schema, Object[][] testData, RootAllocator allocator)
       throws IOException {
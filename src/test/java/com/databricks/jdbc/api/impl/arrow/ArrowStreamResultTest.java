@@ -209,6 +209,48 @@ public class ArrowStreamResultTest {
     assertInstanceOf(Double.class, objectInSecondColumn);
   }
 
+  @Test
+  public void testPrimitiveAccess() throws Exception {
+    ResultManifest resultManifest =
+        new ResultManifest()
+            .setTotalChunkCount((long) this.numberOfChunks)
+            .setTotalRowCount(this.numberOfChunks * 110L)
+            .setTotalByteCount(1000L)
+            .setResultCompression(CompressionCodec.NONE)
+            .setChunks(this.chunkInfos)
+            .setSchema(
+                new ResultSchema()
+                    .setColumns(
+                        ImmutableList.of(
+                            new ColumnInfo().setTypeName(ColumnInfoTypeName.INT),
+                            new ColumnInfo().setTypeName(ColumnInfoTypeName.DOUBLE)))
+                    .setColumnCount(2L));
+
+    ResultData resultData = new ResultData().setExternalLinks(getChunkLinks(0L, false));
+
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContextFactory.create(JDBC_URL, new Properties());
+    DatabricksSession session = new DatabricksSession(connectionContext, mockedSdkClient);
+
+    setupMockResponse();
+    when(mockHttpClient.execute(isA(HttpUriRequest.class), eq(true))).thenReturn(httpResponse);
+
+    ArrowStreamResult result =
+        new ArrowStreamResult(resultManifest, resultData, STATEMENT_ID, session, mockHttpClient);
+
+    assertFalse(result.supportsPrimitiveAccess(0));
+    result.next();
+
+    assertTrue(result.supportsPrimitiveAccess(0));
+    assertTrue(result.supportsPrimitiveAccess(1));
+    assertFalse(result.supportsPrimitiveAccess(2));
+    assertFalse(result.isNull(0));
+    assertEquals(((Integer) result.getObject(0)).longValue(), result.getLong(0));
+    assertEquals((Double) result.getObject(1), result.getDouble(1));
+    assertThrows(DatabricksSQLException.class, () -> result.getLong(1));
+    assertThrows(DatabricksSQLException.class, () -> result.getBoolean(0));
+  }
+
   @Test
   public void testComplexTypeHandling() {
     assertTrue(ArrowStreamResult.isComplexType(ColumnInfoTypeName.ARRAY));
@@ -0,0 +1,150 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ChunkDownloadSchedulerTest {
+
+  @Test
+  public void testGlobalAndPerStatementLimits() throws Exception {
+    ChunkDownloadScheduler scheduler = new ChunkDownloadScheduler(3);
+    ChunkDownloadScheduler.StatementQueue first = scheduler.newStatementQueue(2);
+    ChunkDownloadScheduler.StatementQueue second = scheduler.newStatementQueue(4);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(8);
+
+    for (int i = 0; i < 4; i++) {
+      first.submit(blockingTask(release, done));
+      second.submit(blockingTask(release, done));
+    }
+
+    assertEquals(3, scheduler.getActiveDownloads());
+    assertEquals(2, first.getRunningCount());
+    assertEquals(1, second.getRunningCount());
+
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    waitForIdle(scheduler);
+    assertEquals(0, first.getPendingCount());
+    assertEquals(0, second.getPendingCount());
+  }
+
+  @Test
+  public void testStatementsAreServedInTurn() throws Exception {
+    ChunkDownloadScheduler scheduler = new ChunkDownloadScheduler(1);
+    ChunkDownloadScheduler.StatementQueue first = scheduler.newStatementQueue(4);
+    ChunkDownloadScheduler.StatementQueue second = scheduler.newStatementQueue(4);
+    List<String> order = new CopyOnWriteArrayList<>();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(5);
+
+    first.submit(
+        () -> {
+          release.await();
+          order.add("first-1");
+          done.countDown();
+          return null;
+        });
+    first.submit(recordingTask(order, "first-2", done));
+    first.submit(recordingTask(order, "first-3", done));
+    second.submit(recordingTask(order, "second-1", done));
+    second.submit(recordingTask(order, "second-2", done));
+
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("first-1", "first-2", "second-1", "first-3", "second-2"), order);
+  }
+
+  @Test
+  public void testCancelDropsPendingAndInterruptsRunningDownloads() throws Exception {
+    ChunkDownloadScheduler scheduler = new ChunkDownloadScheduler(1);
+    ChunkDownloadScheduler.StatementQueue queue = scheduler.newStatementQueue(1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    queue.submit(
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+          }
+          return null;
+        });
+    queue.submit(() -> fail("Cancelled download must not run"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    queue.cancel();
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertEquals(0, queue.getPendingCount());
+    waitForIdle(scheduler);
+    queue.submit(() -> fail("Download submitted after cancel must not run"));
+    assertEquals(0, queue.getPendingCount());
+  }
+
+  @Test
+  public void testCancelledDownloadHoldsSlotUntilItReturns() throws Exception {
+    ChunkDownloadScheduler scheduler = new ChunkDownloadScheduler(1);
+    ChunkDownloadScheduler.StatementQueue cancelled = scheduler.newStatementQueue(1);
+    ChunkDownloadScheduler.StatementQueue other = scheduler.newStatementQueue(1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    cancelled.submit(
+        () -> {
+          started.countDown();
+          // Ignores the interrupt, like a download blocked in a non-interruptible read
+          while (true) {
+            try {
+              release.await();
+              return null;
+            } catch (InterruptedException e) {
+              // Keep waiting
+            }
+          }
+        });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    cancelled.cancel();
+    other.submit(recordingTask(new CopyOnWriteArrayList<>(), "other", done));
+
+    assertFalse(done.await(300, TimeUnit.MILLISECONDS));
+    assertEquals(1, scheduler.getActiveDownloads());
+
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    waitForIdle(scheduler);
+  }
+
+  private static DatabricksCallableTask blockingTask(CountDownLatch release, CountDownLatch done) {
+    return () -> {
+      release.await();
+      done.countDown();
+      return null;
+    };
+  }
+
+  private static DatabricksCallableTask recordingTask(
+      List<String> order, String name, CountDownLatch done) {
+    return () -> {
+      order.add(name);
+      done.countDown();
+      return null;
+    };
+  }
+
+  private static void waitForIdle(ChunkDownloadScheduler scheduler) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (scheduler.getActiveDownloads() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, scheduler.getActiveDownloads());
+  }
+}
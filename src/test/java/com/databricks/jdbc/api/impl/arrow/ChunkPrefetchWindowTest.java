@@ -0,0 +1,57 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class ChunkPrefetchWindowTest {
+  private static final long MB = 1024L * 1024L;
+
+  @Test
+  public void testWindowIsBoundedByByteBudget() {
+    ChunkPrefetchWindow window = new ChunkPrefetchWindow(16, 500 * MB);
+
+    assertTrue(window.tryAcquire(0, 200 * MB));
+    assertTrue(window.tryAcquire(1, 200 * MB));
+    assertFalse(window.tryAcquire(2, 200 * MB));
+    assertEquals(400 * MB, window.getBytesInMemory());
+
+    window.release(200 * MB, 0, 0, 0);
+    assertTrue(window.tryAcquire(1, 200 * MB));
+  }
+
+  @Test
+  public void testChunkLargerThanBudgetIsAdmittedWhenWindowIsEmpty() {
+    ChunkPrefetchWindow window = new ChunkPrefetchWindow(16, 100 * MB);
+
+    assertTrue(window.tryAcquire(0, 200 * MB));
+    assertFalse(window.tryAcquire(1, 1));
+  }
+
+  @Test
+  public void testUnknownSizesAreBoundedByChunkCount() {
+    ChunkPrefetchWindow window = new ChunkPrefetchWindow(2, 0);
+
+    assertTrue(window.tryAcquire(0, 0));
+    assertTrue(window.tryAcquire(1, 0));
+    assertFalse(window.tryAcquire(2, 0));
+  }
+
+  @Test
+  public void testWindowAdaptsToConsumerSpeed() {
+    ChunkPrefetchWindow window = new ChunkPrefetchWindow(16, 0);
+    assertEquals(16, window.getTargetChunks());
+
+    // Slow consumer: a chunk is consumed in four times the download time
+    window.release(0, 1000, 1_000_000, 4_000_000);
+    assertEquals(2, window.getTargetChunks());
+    assertTrue(window.tryAcquire(1, 0));
+    assertFalse(window.tryAcquire(2, 0));
+
+    // Fast consumer: downloads take much longer than consuming the rows
+    for (int i = 0; i < 20; i++) {
+      window.release(0, 1000, 100_000_000, 1_000_000);
+    }
+    assertEquals(16, window.getTargetChunks());
+  }
+}
@@ -3,12 +3,16 @@ package com.databricks.jdbc.api.impl.arrow;
 import static com.databricks.jdbc.TestConstants.ARROW_BATCH_LIST;
 import static com.databricks.jdbc.TestConstants.TEST_TABLE_SCHEMA;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
@@ -21,13 +25,21 @@ import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.IntVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
 import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.ipc.WriteChannel;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.util.SchemaUtility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -43,9 +55,11 @@ public class InlineChunkProviderTest {
   @Mock IDatabricksSession session;
   @Mock private ResultData mockResultData;
   @Mock private ResultManifest mockResultManifest;
+  @Mock private IDatabricksConnectionContext connectionContext;
+  @Mock private IDatabricksClient databricksClient;
 
   @Test
-  void testInitialisation() throws DatabricksParsingException {
+  void testInitialisation() throws DatabricksSQLException {
     when(fetchResultsResp.getResultSetMetadata()).thenReturn(metadata);
     when(metadata.getArrowSchema()).thenReturn(null);
     when(metadata.getSchema()).thenReturn(TEST_TABLE_SCHEMA);
@@ -190,6 +204,119 @@ public class InlineChunkProviderTest {
     assertEquals(TOTAL_ROWS, provider.getRowCount(), "Row count should match");
   }
 
+  @Test
+  void testEachThriftBatchIsExposedAsChunk() throws Exception {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      setUpThriftPages(allocator);
+      InlineChunkProvider provider =
+          new InlineChunkProvider(fetchResultsResp, parentStatement, session);
+
+      // All pages are fetched up front, so the row count is complete
+      verify(databricksClient).getMoreResults(parentStatement);
+      assertEquals(5, provider.getRowCount());
+      assertEquals(List.of(1, 2, 3, 4, 5), readAllValues(provider));
+    }
+  }
+
+  @Test
+  void testThriftPagesAreFetchedLazily() throws Exception {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      setUpThriftPages(allocator);
+      when(connectionContext.isLazyInlineResultFetchEnabled()).thenReturn(true);
+      InlineChunkProvider provider =
+          new InlineChunkProvider(fetchResultsResp, parentStatement, session);
+
+      verify(databricksClient, never()).getMoreResults(parentStatement);
+      assertEquals(3, provider.getRowCount());
+      assertEquals(List.of(1, 2, 3, 4, 5), readAllValues(provider));
+      verify(databricksClient, times(1)).getMoreResults(parentStatement);
+      assertEquals(5, provider.getRowCount());
+    }
+  }
+
+  @Test
+  void testThriftPageIsReadAhead() throws Exception {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      setUpThriftPages(allocator);
+      when(connectionContext.isLazyInlineResultFetchEnabled()).thenReturn(true);
+      when(connectionContext.isInlineResultReadAheadEnabled()).thenReturn(true);
+      InlineChunkProvider provider =
+          new InlineChunkProvider(fetchResultsResp, parentStatement, session);
+
+      assertEquals(List.of(1, 2, 3, 4, 5), readAllValues(provider));
+      verify(databricksClient, times(1)).getMoreResults(parentStatement);
+    }
+  }
+
+  @Test
+  void testThriftPageFetchFailureIsReportedByNext() throws Exception {
+    try (BufferAllocator allocator = new RootAllocator()) {
+      setUpThriftPages(allocator);
+      when(connectionContext.isLazyInlineResultFetchEnabled()).thenReturn(true);
+      when(databricksClient.getMoreResults(parentStatement))
+          .thenThrow(new DatabricksSQLException("fetch failed", "HY000"));
+      InlineChunkProvider provider =
+          new InlineChunkProvider(fetchResultsResp, parentStatement, session);
+
+      assertTrue(provider.next());
+      assertTrue(provider.next());
+      assertTrue(provider.hasNextChunk());
+      assertThrows(DatabricksSQLException.class, provider::next);
+      assertFalse(provider.hasNextChunk());
+    }
+  }
+
+  /** Sets up a result of two pages: batches [1, 2] and [3] followed by [4, 5]. */
+  private void setUpThriftPages(BufferAllocator allocator) throws Exception {
+    try (IntVector intVector = new IntVector("numbers", allocator)) {
+      VectorSchemaRoot root = VectorSchemaRoot.of(intVector);
+      when(fetchResultsResp.getResultSetMetadata()).thenReturn(metadata);
+      when(metadata.getArrowSchema()).thenReturn(SchemaUtility.serialize(root.getSchema()));
+      when(fetchResultsResp.getResults())
+          .thenReturn(
+              new TRowSet()
+                  .setArrowBatches(List.of(createBatch(root, 1, 2), createBatch(root, 3))));
+      TFetchResultsResp secondPage =
+          new TFetchResultsResp()
+              .setResults(new TRowSet().setArrowBatches(List.of(createBatch(root, 4, 5))));
+      fetchResultsResp.hasMoreRows = true;
+      when(session.getConnectionContext()).thenReturn(connectionContext);
+      when(session.getDatabricksClient()).thenReturn(databricksClient);
+      when(databricksClient.getMoreResults(parentStatement)).thenReturn(secondPage);
+    }
+  }
+
+  private TSparkArrowBatch createBatch(VectorSchemaRoot root, int... values) throws IOException {
+    IntVector intVector = (IntVector) root.getVector(0);
+    intVector.allocateNew(values.length);
+    for (int i = 0; i < values.length; i++) {
+      intVector.set(i, values[i]);
+    }
+    root.setRowCount(values.length);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ArrowRecordBatch recordBatch = new VectorUnloader(root).getRecordBatch()) {
+      MessageSerializer.serialize(new WriteChannel(Channels.newChannel(out)), recordBatch);
+    }
+    return new TSparkArrowBatch().setRowCount(values.length).setBatch(out.toByteArray());
+  }
+
+  private List<Integer> readAllValues(InlineChunkProvider provider) throws DatabricksSQLException {
+    List<Integer> values = new ArrayList<>();
+    ColumnInfo intColumnInfo = new ColumnInfo();
+    while (provider.hasNextChunk()) {
+      assertTrue(provider.next());
+      ArrowResultChunkIterator iterator = provider.getChunk().getChunkIterator();
+      while (iterator.nextRow()) {
+        values.add(
+            (Integer)
+                iterator.getColumnObjectAtCurrentRow(
+                    0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+      }
+    }
+    assertFalse(provider.next());
+    return values;
+  }
+
   /** Create a simple Arrow data with two rows and one column: [1, 2]. */
   private byte[] createArrowData(BufferAllocator allocator) throws IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
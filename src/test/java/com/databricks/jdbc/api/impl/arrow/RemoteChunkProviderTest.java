@@ -2,16 +2,29 @@ package com.databricks.jdbc.api.impl.arrow;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.CompressionCodec;
 import com.databricks.jdbc.common.DatabricksClientType;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.sdk.service.sql.ResultSchema;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -38,4 +51,65 @@ public class RemoteChunkProviderTest {
             new RemoteChunkProvider(
                 STATEMENT_ID, resultManifest, resultData, mockSession, null, 4));
   }
+
+  @Test
+  public void testThriftResultLinksAreFetchedLazily() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.isLazyResultLinkFetchEnabled()).thenReturn(true);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    IDatabricksClient client = mock(IDatabricksClient.class);
+    when(mockSession.getDatabricksClient()).thenReturn(client);
+    IDatabricksStatementInternal parentStatement = mock(IDatabricksStatementInternal.class);
+    when(parentStatement.getStatementId()).thenReturn(STATEMENT_ID);
+
+    CountDownLatch secondPageRequested = new CountDownLatch(1);
+    CountDownLatch returnSecondPage = new CountDownLatch(1);
+    when(client.getMoreResults(parentStatement))
+        .thenAnswer(
+            invocation -> {
+              secondPageRequested.countDown();
+              returnSecondPage.await();
+              return linkPage(false, 20);
+            });
+
+    RemoteChunkProvider provider =
+        new RemoteChunkProvider(
+            parentStatement,
+            linkPage(true, 10),
+            mockSession,
+            mock(IDatabricksHttpClient.class),
+            4,
+            CompressionCodec.NONE);
+    try {
+      // Only the first page is known, the next one is requested in the background
+      assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+      assertEquals(1, provider.getChunkCount());
+      assertEquals(10, provider.getRowCount());
+      assertTrue(provider.hasNextChunk());
+      assertTrue(provider.next());
+
+      returnSecondPage.countDown();
+      // The consumer reached the last known chunk and waits for the next page
+      assertTrue(provider.hasNextChunk());
+      assertEquals(2, provider.getChunkCount());
+      assertEquals(30, provider.getRowCount());
+      assertTrue(provider.next());
+      assertFalse(provider.hasNextChunk());
+      verify(client, times(1)).getMoreResults(parentStatement);
+    } finally {
+      provider.close();
+    }
+  }
+
+  private static TFetchResultsResp linkPage(boolean hasMoreRows, long rowCount) {
+    TSparkArrowResultLink link =
+        new TSparkArrowResultLink()
+            .setFileLink("https://example.com/chunk")
+            .setRowCount(rowCount)
+            .setExpiryTime(Instant.now().plusSeconds(3600).toEpochMilli());
+    TFetchResultsResp resultsResp =
+        new TFetchResultsResp().setResults(new TRowSet().setResultLinks(List.of(link)));
+    resultsResp.setHasMoreRows(hasMoreRows);
+    return resultsResp;
+  }
 }
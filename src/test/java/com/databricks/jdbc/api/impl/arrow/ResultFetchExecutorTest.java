@@ -0,0 +1,41 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ResultFetchExecutorTest {
+
+  @AfterEach
+  public void tearDown() {
+    DatabricksThreadContextHolder.clearAllContext();
+  }
+
+  @Test
+  public void testTaskRunsOnDaemonThreadWithCallerContext() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    DatabricksThreadContextHolder.setStatementId("statement-id");
+
+    Object[] taskContext =
+        ResultFetchExecutor.supplyAsync(
+                () ->
+                    new Object[] {
+                      Thread.currentThread(),
+                      DatabricksThreadContextHolder.getConnectionContext(),
+                      DatabricksThreadContextHolder.getStatementId()
+                    })
+            .get(5, TimeUnit.SECONDS);
+
+    Thread thread = (Thread) taskContext[0];
+    assertSame(connectionContext, taskContext[1]);
+    assertEquals("statement-id", taskContext[2]);
+    assertTrue(thread.isDaemon());
+    assertTrue(thread.getName().startsWith("databricks-jdbc-result-fetcher-"));
+  }
+}
@@ -10,7 +10,9 @@ import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.hc.core5.concurrent.FutureCallback;
@@ -144,7 +146,7 @@ class ArrowResultChunkV2Test {
   void testCancellation() {
     doAnswer(
             invocation -> {
-              FutureCallback<byte[]> callback = invocation.getArgument(2);
+              FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
               callback.cancelled();
               return null;
             })
@@ -160,8 +162,8 @@ class ArrowResultChunkV2Test {
   private void setupSuccessfulDownload(byte[] data) {
     doAnswer(
             invocation -> {
-              FutureCallback<byte[]> callback = invocation.getArgument(2);
-              callback.completed(data);
+              FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+              callback.completed(toPooledStream(data));
               return null;
             })
         .when(mockHttpClient)
@@ -177,13 +179,13 @@ class ArrowResultChunkV2Test {
 
     doAnswer(
             invocation -> {
-              FutureCallback<byte[]> callback = invocation.getArgument(2);
+              FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
               int currentAttempt = attemptCounter.incrementAndGet();
 
               if (currentAttempt <= failureCount) {
                 callback.failed(error);
               } else {
-                callback.completed(successData);
+                callback.completed(toPooledStream(successData));
               }
               return null;
             })
@@ -193,4 +195,9 @@ class ArrowResultChunkV2Test {
             any(AsyncResponseConsumer.class),
             any(FutureCallback.class));
   }
+
+  private static PooledBufferInputStream toPooledStream(byte[] data) {
+    return new PooledBufferInputStream(
+        List.of(ByteBuffer.wrap(data)), ChunkBufferPool.getInstance());
+  }
 }
@@ -21,6 +21,7 @@ import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -112,8 +113,9 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client to simulate successful downloads during initialization
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData()); // Simulate successful download
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                // Simulate successful download
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -160,8 +162,9 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client to simulate successful downloads during initialization
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData()); // Simulate successful download
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                // Simulate successful download
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -290,8 +293,9 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client to simulate successful downloads during initialization
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData()); // Simulate successful download
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                // Simulate successful download
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -340,8 +344,8 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client for initialization downloads
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData());
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -377,8 +381,9 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client to simulate successful downloads during initialization
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData()); // Simulate successful download
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                // Simulate successful download
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -454,8 +459,8 @@ class RemoteChunkProviderV2Test {
       // Mock HTTP client for initialization
       doAnswer(
               invocation -> {
-                FutureCallback<byte[]> callback = invocation.getArgument(2);
-                callback.completed(createValidArrowData());
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                callback.completed(toPooledStream(createValidArrowData()));
                 return null;
               })
           .when(mockHttpClient)
@@ -486,6 +491,75 @@ class RemoteChunkProviderV2Test {
     }
   }
 
+  @Test
+  void shouldStartDownloadsOnceRefreshedLinksArrive() throws Exception {
+    ResultManifest manifest = createTestManifest(2);
+    ResultData resultData = createTestResultData(2);
+    CompletableFuture<ExternalLink> linkFuture = new CompletableFuture<>();
+
+    try (MockedConstruction<ChunkLinkDownloadService> mockedConstruction =
+        mockConstruction(
+            ChunkLinkDownloadService.class,
+            (mock, context) -> when(mock.getLinkForChunk(anyLong())).thenReturn(linkFuture))) {
+
+      doAnswer(
+              invocation -> {
+                FutureCallback<PooledBufferInputStream> callback = invocation.getArgument(2);
+                callback.completed(toPooledStream(createValidArrowData()));
+                return null;
+              })
+          .when(mockHttpClient)
+          .executeAsync(any(), any(), any());
+
+      // The expired links are refreshed without blocking the construction of the provider
+      RemoteChunkProviderV2 provider =
+          new RemoteChunkProviderV2(
+              new StatementId(STATEMENT_ID),
+              manifest,
+              resultData,
+              mockSession,
+              mockHttpClient,
+              MAX_PARALLEL_DOWNLOADS);
+      verify(mockHttpClient, never()).executeAsync(any(), any(), any());
+
+      linkFuture.complete(createTestExternalLink(0));
+
+      verify(mockHttpClient, times(2)).executeAsync(any(), any(), any());
+      assertTrue(provider.next());
+      assertNotNull(provider.getChunk());
+    }
+  }
+
+  @Test
+  void shouldFailChunkWhenLinkRefreshFails() throws Exception {
+    ResultManifest manifest = createTestManifest(1);
+    ResultData resultData = createTestResultData(1);
+    CompletableFuture<ExternalLink> linkFuture = new CompletableFuture<>();
+
+    try (MockedConstruction<ChunkLinkDownloadService> mockedConstruction =
+        mockConstruction(
+            ChunkLinkDownloadService.class,
+            (mock, context) -> when(mock.getLinkForChunk(anyLong())).thenReturn(linkFuture))) {
+
+      RemoteChunkProviderV2 provider =
+          new RemoteChunkProviderV2(
+              new StatementId(STATEMENT_ID),
+              manifest,
+              resultData,
+              mockSession,
+              mockHttpClient,
+              MAX_PARALLEL_DOWNLOADS);
+
+      linkFuture.completeExceptionally(
+          new DatabricksSQLException(
+              "Link fetch failed", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR));
+
+      assertTrue(provider.next());
+      assertThrows(DatabricksSQLException.class, provider::getChunk);
+      verify(mockHttpClient, never()).executeAsync(any(), any(), any());
+    }
+  }
+
   // Test utility methods
   private ResultManifest createTestManifest(int chunkCount) {
     List<BaseChunkInfo> chunks = new ArrayList<>();
@@ -546,4 +620,9 @@ class RemoteChunkProviderV2Test {
     resp.setHasMoreRows(false);
     return resp;
   }
+
+  private static PooledBufferInputStream toPooledStream(byte[] data) {
+    return new PooledBufferInputStream(
+        List.of(ByteBuffer.wrap(data)), ChunkBufferPool.getInstance());
+  }
 }
@@ -24,6 +24,52 @@ class StreamingResponseConsumerTest {
     consumer = new StreamingResponseConsumer(mockChunk);
   }
 
+  @Test
+  void testData_SpansPooledBuffers() throws IOException {
+    ChunkBufferPool bufferPool = new ChunkBufferPool(4, 2);
+    StreamingResponseConsumer pooledConsumer = new StreamingResponseConsumer(mockChunk, bufferPool);
+    byte[] testData = "0123456789".getBytes();
+
+    pooledConsumer.data(ByteBuffer.wrap(testData, 0, 3), false);
+    pooledConsumer.data(ByteBuffer.wrap(testData, 3, 7), true);
+
+    try (PooledBufferInputStream result = pooledConsumer.buildResult()) {
+      assertEquals(testData.length, result.available());
+      assertArrayEquals(testData, result.readAllBytes());
+    }
+    // Three buffers were used, the pool keeps two of them for the next chunks
+    assertEquals(2, bufferPool.getPooledBufferCount());
+    pooledConsumer.releaseResources();
+    assertEquals(2, bufferPool.getPooledBufferCount());
+  }
+
+  @Test
+  void testBuffersAreReusedAcrossChunks() throws IOException {
+    ChunkBufferPool bufferPool = new ChunkBufferPool(16, 4);
+    StreamingResponseConsumer firstConsumer = new StreamingResponseConsumer(mockChunk, bufferPool);
+    firstConsumer.data(ByteBuffer.wrap("first".getBytes()), true);
+    firstConsumer.buildResult().close();
+    assertEquals(1, bufferPool.getPooledBufferCount());
+
+    StreamingResponseConsumer secondConsumer = new StreamingResponseConsumer(mockChunk, bufferPool);
+    secondConsumer.data(ByteBuffer.wrap("second".getBytes()), true);
+    assertEquals(0, bufferPool.getPooledBufferCount());
+    try (PooledBufferInputStream result = secondConsumer.buildResult()) {
+      assertArrayEquals("second".getBytes(), result.readAllBytes());
+    }
+  }
+
+  @Test
+  void testFailedReturnsBuffersToPool() throws IOException {
+    ChunkBufferPool bufferPool = new ChunkBufferPool(16, 4);
+    StreamingResponseConsumer pooledConsumer = new StreamingResponseConsumer(mockChunk, bufferPool);
+    pooledConsumer.data(ByteBuffer.wrap("partial".getBytes()), false);
+
+    pooledConsumer.failed(new IOException("Connection reset"));
+
+    assertEquals(1, bufferPool.getPooledBufferCount());
+  }
+
   @Test
   void testStart_SuccessfulResponse() {
     BasicHttpResponse response = new BasicHttpResponse(HttpStatus.SC_OK);
@@ -53,7 +99,7 @@ class StreamingResponseConsumerTest {
     ByteBuffer buffer = ByteBuffer.wrap(testData);
 
     consumer.data(buffer, true);
-    byte[] result = consumer.buildResult();
+    byte[] result = readResult();
 
     assertArrayEquals(testData, result);
   }
@@ -65,7 +111,7 @@ class StreamingResponseConsumerTest {
 
     consumer.data(ByteBuffer.wrap(chunk1), false);
     consumer.data(ByteBuffer.wrap(chunk2), true);
-    byte[] result = consumer.buildResult();
+    byte[] result = readResult();
 
     byte[] expectedData = new byte[chunk1.length + chunk2.length];
     System.arraycopy(chunk1, 0, expectedData, 0, chunk1.length);
@@ -79,7 +125,7 @@ class StreamingResponseConsumerTest {
     ByteBuffer emptyBuffer = ByteBuffer.wrap(new byte[0]);
 
     consumer.data(emptyBuffer, true);
-    byte[] result = consumer.buildResult();
+    byte[] result = readResult();
 
     assertEquals(0, result.length);
   }
@@ -94,18 +140,18 @@ class StreamingResponseConsumerTest {
     }
 
     consumer.data(ByteBuffer.wrap(largeData), true);
-    byte[] result = consumer.buildResult();
+    byte[] result = readResult();
 
     assertArrayEquals(largeData, result);
   }
 
   @Test
-  void testFailed() {
+  void testFailed() throws IOException {
     Exception testException = new IOException("Test exception");
 
     consumer.failed(testException);
 
-    assertEquals(0, consumer.buildResult().length);
+    assertEquals(0, readResult().length);
   }
 
   @Test
@@ -115,6 +161,12 @@ class StreamingResponseConsumerTest {
 
     consumer.releaseResources();
 
-    assertEquals(0, consumer.buildResult().length);
+    assertEquals(0, readResult().length);
+  }
+
+  private byte[] readResult() throws IOException {
+    try (PooledBufferInputStream result = consumer.buildResult()) {
+      return result.readAllBytes();
+    }
   }
 }
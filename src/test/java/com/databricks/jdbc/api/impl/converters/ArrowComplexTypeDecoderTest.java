@@ -0,0 +1,136 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.api.impl.DatabricksArray;
+import com.databricks.jdbc.api.impl.DatabricksMap;
+import com.databricks.jdbc.api.impl.DatabricksStruct;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.apache.arrow.vector.complex.impl.UnionMapWriter;
+import org.apache.arrow.vector.types.Types;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ArrowComplexTypeDecoderTest {
+  private final BufferAllocator bufferAllocator = new RootAllocator();
+
+  @AfterEach
+  public void tearDown() {
+    bufferAllocator.close();
+  }
+
+  @Test
+  public void testStructDecoding() throws SQLException {
+    try (StructVector structVector = StructVector.empty("s", bufferAllocator)) {
+      IntVector idVector =
+          structVector.addOrGet(
+              "id", FieldType.nullable(Types.MinorType.INT.getType()), IntVector.class);
+      VarCharVector nameVector =
+          structVector.addOrGet(
+              "name", FieldType.nullable(Types.MinorType.VARCHAR.getType()), VarCharVector.class);
+      structVector.allocateNew();
+      idVector.setSafe(0, 7);
+      nameVector.setSafe(0, "seven".getBytes(StandardCharsets.UTF_8));
+      structVector.setIndexDefined(0);
+      structVector.setNull(1);
+      idVector.setValueCount(2);
+      nameVector.setValueCount(2);
+      structVector.setValueCount(2);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.STRUCT, "STRUCT<id:INT,name:STRING>", new ColumnInfo());
+      Object converted = accessor.getObject(structVector, 0);
+
+      assertInstanceOf(DatabricksStruct.class, converted);
+      assertArrayEquals(new Object[] {7, "seven"}, ((DatabricksStruct) converted).getAttributes());
+      assertNull(accessor.getObject(structVector, 1));
+    }
+  }
+
+  @Test
+  public void testArrayDecoding() throws SQLException {
+    try (ListVector listVector = ListVector.empty("a", bufferAllocator)) {
+      UnionListWriter writer = listVector.getWriter();
+      writer.setPosition(0);
+      writer.startList();
+      writer.writeInt(1);
+      writer.writeInt(2);
+      writer.endList();
+      writer.setPosition(1);
+      writer.startList();
+      writer.endList();
+      writer.setValueCount(2);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.ARRAY, "ARRAY<INT>", new ColumnInfo());
+
+      Object first = accessor.getObject(listVector, 0);
+      assertInstanceOf(DatabricksArray.class, first);
+      assertArrayEquals(new Object[] {1, 2}, (Object[]) ((DatabricksArray) first).getArray());
+      assertArrayEquals(
+          new Object[] {},
+          (Object[]) ((DatabricksArray) accessor.getObject(listVector, 1)).getArray());
+    }
+  }
+
+  @Test
+  public void testMapDecoding() throws SQLException {
+    try (MapVector mapVector = MapVector.empty("m", bufferAllocator, false)) {
+      UnionMapWriter writer = mapVector.getWriter();
+      writer.setPosition(0);
+      writer.startMap();
+      writer.startEntry();
+      writer.key().integer().writeInt(1);
+      writer.value().integer().writeInt(10);
+      writer.endEntry();
+      writer.startEntry();
+      writer.key().integer().writeInt(2);
+      writer.value().integer().writeInt(20);
+      writer.endEntry();
+      writer.endMap();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.MAP, "MAP<INT,INT>", new ColumnInfo());
+      Object converted = accessor.getObject(mapVector, 0);
+
+      assertInstanceOf(DatabricksMap.class, converted);
+      DatabricksMap<?, ?> map = (DatabricksMap<?, ?>) converted;
+      assertEquals(2, map.size());
+      assertEquals(10, map.get(1));
+      assertEquals(20, map.get(2));
+    }
+  }
+
+  @Test
+  public void testFallsBackToJsonForStringVectors() throws SQLException {
+    try (VarCharVector varCharVector = new VarCharVector("v", bufferAllocator)) {
+      varCharVector.allocateNew(1);
+      varCharVector.set(0, "[\"A\", \"B\"]".getBytes(StandardCharsets.UTF_8));
+      varCharVector.setValueCount(1);
+
+      Object converted =
+          ArrowToJavaObjectConverter.createAccessor(
+                  ColumnInfoTypeName.ARRAY, "ARRAY<STRING>", new ColumnInfo())
+              .getObject(varCharVector, 0);
+
+      assertArrayEquals(
+          new Object[] {"A", "B"}, (Object[]) ((DatabricksArray) converted).getArray());
+    }
+  }
+}
@@ -398,6 +398,29 @@ public class ArrowToJavaObjectConverterTest {
     assertEquals(getTimestampAdjustedToTimeZone(timestamp, timeZone), convertedObject);
   }
 
+  @Test
+  public void testAccessorIsReusableAcrossVectors() throws SQLException {
+    long timestamp = 1704054600000000L;
+    ArrowColumnAccessor accessor =
+        ArrowToJavaObjectConverter.createAccessor(
+            ColumnInfoTypeName.TIMESTAMP, "TIMESTAMP", new ColumnInfo());
+    for (String timeZone : Arrays.asList("Asia/Tokyo", "Asia/Tokyo", "+4:15")) {
+      TimeStampMicroTZVector timeStampMicroTZVector =
+          new TimeStampMicroTZVector("timeStampMicroTzVector", this.bufferAllocator, timeZone);
+      timeStampMicroTZVector.allocateNew(2);
+      timeStampMicroTZVector.set(0, timestamp);
+      timeStampMicroTZVector.setNull(1);
+
+      Instant instant = Instant.ofEpochMilli(timestamp / 1000);
+      ZoneId zoneId = getZoneIdFromTimeZoneOpt(Optional.of(timeZone));
+      assertEquals(
+          Timestamp.valueOf(LocalDateTime.ofInstant(instant, zoneId)),
+          accessor.getObject(timeStampMicroTZVector, 0));
+      assertNull(accessor.getObject(timeStampMicroTZVector, 1));
+      timeStampMicroTZVector.close();
+    }
+  }
+
   private static Timestamp getTimestampAdjustedToTimeZone(long timestampMicro, String timeZone) {
     Instant instant = Instant.ofEpochMilli(timestampMicro / 1000);
     LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneId.of(timeZone));
@@ -0,0 +1,128 @@
+package com.databricks.jdbc.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class SharedOAuthTokenTest {
+
+  @Test
+  void testTokenIsSharedByConnectionsWithSameKey() {
+    int tokenCount = SharedOAuthToken.getTokenCount();
+    AtomicInteger refreshCount = new AtomicInteger();
+    Supplier<SharedOAuthToken.Credentials> refresher =
+        () -> createCredentials("token-" + refreshCount.incrementAndGet(), Duration.ofHours(1));
+
+    SharedOAuthToken first = SharedOAuthToken.acquire(createKey("shared-host"), refresher);
+    SharedOAuthToken second = SharedOAuthToken.acquire(createKey("shared-host"), refresher);
+    SharedOAuthToken otherHost = SharedOAuthToken.acquire(createKey("other-host"), refresher);
+
+    assertSame(first, second);
+    assertNotSame(first, otherHost);
+    assertEquals(tokenCount + 2, SharedOAuthToken.getTokenCount());
+    assertEquals("Bearer token-1", first.getHeaders().get("Authorization"));
+    assertEquals("Bearer token-1", second.getHeaders().get("Authorization"));
+    assertEquals(1, refreshCount.get());
+
+    first.release(refresher);
+    assertEquals(tokenCount + 2, SharedOAuthToken.getTokenCount());
+    second.release(refresher);
+    otherHost.release(refresher);
+    assertEquals(tokenCount, SharedOAuthToken.getTokenCount());
+  }
+
+  @Test
+  void testExpiredTokenIsRefreshedBeforeUse() {
+    AtomicInteger refreshCount = new AtomicInteger();
+    // Expires within the expiry margin, so it is never usable
+    Supplier<SharedOAuthToken.Credentials> refresher =
+        () -> createCredentials("token-" + refreshCount.incrementAndGet(), Duration.ofSeconds(10));
+    SharedOAuthToken token = SharedOAuthToken.acquire(createKey("expired-host"), refresher);
+
+    assertEquals("Bearer token-1", token.getHeaders().get("Authorization"));
+    assertEquals("Bearer token-2", token.getHeaders().get("Authorization"));
+    token.release(refresher);
+  }
+
+  @Test
+  void testTokenIsRefreshedInBackgroundBeforeExpiry() throws Exception {
+    AtomicInteger refreshCount = new AtomicInteger();
+    CountDownLatch backgroundRefresh = new CountDownLatch(1);
+    // Refreshed halfway through the lifetime beyond the expiry margin
+    Duration lifetime = SharedOAuthToken.EXPIRY_MARGIN.plusSeconds(2);
+    Supplier<SharedOAuthToken.Credentials> refresher =
+        () -> {
+          int count = refreshCount.incrementAndGet();
+          if (count > 1) {
+            backgroundRefresh.countDown();
+          }
+          return createCredentials("token-" + count, lifetime);
+        };
+    SharedOAuthToken token = SharedOAuthToken.acquire(createKey("background-host"), refresher);
+
+    assertEquals("Bearer token-1", token.getHeaders().get("Authorization"));
+    assertTrue(backgroundRefresh.await(10, TimeUnit.SECONDS));
+    assertEquals("Bearer token-2", token.getHeaders().get("Authorization"));
+    token.release(refresher);
+  }
+
+  @Test
+  void testRefreshUsesRemainingConnectionAfterRelease() {
+    AtomicInteger firstRefreshCount = new AtomicInteger();
+    AtomicInteger secondRefreshCount = new AtomicInteger();
+    Supplier<SharedOAuthToken.Credentials> firstRefresher =
+        () -> {
+          firstRefreshCount.incrementAndGet();
+          return createCredentials("first", Duration.ofSeconds(10));
+        };
+    Supplier<SharedOAuthToken.Credentials> secondRefresher =
+        () -> {
+          secondRefreshCount.incrementAndGet();
+          return createCredentials("second", Duration.ofSeconds(10));
+        };
+    SharedOAuthToken first = SharedOAuthToken.acquire(createKey("fallback-host"), firstRefresher);
+    SharedOAuthToken second = SharedOAuthToken.acquire(createKey("fallback-host"), secondRefresher);
+
+    assertEquals("Bearer first", second.getHeaders().get("Authorization"));
+    first.release(firstRefresher);
+    assertEquals("Bearer second", second.getHeaders().get("Authorization"));
+    assertEquals(1, firstRefreshCount.get());
+    assertEquals(1, secondRefreshCount.get());
+    second.release(secondRefresher);
+  }
+
+  @Test
+  void testRefreshDelay() {
+    LocalDateTime now = LocalDateTime.now();
+    Duration longLivedDelay = SharedOAuthToken.getRefreshDelay(now.plusHours(1));
+    Duration shortLivedDelay = SharedOAuthToken.getRefreshDelay(now.plusMinutes(2));
+
+    // One hour tokens are refreshed five minutes ahead, two minute tokens halfway through the 80
+    // seconds before the expiry margin
+    assertTrue(longLivedDelay.compareTo(Duration.ofMinutes(54).plusSeconds(20)) <= 0);
+    assertTrue(longLivedDelay.compareTo(Duration.ofMinutes(54)) > 0);
+    assertTrue(shortLivedDelay.compareTo(Duration.ofSeconds(40)) <= 0);
+    assertTrue(shortLivedDelay.compareTo(Duration.ofSeconds(35)) > 0);
+    assertNull(SharedOAuthToken.getRefreshDelay(now.minusMinutes(1)));
+    assertNull(SharedOAuthToken.getRefreshDelay(null));
+  }
+
+  private static List<Object> createKey(String host) {
+    return Arrays.asList("oauth-m2m", host, "client-id", "sql", null, null, "secret-hash");
+  }
+
+  private static SharedOAuthToken.Credentials createCredentials(
+      String accessToken, Duration lifetime) {
+    return new SharedOAuthToken.Credentials(
+        Map.of("Authorization", "Bearer " + accessToken), LocalDateTime.now().plus(lifetime));
+  }
+}
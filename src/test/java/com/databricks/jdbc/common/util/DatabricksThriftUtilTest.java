@@ -1,13 +1,9 @@
 package com.databricks.jdbc.common.util;
 
 import static com.databricks.jdbc.TestConstants.*;
-import static com.databricks.jdbc.common.EnvironmentVariables.DEFAULT_RESULT_ROW_LIMIT;
 import static com.databricks.jdbc.common.util.DatabricksThriftUtil.checkDirectResultsForErrorStatus;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
 
-import com.databricks.jdbc.api.internal.IDatabricksSession;
-import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.DatabricksJdbcConstants;
 import com.databricks.jdbc.exception.DatabricksHttpException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
@@ -18,20 +14,11 @@ import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 public class DatabricksThriftUtilTest {
-
-  @Mock TFetchResultsResp fetchResultsResp;
-  @Mock IDatabricksStatementInternal parentStatement;
-  @Mock IDatabricksSession session;
-
   @Test
   void testByteBufferToString() {
     DatabricksThriftUtil helper = new DatabricksThriftUtil(); // cover the constructors too
@@ -254,26 +241,6 @@ public class DatabricksThriftUtilTest {
     assertEquals(expectedColumnCount, DatabricksThriftUtil.getColumnCount(resultManifest));
   }
 
-  @Test
-  public void testConvertColumnarToRowBased() throws DatabricksSQLException {
-    when(fetchResultsResp.getResults()).thenReturn(BOOL_ROW_SET);
-    when(parentStatement.getMaxRows()).thenReturn(DEFAULT_RESULT_ROW_LIMIT);
-    List<List<Object>> rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(4, rowBasedData.size());
-
-    when(fetchResultsResp.getResults()).thenReturn(null);
-    rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(0, rowBasedData.size());
-
-    when(fetchResultsResp.getResults())
-        .thenReturn(new TRowSet().setColumns(Collections.emptyList()));
-    rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(0, rowBasedData.size());
-  }
-
   private static TTypeDesc createTypeDesc(TTypeId type) {
     TPrimitiveTypeEntry primitiveType = new TPrimitiveTypeEntry().setType(type);
     TTypeEntry typeEntry = new TTypeEntry();
@@ -281,28 +248,6 @@ public class DatabricksThriftUtilTest {
     return new TTypeDesc().setTypes(Collections.singletonList(typeEntry));
   }
 
-  @Test
-  public void testMaxRowsInStatement() throws DatabricksSQLException {
-    when(fetchResultsResp.getResults()).thenReturn(BOOL_ROW_SET);
-    int maxRows = 2;
-    when(parentStatement.getMaxRows()).thenReturn(maxRows);
-    List<List<Object>> rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(maxRows, rowBasedData.size());
-
-    maxRows = 0; // no limit
-    when(parentStatement.getMaxRows()).thenReturn(maxRows);
-    rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(4, rowBasedData.size());
-
-    maxRows = 5;
-    when(parentStatement.getMaxRows()).thenReturn(maxRows);
-    rowBasedData =
-        DatabricksThriftUtil.convertColumnarToRowBased(fetchResultsResp, parentStatement, session);
-    assertEquals(4, rowBasedData.size());
-  }
-
   @ParameterizedTest
   @MethodSource("typeIdAndColumnInfoType")
   public void testGetTypeFromTypeDesc(TTypeId type, ColumnInfoTypeName typeName) {
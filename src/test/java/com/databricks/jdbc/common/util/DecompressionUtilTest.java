@@ -48,4 +48,43 @@ public class DecompressionUtilTest {
         DecompressionUtil.decompress(
             (ByteArrayInputStream) null, CompressionCodec.LZ4_FRAME, CONTEXT));
   }
+
+  @Test
+  public void testDecompressStreamLZ4Frame() throws Exception {
+    byte[] uncompressedData = new byte[256 * 1024];
+    for (int i = 0; i < uncompressedData.length; i++) {
+      uncompressedData[i] = (byte) (i % 31);
+    }
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    try (LZ4FrameOutputStream lz4FrameOutputStream =
+        new LZ4FrameOutputStream(byteArrayOutputStream)) {
+      lz4FrameOutputStream.write(uncompressedData);
+    }
+
+    InputStream resultStream =
+        DecompressionUtil.decompressStream(
+            new ByteArrayInputStream(byteArrayOutputStream.toByteArray()),
+            CompressionCodec.LZ4_FRAME,
+            CONTEXT);
+    assertArrayEquals(uncompressedData, IOUtils.toByteArray(resultStream));
+  }
+
+  @Test
+  public void testDecompressStreamSkipsCompression() throws Exception {
+    InputStream inputStream = new ByteArrayInputStream(INITIAL_STRING.getBytes());
+    assertSame(
+        inputStream,
+        DecompressionUtil.decompressStream(inputStream, CompressionCodec.NONE, CONTEXT));
+    assertNull(DecompressionUtil.decompressStream(null, CompressionCodec.LZ4_FRAME, CONTEXT));
+  }
+
+  @Test
+  public void testDecompressStreamInvalidFrame() throws Exception {
+    InputStream resultStream =
+        DecompressionUtil.decompressStream(
+            new ByteArrayInputStream(INITIAL_STRING.getBytes()),
+            CompressionCodec.LZ4_FRAME,
+            CONTEXT);
+    assertThrows(IOException.class, () -> IOUtils.toByteArray(resultStream));
+  }
 }
@@ -0,0 +1,132 @@
+package com.databricks.jdbc.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.common.CompressionCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+public class ParallelLz4FrameInputStreamTest {
+  private static final int PARALLELISM = 4;
+
+  @Test
+  void testDecompressesBlocksInOrder() throws Exception {
+    byte[] data = createData(1024 * 1024);
+    byte[] compressed =
+        compress(
+            data,
+            LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE,
+            LZ4FrameOutputStream.FLG.Bits.BLOCK_CHECKSUM,
+            LZ4FrameOutputStream.FLG.Bits.CONTENT_CHECKSUM);
+
+    try (InputStream stream =
+        new ParallelLz4FrameInputStream(new ByteArrayInputStream(compressed), PARALLELISM)) {
+      assertArrayEquals(data, IOUtils.toByteArray(stream));
+    }
+  }
+
+  @Test
+  void testDecompressesConcatenatedAndSkippableFrames() throws Exception {
+    byte[] first = createData(200 * 1024);
+    byte[] second = createData(100 * 1024);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    compressed.write(compress(first, LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE));
+    // Skippable frame with a 3 byte payload
+    compressed.write(new byte[] {0x50, 0x2A, 0x4D, 0x18, 3, 0, 0, 0, 1, 2, 3});
+    compressed.write(
+        compress(
+            second,
+            LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE,
+            LZ4FrameOutputStream.FLG.Bits.CONTENT_CHECKSUM));
+    byte[] expected = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, expected, first.length, second.length);
+
+    try (InputStream stream =
+        new ParallelLz4FrameInputStream(
+            new ByteArrayInputStream(compressed.toByteArray()), PARALLELISM)) {
+      assertArrayEquals(expected, IOUtils.toByteArray(stream));
+    }
+  }
+
+  @Test
+  void testCorruptedBlockFailsChecksum() throws Exception {
+    byte[] compressed =
+        compress(
+            createData(256 * 1024),
+            LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE,
+            LZ4FrameOutputStream.FLG.Bits.BLOCK_CHECKSUM);
+    // First byte of the first block, after the 7 byte frame header and the block size
+    compressed[11] ^= 0x5A;
+
+    try (InputStream stream =
+        new ParallelLz4FrameInputStream(new ByteArrayInputStream(compressed), PARALLELISM)) {
+      IOException exception = assertThrows(IOException.class, () -> IOUtils.toByteArray(stream));
+      assertTrue(exception.getMessage().contains("checksum"));
+    }
+  }
+
+  @Test
+  void testTruncatedStreamFails() throws Exception {
+    byte[] compressed =
+        compress(createData(256 * 1024), LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+
+    try (InputStream stream =
+        new ParallelLz4FrameInputStream(
+            new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length / 2)),
+            PARALLELISM)) {
+      assertThrows(EOFException.class, () -> IOUtils.toByteArray(stream));
+    }
+  }
+
+  @Test
+  void testDecompressStreamWithParallelism() throws Exception {
+    byte[] data = createData(512 * 1024);
+    byte[] compressed = compress(data, LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+
+    InputStream stream =
+        DecompressionUtil.decompressStream(
+            new ByteArrayInputStream(compressed), CompressionCodec.LZ4_FRAME, "test", PARALLELISM);
+    assertInstanceOf(ParallelLz4FrameInputStream.class, stream);
+    assertArrayEquals(data, IOUtils.toByteArray(stream));
+  }
+
+  /**
+   * Returns data alternating between compressible and random 64 KB runs, so that both compressed
+   * and uncompressed blocks occur.
+   */
+  private static byte[] createData(int size) {
+    Random random = new Random(size);
+    byte[] data = new byte[size];
+    for (int offset = 0; offset < size; offset += 64 * 1024) {
+      int length = Math.min(64 * 1024, size - offset);
+      if ((offset / (64 * 1024)) % 2 == 0) {
+        for (int i = 0; i < length; i++) {
+          data[offset + i] = (byte) ((offset + i) % 31);
+        }
+      } else {
+        byte[] run = new byte[length];
+        random.nextBytes(run);
+        System.arraycopy(run, 0, data, offset, length);
+      }
+    }
+    return data;
+  }
+
+  private static byte[] compress(byte[] data, LZ4FrameOutputStream.FLG.Bits... bits)
+      throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (LZ4FrameOutputStream stream =
+        new LZ4FrameOutputStream(compressed, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB, bits)) {
+      stream.write(data);
+    }
+    return compressed.toByteArray();
+  }
+}
@@ -0,0 +1,37 @@
+package com.databricks.jdbc.dbclient.impl.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PollBackoffTest {
+
+  @Test
+  public void testFastPollsThenExponentialGrowthUpToCap() {
+    PollBackoff backoff = new PollBackoff(200, 1000);
+    List<Long> delays = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      delays.add(backoff.nextDelayMillis());
+    }
+    assertEquals(List.of(50L, 50L, 50L, 200L, 300L, 450L, 675L, 1000L, 1000L), delays);
+  }
+
+  @Test
+  public void testMaxBelowPollIntervalGivesFixedSchedule() {
+    PollBackoff backoff = new PollBackoff(200, 0);
+    for (int i = 0; i < PollBackoff.FAST_POLL_COUNT; i++) {
+      backoff.nextDelayMillis();
+    }
+    for (int i = 0; i < 5; i++) {
+      assertEquals(200L, backoff.nextDelayMillis());
+    }
+  }
+
+  @Test
+  public void testFastPollsNeverExceedPollInterval() {
+    PollBackoff backoff = new PollBackoff(10, 100);
+    assertEquals(10L, backoff.nextDelayMillis());
+  }
+}
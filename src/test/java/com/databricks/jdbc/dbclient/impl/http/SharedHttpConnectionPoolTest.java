@@ -0,0 +1,66 @@
+package com.databricks.jdbc.dbclient.impl.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.api.impl.DatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.HttpClientType;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+public class SharedHttpConnectionPoolTest {
+
+  private static final String JDBC_URL =
+      "jdbc:databricks://%s:443/default;transportMode=http;ssl=1;AuthMech=3;"
+          + "httpPath=/sql/1.0/warehouses/99999999;EnableSharedHttpConnectionPool=1;%s";
+
+  @Test
+  void testPoolIsSharedByConnectionsWithSameSettings() throws Exception {
+    int poolCount = SharedHttpConnectionPool.getPoolCount();
+    SharedHttpConnectionPool first =
+        SharedHttpConnectionPool.acquire(createContext("shared-host.databricks.com", ""), 10);
+    SharedHttpConnectionPool second =
+        SharedHttpConnectionPool.acquire(createContext("shared-host.databricks.com", ""), 10);
+    SharedHttpConnectionPool otherHost =
+        SharedHttpConnectionPool.acquire(createContext("other-host.databricks.com", ""), 10);
+    SharedHttpConnectionPool otherSettings =
+        SharedHttpConnectionPool.acquire(
+            createContext("shared-host.databricks.com", "HttpMaxConnectionsPerRoute=5;"), 10);
+
+    assertSame(first, second);
+    assertNotSame(first, otherHost);
+    assertNotSame(first, otherSettings);
+    assertEquals(5, otherSettings.getConnectionManager().getDefaultMaxPerRoute());
+    assertEquals(poolCount + 3, SharedHttpConnectionPool.getPoolCount());
+
+    first.release();
+    assertEquals(poolCount + 3, SharedHttpConnectionPool.getPoolCount());
+    second.release();
+    otherHost.release();
+    otherSettings.release();
+    assertEquals(poolCount, SharedHttpConnectionPool.getPoolCount());
+  }
+
+  @Test
+  void testClosingClientKeepsPoolOfOtherConnections() throws Exception {
+    int poolCount = SharedHttpConnectionPool.getPoolCount();
+    DatabricksHttpClient first =
+        new DatabricksHttpClient(
+            createContext("client-host.databricks.com", ""), HttpClientType.COMMON);
+    DatabricksHttpClient second =
+        new DatabricksHttpClient(
+            createContext("client-host.databricks.com", ""), HttpClientType.COMMON);
+    assertEquals(poolCount + 1, SharedHttpConnectionPool.getPoolCount());
+
+    first.close();
+    assertEquals(poolCount + 1, SharedHttpConnectionPool.getPoolCount());
+    second.close();
+    assertEquals(poolCount, SharedHttpConnectionPool.getPoolCount());
+  }
+
+  private static IDatabricksConnectionContext createContext(String host, String extraParams)
+      throws Exception {
+    return DatabricksConnectionContext.parse(
+        String.format(JDBC_URL, host, extraParams), new Properties());
+  }
+}
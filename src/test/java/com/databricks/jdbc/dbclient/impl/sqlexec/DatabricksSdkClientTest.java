@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.impl.*;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.common.IDatabricksComputeResource;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.Warehouse;
@@ -422,10 +423,12 @@ public class DatabricksSdkClientTest {
         .thenReturn(runningStatementResponse)
         .thenReturn(runningStatementResponse)
         .thenReturn(runningStatementResponse)
+        .thenReturn(runningStatementResponse)
+        .thenReturn(runningStatementResponse)
         .thenReturn(successStatementResponse);
 
-    // Verify that the timeout exception (1 second) is thrown due to repeated polling, where each
-    // poll occurs at an interval of 1 second
+    // Verify that the timeout exception (1 second) is thrown due to repeated polling, where the
+    // first polls follow each other quickly and later polls occur at an interval of 1 second
     DatabricksTimeoutException exception =
         assertThrows(
             DatabricksTimeoutException.class,
@@ -490,6 +493,26 @@ public class DatabricksSdkClientTest {
     assertEquals(TEST_STRING, result.getValue());
   }
 
+  @Test
+  public void testCheckSessionDoesNotCallServer() throws DatabricksSQLException {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL, new Properties());
+    DatabricksSdkClient databricksSdkClient =
+        new DatabricksSdkClient(connectionContext, statementExecutionService, apiClient);
+    IDatabricksSession session = mock(IDatabricksSession.class);
+    when(session.isOpen()).thenReturn(true, false);
+    when(session.getSessionInfo())
+        .thenReturn(
+            ImmutableSessionInfo.builder()
+                .computeResource(new Warehouse("warehouse-id"))
+                .sessionId("session-id")
+                .build());
+
+    assertDoesNotThrow(() -> databricksSdkClient.checkSession(session));
+    assertThrows(DatabricksSQLException.class, () -> databricksSdkClient.checkSession(session));
+    verifyNoInteractions(apiClient, statementExecutionService);
+  }
+
   @Test
   public void testNullValue() throws DatabricksSQLException {
     ImmutableSqlParameter parameter =
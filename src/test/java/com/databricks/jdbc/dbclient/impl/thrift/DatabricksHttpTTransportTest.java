@@ -17,6 +17,7 @@ import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
 import org.apache.thrift.transport.TTransportException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -123,6 +124,38 @@ public class DatabricksHttpTTransportTest {
     assertTrue(capturedRequest.containsHeader(TracingUtil.TRACE_HEADER));
   }
 
+  @Test
+  public void flush_StreamsResponseUntilReleased()
+      throws DatabricksHttpException, IOException, TTransportException {
+    when(mockConnectionContext.isStreamingThriftTransportEnabled()).thenReturn(true);
+    DatabricksHttpTTransport transport =
+        new DatabricksHttpTTransport(
+            mockedHttpClient, testUrl, mockDatabricksConfig, mockConnectionContext);
+    byte[] testData = TEST_STRING.getBytes();
+    transport.write(testData, 0, testData.length);
+    HttpEntity mockEntity = mock(HttpEntity.class);
+    when(mockResponse.getEntity()).thenReturn(mockEntity);
+    when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+    when(mockStatusLine.getStatusCode()).thenReturn(200);
+    when(mockEntity.getContent()).thenReturn(new ByteArrayInputStream(testData));
+    when(mockedHttpClient.execute(any(HttpPost.class))).thenReturn(mockResponse);
+
+    transport.flush();
+    ArgumentCaptor<HttpPost> requestCaptor = ArgumentCaptor.forClass(HttpPost.class);
+    verify(mockedHttpClient).execute(requestCaptor.capture());
+    assertArrayEquals(testData, EntityUtils.toByteArray(requestCaptor.getValue().getEntity()));
+
+    // The response is decoded from the entity stream, which stays open until it is released
+    byte[] buffer = new byte[testData.length];
+    assertEquals(testData.length, transport.read(buffer, 0, buffer.length));
+    assertArrayEquals(testData, buffer);
+    verify(mockResponse, never()).close();
+
+    transport.releaseResponse();
+    verify(mockResponse).close();
+    assertThrows(TTransportException.class, () -> transport.read(buffer, 0, buffer.length));
+  }
+
   @Test
   public void resetAccessToken_UpdatesConfigCorrectly() {
     DatabricksHttpTTransport transport =
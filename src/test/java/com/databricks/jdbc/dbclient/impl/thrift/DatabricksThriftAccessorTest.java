@@ -760,8 +760,12 @@ public class DatabricksThriftAccessorTest {
             .setOperationHandle(tOperationHandle)
             .setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS));
     when(thriftClient.ExecuteStatement(request)).thenReturn(tExecuteStatementResp);
-    // Mock the behavior where the first few status checks show the operation is still running
+    // Mock the behavior where the first few status checks show the operation is still running.
+    // The first polls follow each other quickly, after them the polling interval is 1 second
     when(thriftClient.GetOperationStatus(operationStatusReq))
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusRunningResp)
         .thenReturn(operationStatusRunningResp)
         .thenReturn(operationStatusRunningResp)
         .thenReturn(operationStatusFinishedResp);
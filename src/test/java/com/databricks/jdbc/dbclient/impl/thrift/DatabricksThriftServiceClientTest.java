@@ -30,7 +30,6 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Stream;
-import org.apache.thrift.protocol.TProtocol;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -38,7 +37,6 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -140,6 +138,28 @@ public class DatabricksThriftServiceClientTest {
     assertDoesNotThrow(() -> client.deleteSession(SESSION_INFO));
   }
 
+  @Test
+  void testCheckSession() throws DatabricksSQLException {
+    DatabricksThriftServiceClient client =
+        new DatabricksThriftServiceClient(thriftAccessor, connectionContext);
+    when(session.getSessionInfo()).thenReturn(SESSION_INFO);
+    TGetInfoReq getInfoReq =
+        new TGetInfoReq()
+            .setSessionHandle(SESSION_HANDLE)
+            .setInfoType(TGetInfoType.CLI_SERVER_NAME);
+    when(thriftAccessor.getThriftResponse(getInfoReq))
+        .thenReturn(
+            new TGetInfoResp().setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS)),
+            new TGetInfoResp()
+                .setStatus(
+                    new TStatus()
+                        .setStatusCode(TStatusCode.ERROR_STATUS)
+                        .setErrorMessage("Invalid SessionHandle")));
+
+    assertDoesNotThrow(() -> client.checkSession(session));
+    assertThrows(DatabricksSQLException.class, () -> client.checkSession(session));
+  }
+
   private static Stream<Arguments> protocolVersionProvider() {
     return Stream.of(
         Arguments.of(TProtocolVersion.SPARK_CLI_SERVICE_PROTOCOL_V1),
@@ -788,15 +808,8 @@ public class DatabricksThriftServiceClientTest {
   void testResetAccessToken() {
     DatabricksThriftServiceClient client =
         new DatabricksThriftServiceClient(thriftAccessor, connectionContext);
-    DatabricksHttpTTransport mockDatabricksHttpTTransport =
-        Mockito.mock(DatabricksHttpTTransport.class);
-    TCLIService.Client mockTCLIServiceClient = Mockito.mock(TCLIService.Client.class);
-    TProtocol mockProtocol = Mockito.mock(TProtocol.class);
-    when(thriftAccessor.getThriftClient()).thenReturn(mockTCLIServiceClient);
-    when(mockTCLIServiceClient.getInputProtocol()).thenReturn(mockProtocol);
-    when(mockProtocol.getTransport()).thenReturn(mockDatabricksHttpTTransport);
     client.resetAccessToken(NEW_ACCESS_TOKEN);
-    verify(mockDatabricksHttpTTransport).resetAccessToken(NEW_ACCESS_TOKEN);
+    verify(thriftAccessor).resetAccessToken(NEW_ACCESS_TOKEN);
   }
 
   @Test
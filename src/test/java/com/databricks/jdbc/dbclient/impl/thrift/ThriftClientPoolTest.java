@@ -0,0 +1,39 @@
+package com.databricks.jdbc.dbclient.impl.thrift;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.databricks.jdbc.model.client.thrift.generated.TCLIService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ThriftClientPoolTest {
+
+  @Test
+  public void testConcurrentCallsUseSeparateClients() {
+    ThriftClientPool pool = new ThriftClientPool(() -> mock(TCLIService.Client.class));
+
+    TCLIService.Client first = pool.borrow();
+    TCLIService.Client second = pool.borrow();
+    assertNotSame(first, second);
+    assertEquals(2, pool.getClients().size());
+
+    pool.release(second);
+    assertSame(second, pool.borrow());
+    assertEquals(2, pool.getClients().size());
+  }
+
+  @Test
+  public void testIdleClientsAreBounded() {
+    ThriftClientPool pool = new ThriftClientPool(() -> mock(TCLIService.Client.class));
+    List<TCLIService.Client> borrowed = new ArrayList<>();
+    for (int i = 0; i < ThriftClientPool.MAX_IDLE_CLIENTS + 2; i++) {
+      borrowed.add(pool.borrow());
+    }
+    borrowed.forEach(pool::release);
+
+    assertEquals(ThriftClientPool.MAX_IDLE_CLIENTS, pool.getIdleCount());
+    assertEquals(ThriftClientPool.MAX_IDLE_CLIENTS, pool.getClients().size());
+  }
+}
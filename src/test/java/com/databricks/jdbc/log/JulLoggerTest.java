@@ -1,14 +1,19 @@
 package com.databricks.jdbc.log;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.Supplier;
 import java.util.logging.*;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -24,6 +29,7 @@ public class JulLoggerTest {
   @BeforeEach
   void setUp() {
     mockLogger = Mockito.mock(Logger.class);
+    Mockito.when(mockLogger.isLoggable(Mockito.any())).thenReturn(true);
     julLogger = new JulLogger("test");
     julLogger.logger = mockLogger;
   }
@@ -102,6 +108,92 @@ public class JulLoggerTest {
             exception);
   }
 
+  @Test
+  void testDebugWithFormat() {
+    julLogger.debug("Fetched chunk {} of {}", 1, 2);
+    verify(mockLogger)
+        .logp(
+            Level.FINE,
+            "com.databricks.jdbc.log.JulLoggerTest",
+            "testDebugWithFormat",
+            "Fetched chunk 1 of 2");
+  }
+
+  @Test
+  void testDebugWithSupplier() {
+    julLogger.debug(() -> "Supplied debug message");
+    verify(mockLogger)
+        .logp(
+            Level.FINE,
+            "com.databricks.jdbc.log.JulLoggerTest",
+            "testDebugWithSupplier",
+            "Supplied debug message");
+  }
+
+  @Test
+  void testErrorWithThrowableAndFormat() {
+    Exception exception = new Exception("Test exception");
+    julLogger.error(exception, "Failed to fetch chunk {}", 3);
+    verify(mockLogger)
+        .logp(
+            Level.SEVERE,
+            "com.databricks.jdbc.log.JulLoggerTest",
+            "testErrorWithThrowableAndFormat",
+            "Failed to fetch chunk 3",
+            exception);
+  }
+
+  @Test
+  void testDisabledLevelSkipsFormatting() {
+    Mockito.when(mockLogger.isLoggable(Level.FINE)).thenReturn(false);
+    Object argument = Mockito.mock(Object.class);
+    Supplier<String> messageSupplier = Mockito.mock(Supplier.class);
+
+    julLogger.debug("Argument {}", argument);
+    julLogger.debug(messageSupplier);
+    julLogger.debug("Test debug message");
+
+    assertFalse(julLogger.isDebugEnabled());
+    verify(messageSupplier, never()).get();
+    verify(mockLogger, Mockito.atLeastOnce()).isLoggable(Level.FINE);
+    verifyNoMoreInteractions(mockLogger);
+  }
+
+  @Test
+  void testDisabledLevelsDoNotAllocate() {
+    com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+    threadBean.setThreadAllocatedMemoryEnabled(true);
+
+    Logger infoLogger = Logger.getLogger("com.databricks.jdbc.log.JulLoggerTest.allocation");
+    infoLogger.setLevel(Level.INFO);
+    JulLogger logger = new JulLogger(infoLogger.getName());
+    Object[] arguments = {"chunk", 42L};
+    Supplier<String> messageSupplier = () -> "Fetched chunk";
+    int iterations = 100_000;
+
+    // Warm up so that the measured loop runs compiled code
+    logDisabledLevels(logger, arguments, messageSupplier, iterations);
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+    logDisabledLevels(logger, arguments, messageSupplier, iterations);
+    long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    // A single allocation per call would add up to megabytes over the loop
+    assertTrue(allocatedBytes < 4096, "Disabled logging allocated " + allocatedBytes + " bytes");
+  }
+
+  private static void logDisabledLevels(
+      JulLogger logger, Object[] arguments, Supplier<String> messageSupplier, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      logger.trace("Fetched {} {}", arguments);
+      logger.debug("Fetched {} {}", arguments);
+      logger.debug(messageSupplier);
+      logger.debug("Fetched chunk");
+    }
+  }
+
   @Test
   void testInitLoggerWithStdout() throws IOException {
     JulLogger.initLogger(Level.INFO, JulLogger.STDOUT, 1024, 1);
@@ -1,10 +1,12 @@
 package com.databricks.jdbc.log;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Field;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -40,6 +42,21 @@ public class Slf4jLoggerTest {
     verify(mockLogger, times(1)).debug(message);
   }
 
+  @Test
+  public void testDebugWithSupplier() {
+    Mockito.when(mockLogger.isDebugEnabled()).thenReturn(true);
+    slf4jLogger.debug(() -> "debug message");
+    verify(mockLogger, times(1)).debug("debug message");
+  }
+
+  @Test
+  public void testDisabledTraceSkipsSupplier() {
+    Supplier<String> messageSupplier = Mockito.mock(Supplier.class);
+    slf4jLogger.trace(messageSupplier);
+    assertFalse(slf4jLogger.isTraceEnabled());
+    verify(messageSupplier, never()).get();
+  }
+
   @Test
   public void testInfo() {
     String message = "info message";
@@ -0,0 +1,126 @@
+package com.databricks.jdbc.pooling;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import java.sql.Connection;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabricksConnectionWarmerTest {
+  private static final String URL = "jdbc:databricks://sample-host.cloud.databricks.com";
+
+  @Mock DatabricksConnectionWarmer.ConnectionOpener opener;
+  @Mock Connection connection;
+
+  @Test
+  void testWarmConnectionIsReplacedWhenTaken() throws Exception {
+    Properties properties = createProperties("token");
+    when(opener.open(URL, properties)).thenReturn(connection);
+    when(connection.isValid(DatabricksConnectionWarmer.VALIDATION_TIMEOUT_SECONDS))
+        .thenReturn(true);
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+
+    warmer.warmUp(URL, properties, 2).get(5, TimeUnit.SECONDS);
+    assertEquals(2, warmer.getWarmConnectionCount());
+
+    assertSame(connection, warmer.take(URL, properties));
+    verify(opener, timeout(5000).times(3)).open(URL, properties);
+    warmer.close();
+  }
+
+  @Test
+  void testRepeatedWarmUpOnlyOpensMissingConnections() throws Exception {
+    Properties properties = createProperties("token");
+    when(opener.open(URL, properties)).thenReturn(connection);
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+
+    warmer.warmUp(URL, properties, 2).get(5, TimeUnit.SECONDS);
+    warmer.warmUp(URL, properties, 2).get(5, TimeUnit.SECONDS);
+    assertEquals(2, warmer.getWarmConnectionCount());
+    warmer.warmUp(URL, properties, 3).get(5, TimeUnit.SECONDS);
+
+    assertEquals(3, warmer.getWarmConnectionCount());
+    verify(opener, times(3)).open(URL, properties);
+    warmer.close();
+  }
+
+  @Test
+  void testWarmConnectionsAreClosedWhenSettingsChange() throws Exception {
+    Properties properties = createProperties("token");
+    when(opener.open(URL, properties)).thenReturn(connection);
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+    warmer.warmUp(URL, properties, 1).get(5, TimeUnit.SECONDS);
+
+    assertNull(warmer.take(URL, createProperties("other-token")));
+    assertEquals(0, warmer.getWarmConnectionCount());
+    verify(connection).close();
+
+    // No connections are kept warm for the previous settings anymore
+    assertNull(warmer.take(URL, properties));
+    verify(opener, times(1)).open(URL, properties);
+  }
+
+  @Test
+  void testWarmUpWithOtherSettingsClosesWarmConnections() throws Exception {
+    Properties properties = createProperties("token");
+    Properties otherProperties = createProperties("other-token");
+    Connection otherConnection = mock(Connection.class);
+    when(opener.open(URL, properties)).thenReturn(connection);
+    when(opener.open(URL, otherProperties)).thenReturn(otherConnection);
+    when(otherConnection.isValid(DatabricksConnectionWarmer.VALIDATION_TIMEOUT_SECONDS))
+        .thenReturn(true);
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+    warmer.warmUp(URL, properties, 1).get(5, TimeUnit.SECONDS);
+
+    warmer.warmUp(URL, otherProperties, 1).get(5, TimeUnit.SECONDS);
+    verify(connection).close();
+    assertEquals(1, warmer.getWarmConnectionCount());
+    assertSame(otherConnection, warmer.take(URL, otherProperties));
+    warmer.close();
+  }
+
+  @Test
+  void testInvalidWarmConnectionIsDiscarded() throws Exception {
+    Properties properties = createProperties("token");
+    when(opener.open(URL, properties)).thenReturn(connection);
+    when(connection.isValid(DatabricksConnectionWarmer.VALIDATION_TIMEOUT_SECONDS))
+        .thenReturn(false);
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+    warmer.warmUp(URL, properties, 1).get(5, TimeUnit.SECONDS);
+
+    assertNull(warmer.take(URL, properties));
+    verify(connection).close();
+    // The discarded connection is replaced
+    verify(opener, timeout(5000).times(2)).open(URL, properties);
+    warmer.close();
+  }
+
+  @Test
+  void testWarmUpFailureIsReported() throws Exception {
+    Properties properties = createProperties("token");
+    when(opener.open(URL, properties))
+        .thenThrow(new DatabricksSQLException("Invalid credentials", "28000"));
+    DatabricksConnectionWarmer warmer = new DatabricksConnectionWarmer(opener);
+
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> warmer.warmUp(URL, properties, 1).get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DatabricksSQLException.class, e.getCause());
+    assertNull(warmer.take(URL, properties));
+  }
+
+  private static Properties createProperties(String password) {
+    Properties properties = new Properties();
+    properties.setProperty("password", password);
+    return properties;
+  }
+}